@@ -0,0 +1,109 @@
+package ds.Benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ds.Graph.Graph;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+/**
+ * Benchmarks of the single operations of an undirected AdjacencyMatrix,
+ * over a range of graph sizes and edge densities.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class AdjacencyMatrixBenchmark {
+
+    //~Data Fields--------------------------------------------
+    @Param({"1000", "5000", "20000"})
+    public int vertices;
+
+    @Param({"0.001", "0.01", "0.1"})
+    public double density;
+
+    private AdjacencyMatrix<Integer, IntEdge> graph;
+
+    private SplittableRandom random;
+
+    //~Methods-------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        graph = BenchmarkGraphs.random(vertices, density, false);
+        random = new SplittableRandom(BenchmarkGraphs.SEED);
+    }
+
+    /**
+     * Adds a vertex and removes it again, so the graph stays the same size.
+     */
+    @Benchmark
+    public int addVertex() {
+
+        int index = graph.addVertex(-1);
+        graph.removeVertex(index);
+
+        return index;
+    }
+
+    /**
+     * Adds an edge between two random vertices, removing it again if it was new.
+     */
+    @Benchmark
+    public boolean addEdge() {
+
+        int index1 = random.nextInt(vertices);
+        int index2 = random.nextInt(vertices);
+
+        boolean added = graph.addEdge(index1, index2);
+        if (added) {
+            graph.removeEdge(index1, index2);
+        }
+
+        return added;
+    }
+
+    @Benchmark
+    public int findVertex() {
+
+        return graph.findVertex(random.nextInt(vertices));
+    }
+
+    @Benchmark
+    public List<Integer> getEdgesTo() {
+
+        return graph.getEdgesTo(random.nextInt(vertices));
+    }
+
+    @Benchmark
+    public List<Integer> getEdgesFrom() {
+
+        return graph.getEdgesFrom(random.nextInt(vertices));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Graph<Integer> makeCopy() {
+
+        return graph.makeCopy();
+    }
+}
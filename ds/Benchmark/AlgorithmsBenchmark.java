@@ -0,0 +1,122 @@
+package ds.Benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ds.Graph.Graph;
+import ds.GraphAlgorithms.Algorithms;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+/**
+ * Benchmarks of the graph algorithms, over a range of graph sizes and edge densities.
+ * bfs and dfs search between two random vertices of an undirected graph, topoSort runs
+ * on a random DAG, and the spanning tree runs on the undirected graph.
+ *
+ * multiSourceBfs and repeatedBfs answer the same BATCH of single source searches,
+ * one with the bit-parallel multi-source search and one with a search per source.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xss64m"})
+public class AlgorithmsBenchmark {
+
+    //~Constants----------------------------------------------
+    private static final int BATCH = 64;
+
+    //~Data Fields--------------------------------------------
+    @Param({"1000", "5000", "20000"})
+    public int vertices;
+
+    @Param({"0.001", "0.01", "0.1"})
+    public double density;
+
+    private AdjacencyMatrix<Integer, IntEdge> graph;
+
+    private AdjacencyMatrix<Integer, IntEdge> dag;
+
+    private Algorithms<Integer, IntEdge> algorithms;
+
+    private SplittableRandom random;
+
+    private int[] sources;
+
+    //~Methods-------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        graph = BenchmarkGraphs.random(vertices, density, false);
+        dag = BenchmarkGraphs.randomDag(vertices, density);
+        algorithms = new Algorithms<Integer, IntEdge>();
+        random = new SplittableRandom(BenchmarkGraphs.SEED);
+
+        sources = new int[BATCH];
+        for (int s = 0; s < BATCH; s++) {
+            sources[s] = random.nextInt(vertices);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> bfs() {
+
+        return algorithms.bfs(graph, random.nextInt(vertices), random.nextInt(vertices));
+    }
+
+    @Benchmark
+    public List<Integer> dfs() {
+
+        return algorithms.dfs(graph, random.nextInt(vertices), random.nextInt(vertices));
+    }
+
+    @Benchmark
+    public List<Integer> topoSort() {
+
+        return algorithms.topoSort(dag);
+    }
+
+    @Benchmark
+    public Graph<Integer> primMinSpanTree() {
+
+        return algorithms.primMinSpanTree(graph);
+    }
+
+    @Benchmark
+    public int[] primMinSpanForest() {
+
+        return algorithms.primMinSpanForest(graph);
+    }
+
+    @Benchmark
+    public int[][] multiSourceBfs() {
+
+        return algorithms.multiSourceBfs(graph, sources);
+    }
+
+    @Benchmark
+    public void repeatedBfs(Blackhole hole) {
+
+        for (int s = 0; s < BATCH; s++) {
+
+            hole.consume(algorithms.multiSourceBfs(graph, new int[] {sources[s]}));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ds.Benchmark;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with -rf csv, usually a baseline run made before a
+ * change and a fresh run on the same machine, and prints the change in score of every
+ * benchmark and parameter combination (gc profiler rows included) found in both.
+ *
+ * Usage: java ds.Benchmark.BenchmarkDiff baseline.csv results.csv
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public final class BenchmarkDiff {
+
+    //~Constructors--------------------------------------------
+    private BenchmarkDiff() {}
+
+    //~Methods-------------------------------------------------
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2) {
+
+            System.err.println("usage: BenchmarkDiff <baseline.csv> <results.csv>");
+            System.exit(2);
+        }
+
+        Map<String, String[]> baseline = read(args[0]);
+        Map<String, String[]> results = read(args[1]);
+
+        System.out.printf("%-90s %14s %14s %9s %s%n", "benchmark", "baseline", "current", "change", "unit");
+
+        for (Map.Entry<String, String[]> entry : results.entrySet()) {
+
+            String[] current = entry.getValue();
+            String[] before = baseline.get(entry.getKey());
+
+            double score = Double.parseDouble(current[0]);
+
+            if (before == null) {
+
+                System.out.printf("%-90s %14s %14.3f %9s %s%n", entry.getKey(), "-", score, "new", current[1]);
+            }
+            else {
+
+                double old = Double.parseDouble(before[0]);
+                System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %s%n",
+                        entry.getKey(), old, score, (score - old) / old * 100, current[1]);
+            }
+        }
+    }
+
+    /**
+     * Reads a JMH csv result file into a map from benchmark name plus parameters
+     * to {score, unit}.
+     *
+     * @param file the path of the csv file.
+     * @return the scores by benchmark, in file order.
+     */
+    private static Map<String, String[]> read(String file) throws IOException {
+
+        Map<String, String[]> scores = new LinkedHashMap<String, String[]>();
+        BufferedReader in = new BufferedReader(new FileReader(file));
+
+        try {
+
+            List<String> header = split(in.readLine());
+            int score = header.indexOf("Score");
+            int unit = header.indexOf("Unit");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+
+                List<String> cells = split(line);
+                StringBuilder key = new StringBuilder(cells.get(0));
+
+                //parameter columns come after the unit
+                for (int i = unit + 1; i < cells.size(); i++) {
+
+                    key.append(" ").append(header.get(i).replace("Param: ", "")).append("=").append(cells.get(i));
+                }
+
+                scores.put(key.toString(), new String[] {cells.get(score), cells.get(unit)});
+            }
+        }
+        finally {
+
+            in.close();
+        }
+
+        return scores;
+    }
+
+    /**
+     * Splits a csv line, dropping the quotes around cells.
+     *
+     * @param line the line to split.
+     * @return the cells of the line.
+     */
+    private static List<String> split(String line) {
+
+        List<String> cells = new ArrayList<String>();
+
+        for (String cell : line.split(",", -1)) {
+
+            cells.add(cell.replace("\"", ""));
+        }
+
+        return cells;
+    }
+}
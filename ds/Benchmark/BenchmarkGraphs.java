@@ -0,0 +1,127 @@
+package ds.Benchmark;
+
+import java.util.SplittableRandom;
+import ds.GraphAlgorithms.EdgeList;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+/**
+ * Builds the seeded, reproducible graphs the benchmarks run on.
+ * Vertex i holds the Integer i, so vertex numbers and elements line up.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+final class BenchmarkGraphs {
+
+    //~Constants----------------------------------------------
+    static final long SEED = 0x5EEDL;
+
+    //~Constructors--------------------------------------------
+    private BenchmarkGraphs() {}
+
+    //~Methods-------------------------------------------------
+    /**
+     * Makes a graph where every edge (every pair, for undirected graphs) exists with
+     * probability density, weights from 1 to 100. Leaves one spare vertex slot so
+     * adding a vertex doesn't resize.
+     *
+     * @param vertices the number of vertices.
+     * @param density the probability of each edge.
+     * @param directed whether the graph is directed.
+     * @return the graph.
+     */
+    static AdjacencyMatrix<Integer, IntEdge> random(int vertices, double density, boolean directed) {
+
+        AdjacencyMatrix<Integer, IntEdge> g = withVertices(vertices, directed);
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < vertices; i++) {
+
+            for (int j = directed ? 0 : i + 1; j < vertices; j++) {
+
+                if (random.nextDouble() < density) {
+                    g.addEdge(i, j, 1 + random.nextInt(100));
+                }
+            }
+        }
+
+        return g;
+    }
+
+    /**
+     * Makes a directed acyclic graph, every edge goes from a lower to a higher vertex number
+     * and exists with probability density.
+     *
+     * @param vertices the number of vertices.
+     * @param density the probability of each edge.
+     * @return the graph.
+     */
+    static AdjacencyMatrix<Integer, IntEdge> randomDag(int vertices, double density) {
+
+        AdjacencyMatrix<Integer, IntEdge> g = withVertices(vertices, true);
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < vertices; i++) {
+
+            for (int j = i + 1; j < vertices; j++) {
+
+                if (random.nextDouble() < density) {
+                    g.addEdge(i, j, 1 + random.nextInt(100));
+                }
+            }
+        }
+
+        return g;
+    }
+
+    /**
+     * Gives the vertices of an edge list random vertex numbers, as a graph built up
+     * by addVertex in no particular order would have.
+     *
+     * @param edges the edge list.
+     * @return the same edges between shuffled vertex numbers.
+     */
+    static EdgeList shuffled(EdgeList edges) {
+
+        int n = edges.numVertices();
+        int[] shuffle = new int[n];
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int v = 0; v < n; v++) {
+
+            int k = random.nextInt(v + 1);
+            shuffle[v] = shuffle[k];
+            shuffle[k] = v;
+        }
+
+        int[] from = new int[edges.numEdges()];
+        int[] to = new int[edges.numEdges()];
+
+        for (int e = 0; e < from.length; e++) {
+
+            from[e] = shuffle[edges.getFrom(e)];
+            to[e] = shuffle[edges.getTo(e)];
+        }
+
+        return new EdgeList(n, edges.isDirected(), from, to);
+    }
+
+    /**
+     * Makes a graph with the vertices 0 to vertices - 1 and no edges.
+     *
+     * @param vertices the number of vertices.
+     * @param directed whether the graph is directed.
+     * @return the graph.
+     */
+    private static AdjacencyMatrix<Integer, IntEdge> withVertices(int vertices, boolean directed) {
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(directed, vertices + 1);
+
+        for (int i = 0; i < vertices; i++) {
+            g.addVertex(i);
+        }
+
+        return g;
+    }
+}
@@ -0,0 +1,49 @@
+package ds.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+/**
+ * Benchmarks growing an AdjacencyMatrix from the default size to the given number
+ * of vertices, which is dominated by its resizes. Kept apart from AdjacencyMatrixBenchmark
+ * because edge density doesn't matter here.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ResizeBenchmark {
+
+    //~Data Fields--------------------------------------------
+    @Param({"1000", "5000", "20000"})
+    public int vertices;
+
+    //~Methods-------------------------------------------------
+    @Benchmark
+    public AdjacencyMatrix<Integer, IntEdge> resize() {
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true);
+
+        for (int i = 0; i < vertices; i++) {
+            g.addVertex(i);
+        }
+
+        return g;
+    }
+}
@@ -0,0 +1,171 @@
+package ds.Benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ds.GraphAlgorithms.EdgeList;
+import ds.GraphAlgorithms.GraphSnapshot;
+import ds.GraphAlgorithms.RandomGraphGenerator;
+import ds.GraphAlgorithms.VertexOrder;
+import ds.GraphAlgorithms.VertexOrder.Layout;
+
+/**
+ * Benchmarks of a breadth first search and PageRank on a snapshot before and after
+ * laying out its vertices with VertexOrder, on graphs far bigger than the caches.
+ * layout NONE runs on the vertex numbers as generated, which are shuffled for the grid,
+ * so that the grid starts out as scattered as a graph built up in no particular order.
+ *
+ * layoutCost measures working out the layout itself, which the faster searches have to pay back.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class VertexOrderBenchmark {
+
+    //~Constants----------------------------------------------
+    private static final int PAGE_RANK_ITERATIONS = 10;
+
+    private static final double DAMPING = 0.85;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * grid is a 1024 x 1024 grid, rmat an undirected R-MAT graph on 2^20 vertices
+     * with 8 edges per vertex.
+     */
+    @Param({"grid", "rmat"})
+    public String graph;
+
+    @Param({"NONE", "REVERSE_CUTHILL_MCKEE", "DEGREE", "BFS", "GORDER"})
+    public String layout;
+
+    private GraphSnapshot<Integer> original;
+
+    private GraphSnapshot<Integer> snapshot;
+
+    private int source;
+
+    private int[] queue;
+
+    private int[] distances;
+
+    private double[] ranks;
+
+    private double[] next;
+
+    //~Methods-------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        RandomGraphGenerator generator = new RandomGraphGenerator(BenchmarkGraphs.SEED);
+        EdgeList edges = "grid".equals(graph)
+                ? BenchmarkGraphs.shuffled(generator.grid(1024, 1024))
+                : generator.rmat(20, 8 << 20, 0.57, 0.19, 0.19, false);
+
+        original = GraphSnapshot.fromEdgeList(edges);
+        snapshot = original;
+
+        //the search starts from the same vertex whatever its number
+        source = 0;
+
+        if (!"NONE".equals(layout)) {
+
+            int[] mapping = VertexOrder.mapping(original, Layout.valueOf(layout));
+
+            snapshot = original.renumber(mapping);
+            source = mapping[source];
+        }
+
+        int n = snapshot.usedSlots();
+        queue = new int[n];
+        distances = new int[n];
+        ranks = new double[n];
+        next = new double[n];
+    }
+
+    @Benchmark
+    public int bfs() {
+
+        Arrays.fill(distances, -1);
+        distances[source] = 0;
+        queue[0] = source;
+        int count = 1;
+
+        for (int head = 0; head < count; head++) {
+
+            int v = queue[head];
+
+            for (int e = snapshot.edgesStart(v); e < snapshot.edgesEnd(v); e++) {
+
+                int w = snapshot.target(e);
+
+                if (distances[w] == -1) {
+
+                    distances[w] = distances[v] + 1;
+                    queue[count++] = w;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public double[] pageRank() {
+
+        int n = snapshot.usedSlots();
+        Arrays.fill(ranks, 1.0 / n);
+
+        for (int i = 0; i < PAGE_RANK_ITERATIONS; i++) {
+
+            Arrays.fill(next, (1 - DAMPING) / n);
+
+            //every vertex pushes its rank along its edges, vertices without edges keep theirs
+            for (int v = 0; v < n; v++) {
+
+                int degree = snapshot.edgesEnd(v) - snapshot.edgesStart(v);
+
+                if (degree == 0) {
+
+                    next[v] += DAMPING * ranks[v];
+                    continue;
+                }
+
+                double share = DAMPING * ranks[v] / degree;
+
+                for (int e = snapshot.edgesStart(v); e < snapshot.edgesEnd(v); e++) {
+
+                    next[snapshot.target(e)] += share;
+                }
+            }
+
+            double[] temp = ranks;
+            ranks = next;
+            next = temp;
+        }
+
+        return ranks;
+    }
+
+    @Benchmark
+    public int[] layoutCost() {
+
+        return "NONE".equals(layout) ? null : VertexOrder.mapping(original, Layout.valueOf(layout));
+    }
+}
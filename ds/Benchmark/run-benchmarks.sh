@@ -0,0 +1,36 @@
+#!/bin/sh
+# Compiles the library and the JMH benchmarks, then runs them with the gc profiler.
+#
+# usage: ds/Benchmark/run-benchmarks.sh <results.csv> [extra JMH arguments]
+#   e.g. ds/Benchmark/run-benchmarks.sh ds/Benchmark/results.csv AlgorithmsBenchmark -p vertices=1000
+#
+# JMH_CLASSPATH must hold jmh-core, jmh-generator-annprocess and their dependencies
+# (jopt-simple, commons-math3). The library also needs ds.TheHeap and ds.Tuple on
+# LIB_CLASSPATH (or on the source path) for Algorithms to compile.
+#
+# No baseline is committed, timings only compare on the same machine. Make one by running
+# the benchmarks before a change, on the machine the later runs will use:
+#   ds/Benchmark/run-benchmarks.sh ds/Benchmark/baseline.csv [same JMH arguments]
+# then compare a run after the change against it with
+#   java -cp <out> ds.Benchmark.BenchmarkDiff ds/Benchmark/baseline.csv <results.csv>
+set -e
+
+if [ -z "$1" ]; then
+    echo "usage: $0 <results.csv> [extra JMH arguments]" >&2
+    exit 2
+fi
+
+RESULTS="$1"
+shift
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+OUT="${OUT:-$ROOT/bench-classes}"
+CP="$JMH_CLASSPATH${LIB_CLASSPATH:+:$LIB_CLASSPATH}"
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+
+find "$ROOT/ds" -name '*.java' -not -path '*/Test/*' > "$OUT/sources.txt"
+javac -cp "$CP" -d "$OUT" @"$OUT/sources.txt"
+
+java -cp "$OUT:$CP" org.openjdk.jmh.Main -prof gc -rf csv -rff "$RESULTS" "$@"
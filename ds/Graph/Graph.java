@@ -81,6 +81,28 @@ public interface Graph<T> {
      * @return true if the edge exists, false otherwise.
      */
     public boolean removeEdge(T element1, T element2);
+    /**
+     * Tells the number of edges from the vertex holding element.
+     * In an undirected graph this is the number of edges at the vertex.
+     * 
+     * @param element the element to count the edges from.
+     * @return the number of edges from element, -1 if it isn't in the graph.
+     */
+    public int outDegree(T element);
+    /**
+     * Tells the number of edges to the vertex holding element.
+     * In an undirected graph this is the same as outDegree.
+     * 
+     * @param element the element to count the edges to.
+     * @return the number of edges to element, -1 if it isn't in the graph.
+     */
+    public int inDegree(T element);
+    /**
+     * Tells the number of edges in the graph, an undirected edge counts once.
+     * 
+     * @return the number of edges in the graph.
+     */
+    public int numEdges();
     /**
      * Tells the size of the graph (that is, the number of vertices).
      * 
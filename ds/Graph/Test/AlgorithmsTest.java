@@ -5,7 +5,14 @@ import java.util.List;
 import org.junit.Test;
 import ds.Graph.Graph;
 import ds.GraphAlgorithms.Algorithms;
+import ds.GraphAlgorithms.ReachabilityIndex;
+import ds.GraphAlgorithms.TransitiveClosure;
+import ds.GraphMetrics.CounterInstrumentation;
+import ds.GraphMetrics.Instrumentation;
+import ds.GraphMetrics.InstrumentationSnapshot;
 import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.DoubleWeightedMatrix;
+import ds.TheAdjacencyMatrix.LongWeightedMatrix;
 import ds.TheAdjacencyMatrix.IntEdge;
 
 
@@ -155,4 +162,182 @@ public class AlgorithmsTest {
         
         assertNotNull(ia.topoSort(ig));
     }
+    
+    @Test
+    public void transitiveClosureTest() {
+        
+        System.out.println("TRANSITIVE CLOSURE TEST");
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>(true);
+        
+        g.addVertex("magician");
+        g.addVertex("stuck");
+        g.addVertex("buck");
+        g.addVertex("muck");
+        g.addVertex("struck");
+        g.addVertex("block");
+        
+        //magician -> stuck <-> struck -> buck, muck -> block
+        g.addEdge("magician", "stuck");
+        g.addEdge("stuck", "struck");
+        g.addEdge("struck", "stuck");
+        g.addEdge("struck", "buck");
+        g.addEdge("muck", "block");
+        
+        TransitiveClosure<String, IntEdge> tc = new TransitiveClosure<String, IntEdge>();
+        ReachabilityIndex index = tc.build(g);
+        
+        assertEquals(5, index.numComponents());
+        assertEquals(index.getComponent(1), index.getComponent(4));
+        
+        assertTrue(index.canReach(0, 2));
+        assertTrue(index.canReach(4, 1));
+        assertTrue(index.canReach(3, 5));
+        assertTrue(index.canReach(2, 2));
+        assertFalse(index.canReach(2, 0));
+        assertFalse(index.canReach(0, 5));
+        assertFalse(index.canReach(5, 3));
+        assertFalse(index.canReach(0, 9));
+        assertFalse(index.canReach(0, 25));
+    }
+    
+    @Test
+    public void multiSourceBfsTest() {
+        
+        System.out.println("MULTI SOURCE BFS TEST");
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true, 100);
+        
+        for (int i = 0; i < 100; i++) {
+            g.addVertex(i);
+        }
+        
+        //a ring with a few shortcuts
+        for (int i = 0; i < 100; i++) {
+            g.addEdge(i, (i + 1) % 100);
+        }
+        g.addEdge(10, 50);
+        g.addEdge(60, 5);
+        
+        int[] sources = new int[70];
+        for (int s = 0; s < sources.length; s++) {
+            sources[s] = s;
+        }
+        
+        Algorithms<Integer, IntEdge> a = new Algorithms<Integer, IntEdge>();
+        int[][] distances = a.multiSourceBfs(g, sources);
+        
+        for (int s = 0; s < sources.length; s++) {
+            
+            for (int v = 0; v < 100; v += 7) {
+                
+                assertEquals(a.bfs(g, s, v).size() - 1, distances[s][v]);
+            }
+        }
+        
+        assertEquals(0, distances[3][3]);
+        assertEquals(2, distances[9][50]);
+    }
+    
+    @Test
+    public void primitiveWeightsTest() {
+        
+        System.out.println("PRIMITIVE WEIGHTS TEST");
+        DoubleWeightedMatrix<String> g = new DoubleWeightedMatrix<String>(true);
+        
+        g.addVertex("magician");
+        g.addVertex("stuck");
+        g.addVertex("buck");
+        g.addVertex("muck");
+        
+        assertTrue(g.addEdge("magician", "stuck", 0.0));
+        assertTrue(g.addEdge("stuck", "buck", 2.5));
+        assertTrue(g.addEdge("magician", "buck", 3.0));
+        assertTrue(g.addEdge("buck", "muck", 0.25));
+        assertFalse(g.addEdge("magician", "stuck", 1.0));
+        
+        //a 0 weight edge is still an edge
+        assertTrue(g.hasEdge(0, 1));
+        assertFalse(g.hasEdge(1, 0));
+        assertEquals(1, g.getEdgesTo("magician").indexOf("buck"));
+        
+        Algorithms<String, IntEdge> a = new Algorithms<String, IntEdge>();
+        int[] previous = new int[g.usedSlots()];
+        double[] distances = a.shortestPaths(g, 0, previous);
+        
+        assertEquals(0.0, distances[1], 0.0);
+        assertEquals(2.5, distances[2], 0.0);
+        assertEquals(2.75, distances[3], 0.0);
+        assertEquals(1, previous[2]);
+        assertNull(a.primMinSpanForest(g));
+        
+        System.out.println(g.printEdges());
+        
+        LongWeightedMatrix<String> u = new LongWeightedMatrix<String>(false);
+        
+        u.addVertex("magician");
+        u.addVertex("stuck");
+        u.addVertex("buck");
+        u.addVertex("muck");
+        u.addVertex("block");
+        
+        u.addEdge("magician", "stuck", 4L);
+        u.addEdge("stuck", "buck", 1L);
+        u.addEdge("magician", "buck", 2L);
+        u.addEdge("buck", "muck", 7L);
+        
+        int[] parents = a.primMinSpanForest(u);
+        
+        assertEquals(-1, parents[0]);
+        assertEquals(2, parents[1]);
+        assertEquals(0, parents[2]);
+        assertEquals(2, parents[3]);
+        assertEquals(-1, parents[4]);
+        assertEquals(7L, u.popEdge(3, 2));
+        assertFalse(u.hasEdge(2, 3));
+    }
+    
+    @Test
+    public void instrumentationTest() {
+        
+        System.out.println("INSTRUMENTATION TEST");
+        Graph<String> g = new AdjacencyMatrix<String, IntEdge>(true);
+        
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        
+        Algorithms<String, IntEdge> a = new Algorithms<String, IntEdge>();
+        CounterInstrumentation counters = new CounterInstrumentation();
+        
+        Instrumentation.install(counters);
+        try {
+            
+            assertNotNull(a.bfs(g, "a", "c"));
+            assertNotNull(a.bfs(g, "a", "c"));
+        }
+        finally {
+            
+            Instrumentation.uninstall();
+        }
+        
+        //nothing is counted once uninstalled
+        a.bfs(g, "a", "c");
+        
+        InstrumentationSnapshot snapshot = counters.snapshot();
+        System.out.println(snapshot.toText());
+        
+        assertEquals(2, snapshot.getCalls("bfs"));
+        assertEquals(0, snapshot.getCalls("dfs"));
+        assertEquals(6, snapshot.getVerticesVisited());
+        assertEquals(4, snapshot.getEdgesRelaxed());
+        //getEdgesTo looks up "a" and "b" by element each time
+        assertEquals(4, snapshot.getVertexLookups());
+        assertTrue(snapshot.getCellsScanned() > 0);
+        assertTrue(snapshot.toJson().startsWith("{\"vertexLookups\":4,"));
+        assertTrue(snapshot.toJson().contains("\"bfs\":{\"calls\":2,"));
+        
+        counters.reset();
+        assertEquals(0, counters.snapshot().getCalls("bfs"));
+    }
 }
@@ -0,0 +1,96 @@
+package ds.Graph.Test;
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.TheAdjacencyMatrix.AtomicIntWeightedMatrix;
+
+public class AtomicIntWeightedMatrixTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    @Test
+    public void testAtomicUpdates() {
+        
+        System.out.println("TEST ATOMIC UPDATES--------------------------");
+        AtomicIntWeightedMatrix<String> matrix = new AtomicIntWeightedMatrix<String>(false);
+        
+        matrix.addVertex("a");
+        matrix.addVertex("b");
+        matrix.addVertex("c");
+        
+        assertTrue(matrix.addEdge(0, 1, 5));
+        
+        //both directions of an undirected edge share one weight, and every update moves the version on
+        long version = matrix.version();
+        assertTrue(matrix.compareAndSetWeight(1, 0, 5, 7));
+        assertTrue(matrix.version() > version);
+        version = matrix.version();
+        assertFalse(matrix.compareAndSetWeight(0, 1, 5, 9));
+        assertEquals(version, matrix.version());
+        assertEquals(7, matrix.getWeight(0, 1));
+        assertEquals(10, matrix.addAndGetWeight(0, 1, 3));
+        assertTrue(matrix.version() > version);
+        version = matrix.version();
+        assertEquals(12, matrix.accumulateWeight(1, 0, 12, Math::max));
+        assertTrue(matrix.version() > version);
+        assertEquals(12, matrix.getWeight(1, 0));
+        
+        //edges that don't exist are left alone
+        version = matrix.version();
+        assertFalse(matrix.compareAndSetWeight(0, 2, 0, 1));
+        assertEquals(0, matrix.addAndGetWeight(0, 2, 4));
+        assertFalse(matrix.hasEdge(0, 2));
+        assertFalse(matrix.compareAndSetWeight(0, 5, 0, 1));
+        assertEquals(version, matrix.version());
+        
+        matrix.removeVertex("a");
+        matrix.addEdge(1, 2, 3);
+        matrix.compact();
+        assertEquals(3, matrix.getWeight(1, 0));
+        assertEquals(3, matrix.addAndGetWeight(0, 1, 0));
+    }
+    
+    @Test
+    public void testConcurrentIncrements() throws Exception {
+        
+        System.out.println("TEST CONCURRENT INCREMENTS--------------------------");
+        final AtomicIntWeightedMatrix<Integer> matrix = new AtomicIntWeightedMatrix<Integer>(true);
+        
+        for (int i = 0; i < 4; i++) {
+            matrix.addVertex(i);
+        }
+        matrix.addEdge(0, 1, 0);
+        matrix.addEdge(2, 3, 0);
+        
+        List<Thread> threads = new ArrayList<Thread>();
+        
+        for (int t = 0; t < 4; t++) {
+            
+            threads.add(new Thread(new Runnable() {
+                public void run() {
+                    
+                    for (int i = 0; i < 10000; i++) {
+                        
+                        matrix.addAndGetWeight(0, 1, 1);
+                        
+                        int weight;
+                        do {
+                            weight = matrix.getWeight(2, 3);
+                        } while (!matrix.compareAndSetWeight(2, 3, weight, weight + 2));
+                    }
+                }
+            }));
+        }
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(40000, matrix.getWeight(0, 1));
+        assertEquals(80000, matrix.getWeight(2, 3));
+        assertEquals(0, matrix.getWeight(1, 0));
+    }
+}
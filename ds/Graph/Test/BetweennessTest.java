@@ -0,0 +1,247 @@
+package ds.Graph.Test;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.Betweenness;
+import ds.GraphAlgorithms.GraphSnapshot;
+import ds.GraphAlgorithms.RandomGraphGenerator;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class BetweennessTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Works out betweenness from its definition: all pairs shortest paths with Floyd-Warshall,
+     * and the number of shortest paths between every pair, counted in order of distance.
+     */
+    private double[] definition(AdjacencyMatrix<Integer, IntEdge> g, boolean weighted) {
+
+        int n = g.usedSlots();
+        double[][] distance = new double[n][n];
+
+        for (int i = 0; i < n; i++) {
+
+            for (int j = 0; j < n; j++) {
+
+                boolean edge = i != j && g.getVertex(i) != null && g.getVertex(j) != null && g.hasEdge(i, j);
+                distance[i][j] = i == j ? 0 : edge ? (weighted ? g.weightOf(i, j) : 1) : Double.POSITIVE_INFINITY;
+            }
+        }
+
+        for (int k = 0; k < n; k++) {
+
+            for (int i = 0; i < n; i++) {
+
+                for (int j = 0; j < n; j++) {
+
+                    distance[i][j] = Math.min(distance[i][j], distance[i][k] + distance[k][j]);
+                }
+            }
+        }
+
+        //paths[s][t], adding up over the last edge of each shortest path
+        double[][] paths = new double[n][n];
+        for (int s = 0; s < n; s++) {
+
+            paths[s][s] = 1;
+
+            Integer[] byDistance = new Integer[n];
+            for (int v = 0; v < n; v++) {
+                byDistance[v] = v;
+            }
+
+            final double[] from = distance[s];
+            java.util.Arrays.sort(byDistance, (a, b) -> Double.compare(from[a], from[b]));
+
+            for (int t : byDistance) {
+
+                for (int u = 0; u < n && t != s; u++) {
+
+                    if (u != t && g.getVertex(u) != null && g.getVertex(t) != null && g.hasEdge(u, t)
+                            && from[u] + (weighted ? g.weightOf(u, t) : 1) == from[t]) {
+
+                        paths[s][t] += paths[s][u];
+                    }
+                }
+            }
+        }
+
+        double[] centrality = new double[n];
+        for (int s = 0; s < n; s++) {
+
+            for (int t = 0; t < n; t++) {
+
+                for (int v = 0; v < n && s != t && paths[s][t] > 0; v++) {
+
+                    if (v != s && v != t && distance[s][v] + distance[v][t] == distance[s][t]) {
+                        centrality[v] += paths[s][v] * paths[v][t] / paths[s][t];
+                    }
+                }
+            }
+        }
+
+        for (int v = 0; v < n && !g.isDirected(); v++) {
+
+            centrality[v] /= 2;
+        }
+
+        return centrality;
+    }
+
+    private AdjacencyMatrix<Integer, IntEdge> random(Random random, boolean directed) {
+
+        int n = 2 + random.nextInt(25);
+        double p = random.nextDouble() * 0.5;
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(directed, n);
+
+        for (int i = 0; i < n; i++) {
+
+            g.addVertex(i);
+        }
+
+        for (int i = 0; i < n; i++) {
+
+            for (int j = 0; j < n; j++) {
+
+                //few different weights, so there are many ties
+                if (random.nextDouble() < p) {
+                    g.addEdge(i, j, 1 + random.nextInt(3));
+                }
+            }
+        }
+
+        if (n > 3) {
+            g.removeVertex(Integer.valueOf(n / 2));
+        }
+
+        return g;
+    }
+
+    private void assertClose(double[] expected, double[] actual) {
+
+        assertEquals(expected.length, actual.length);
+
+        for (int v = 0; v < expected.length; v++) {
+
+            assertEquals(expected[v], actual[v], 1e-9 * Math.max(1, expected[v]));
+        }
+    }
+
+    @Test
+    public void testPathAndStar() {
+
+        System.out.println("TEST PATH AND STAR---");
+
+        //on a path 0 - 1 - 2 - 3 - 4 the middle vertex is between the 2 * 2 pairs on either side of it
+        AdjacencyMatrix<Integer, IntEdge> path = new AdjacencyMatrix<Integer, IntEdge>(false, 5);
+        for (int i = 0; i < 5; i++) {
+
+            path.addVertex(i);
+        }
+        for (int i = 0; i < 4; i++) {
+
+            path.addEdge(i, i + 1, 1);
+        }
+
+        double[] centrality = Betweenness.exact(path, false, 1);
+        assertClose(new double[] {0, 3, 4, 3, 0}, centrality);
+
+        //the center of a star is between every pair of leaves
+        AdjacencyMatrix<Integer, IntEdge> star = new AdjacencyMatrix<Integer, IntEdge>(true, 6);
+        for (int i = 0; i < 6; i++) {
+
+            star.addVertex(i);
+        }
+        for (int i = 1; i < 6; i++) {
+
+            star.addEdge(0, i, 1);
+            star.addEdge(i, 0, 1);
+        }
+
+        assertEquals(20, Betweenness.exact(star, false, 2)[0], 1e-9);
+    }
+
+    @Test
+    public void testWeighted() {
+
+        System.out.println("TEST WEIGHTED---");
+
+        //the direct edge 0 - 2 is longer than going through 1
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(false, 3);
+        for (int i = 0; i < 3; i++) {
+
+            g.addVertex(i);
+        }
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(0, 2, 5);
+
+        assertEquals(0, Betweenness.exact(g, false, 1)[1], 0);
+        assertEquals(1, Betweenness.exact(g, true, 1)[1], 0);
+    }
+
+    @Test
+    public void testMatchesDefinition() {
+
+        System.out.println("TEST MATCHES DEFINITION---");
+
+        Random random = new Random(41);
+
+        for (int round = 0; round < 80; round++) {
+
+            AdjacencyMatrix<Integer, IntEdge> g = random(random, round % 2 == 0);
+            boolean weighted = round % 4 < 2;
+            double[] expected = definition(g, weighted);
+
+            assertClose(expected, Betweenness.exact(g, weighted, 1));
+            assertClose(expected, Betweenness.exact(GraphSnapshot.fromMatrix(g), weighted, 3));
+        }
+    }
+
+    @Test
+    public void testThreadsAgree() {
+
+        System.out.println("TEST THREADS AGREE---");
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(false, 300);
+        new RandomGraphGenerator(42).barabasiAlbert(300, 2).writeTo(g);
+
+        double[] one = Betweenness.exact(g, false, 1);
+        double[] four = Betweenness.exact(g, false, 4);
+
+        assertClose(one, four);
+    }
+
+    @Test
+    public void testApproximate() {
+
+        System.out.println("TEST APPROXIMATE---");
+
+        GraphSnapshot<Integer> g = GraphSnapshot.fromEdgeList(new RandomGraphGenerator(43).barabasiAlbert(2000, 3));
+        int n = g.size();
+
+        double epsilon = 0.1;
+        double delta = 0.01;
+        long samples = Betweenness.samples(n, epsilon, delta);
+        assertTrue(samples < n);
+
+        double[] exact = Betweenness.exact(g, false, 2);
+        double[] estimate = Betweenness.approximate(g, false, epsilon, delta, 44, 2);
+        double bound = epsilon * n * (n - 2) / 2;
+
+        for (int v = 0; v < n; v++) {
+
+            assertTrue(Math.abs(exact[v] - estimate[v]) <= bound);
+        }
+
+        //the same seed gives the same sample
+        assertClose(estimate, Betweenness.approximate(g, false, epsilon, delta, 44, 1));
+
+        //asking for too little error searches from every vertex
+        assertClose(exact, Betweenness.approximate(g, false, 0.001, delta, 44, 2));
+
+        assertNull(Betweenness.approximate(g, false, 0, delta, 44, 1));
+        assertNull(Betweenness.approximate(g, false, epsilon, 1, 44, 1));
+    }
+}
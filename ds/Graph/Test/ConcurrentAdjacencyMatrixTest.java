@@ -0,0 +1,152 @@
+package ds.Graph.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.ConcurrentAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+/**
+ * Runs the AdjacencyMatrix tests against the concurrent matrix,
+ * then hammers it from several threads at once.
+ */
+public class ConcurrentAdjacencyMatrixTest extends TheAdjacencyMatrixTest {
+
+    //~Methods-------------------------------------------------
+    @Override
+    protected AdjacencyMatrixInterface<String, IntEdge> makeMatrix(boolean directed) {
+        
+        return new ConcurrentAdjacencyMatrix<String, IntEdge>(directed);
+    }
+    
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        
+        System.out.println("TEST CONCURRENT WRITERS--------------------------");
+        final ConcurrentAdjacencyMatrix<Integer, IntEdge> matrix = 
+                new ConcurrentAdjacencyMatrix<Integer, IntEdge>(false, 4);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final int numThreads = 4;
+        final int perThread = 50;
+        
+        List<Thread> threads = new ArrayList<Thread>();
+        
+        //each writer adds its own vertices, forcing resizes, and a chain of edges between them.
+        //the vertex numbers interleave, so the edges go by element
+        for (int t = 0; t < numThreads; t++) {
+            
+            final int base = t * perThread;
+            threads.add(new Thread(new Runnable() {
+                public void run() {
+                    
+                    for (int i = 0; i < perThread; i++) {
+                        
+                        matrix.addVertex(base + i);
+                        
+                        if (i > 0 && !matrix.addEdge(Integer.valueOf(base + i - 1), Integer.valueOf(base + i), i)) {
+                            failed.set(true);
+                        }
+                    }
+                }
+            }));
+        }
+        
+        //a reader that keeps looking while the writers run
+        threads.add(new Thread(new Runnable() {
+            public void run() {
+                
+                for (int i = 0; i < 2000; i++) {
+                    
+                    int edge = matrix.getEdge(i % 50, (i + 1) % 50);
+                    if (edge < -1) {
+                        failed.set(true);
+                    }
+                    matrix.getEdgesTo(Integer.valueOf(i % 200));
+                }
+            }
+        }));
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertFalse(failed.get());
+        assertEquals(numThreads * perThread, matrix.size());
+        assertEquals(numThreads * (perThread - 1), matrix.numEdges());
+        
+        for (int t = 0; t < numThreads; t++) {
+            
+            int base = t * perThread;
+            
+            for (int i = 1; i < perThread; i++) {
+                
+                int from = matrix.findVertex(base + i - 1);
+                int to = matrix.findVertex(base + i);
+                
+                assertEquals(i, matrix.getEdge(from, to));
+                assertEquals(i, matrix.getEdge(to, from));
+            }
+            
+            assertEquals(1, matrix.outDegree(Integer.valueOf(base)));
+            assertEquals(2, matrix.outDegree(Integer.valueOf(base + 1)));
+        }
+    }
+    
+    @Test
+    public void testStripedEdgeWrites() throws Exception {
+        
+        System.out.println("TEST STRIPED EDGE WRITES--------------------------");
+        final ConcurrentAdjacencyMatrix<Integer, IntEdge> matrix = 
+                new ConcurrentAdjacencyMatrix<Integer, IntEdge>(true, 64);
+        
+        for (int i = 0; i < 64; i++) {
+            matrix.addVertex(i);
+        }
+        
+        List<Thread> threads = new ArrayList<Thread>();
+        
+        //every thread adds and removes the same edges, the degrees have to come out even
+        for (int t = 0; t < 4; t++) {
+            
+            threads.add(new Thread(new Runnable() {
+                public void run() {
+                    
+                    for (int round = 0; round < 20; round++) {
+                        
+                        for (int i = 0; i < 64; i++) {
+                            
+                            matrix.addEdge(i, (i * 7 + round) % 64);
+                            matrix.removeEdge(i, (i * 7 + round) % 64);
+                        }
+                    }
+                }
+            }));
+        }
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(0, matrix.numEdges());
+        
+        for (int i = 0; i < 64; i++) {
+            
+            assertEquals(0, matrix.outDegree(i));
+            assertEquals(0, matrix.inDegree(i));
+        }
+        
+        assertTrue(matrix.addEdge(3, 9, 5));
+        ConcurrentAdjacencyMatrix<Integer, IntEdge> copy = matrix.makeCopy();
+        assertTrue(matrix.removeEdge(3, 9));
+        assertEquals(5, copy.getEdge(3, 9));
+        assertEquals(1, copy.numEdges());
+        assertEquals(0, matrix.numEdges());
+    }
+}
@@ -0,0 +1,275 @@
+package ds.Graph.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.DynamicConnectivity;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.LongWeightedMatrix;
+import ds.TheAdjacencyMatrix.MatrixListener;
+import ds.TheAdjacencyMatrix.TiledAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.TriangularAdjacencyMatrix;
+
+public class DynamicConnectivityTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Works out which vertex numbers are connected by searching the graph.
+     */
+    private int[] labels(AbstractAdjacencyMatrix<Integer> g) {
+        
+        int n = g.usedSlots();
+        int[] label = new int[n];
+        java.util.Arrays.fill(label, -1);
+        
+        for (int s = 0; s < n; s++) {
+            
+            if (label[s] != -1 || g.getVertex(s) == null) {
+                continue;
+            }
+            
+            List<Integer> stack = new ArrayList<Integer>();
+            stack.add(s);
+            label[s] = s;
+            
+            while (!stack.isEmpty()) {
+                
+                int v = stack.remove(stack.size() - 1);
+                
+                for (int w = 0; w < n; w++) {
+                    
+                    if (label[w] == -1 && g.getVertex(w) != null && g.hasEdge(v, w)) {
+                        
+                        label[w] = s;
+                        stack.add(w);
+                    }
+                }
+            }
+        }
+        
+        return label;
+    }
+    
+    private void assertMatches(AbstractAdjacencyMatrix<Integer> g, DynamicConnectivity<Integer> connectivity) {
+        
+        int[] label = labels(g);
+        int components = 0;
+        
+        for (int i = 0; i < label.length; i++) {
+            
+            if (label[i] == i) {
+                components++;
+            }
+            
+            for (int j = 0; j < label.length; j++) {
+                
+                assertEquals(label[i] != -1 && label[i] == label[j], connectivity.connected(i, j));
+            }
+        }
+        
+        assertEquals(components, connectivity.numComponents());
+    }
+    
+    private void fuzz(AbstractAdjacencyMatrix<Integer> g, long seed) {
+        
+        Random random = new Random(seed);
+        
+        for (int i = 0; i < 12; i++) {
+            g.addVertex(i);
+        }
+        
+        DynamicConnectivity<Integer> connectivity = DynamicConnectivity.of(g);
+        int nextElement = 12;
+        
+        for (int step = 0; step < 600; step++) {
+            
+            int n = g.usedSlots();
+            int from = random.nextInt(n);
+            int to = random.nextInt(n);
+            int action = random.nextInt(20);
+            
+            //edges at vertex numbers with no vertex would connect through them, stay off them
+            if (action < 9 && g.getVertex(from) != null && g.getVertex(to) != null) {
+                g.addEdge(from, to);
+            }
+            else if (action < 18) {
+                g.removeEdge(from, to);
+            }
+            else if (action == 18) {
+                g.removeVertex(from);
+            }
+            else {
+                g.addVertex(nextElement++);
+            }
+            
+            if (step % 150 == 149) {
+                g.compact();
+            }
+            
+            assertMatches(g, connectivity);
+        }
+    }
+    
+    @Test
+    public void testAgainstSearch() {
+        
+        System.out.println("TEST DYNAMIC CONNECTIVITY AGAINST SEARCH--------------------------");
+        fuzz(new AdjacencyMatrix<Integer, IntEdge>(false, 4), 1);
+        fuzz(new TriangularAdjacencyMatrix<Integer, IntEdge>(4), 2);
+        fuzz(new TiledAdjacencyMatrix<Integer, IntEdge>(false, 4), 3);
+        fuzz(new LongWeightedMatrix<Integer>(false, 4), 4);
+    }
+    
+    @Test
+    public void testGrowing() {
+        
+        System.out.println("TEST DYNAMIC CONNECTIVITY GROWING--------------------------");
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(false);
+        DynamicConnectivity<Integer> connectivity = DynamicConnectivity.of(g);
+        
+        //past the default capacity, before anything else asks about the new vertices
+        for (int i = 0; i < 11; i++) {
+            g.addVertex(i);
+        }
+        
+        assertEquals(11, connectivity.numComponents());
+        
+        g.addEdge(0, 10);
+        assertEquals(10, connectivity.numComponents());
+        assertMatches(g, connectivity);
+    }
+    
+    @Test
+    public void testGrowingCut() {
+        
+        System.out.println("TEST DYNAMIC CONNECTIVITY GROWING CUT--------------------------");
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(false);
+        DynamicConnectivity<Integer> connectivity = DynamicConnectivity.of(g);
+        
+        for (int i = 0; i < 11; i++) {
+            g.addVertex(i);
+        }
+        
+        //cutting a tree edge searches every vertex number, past the old capacity too
+        g.addEdge(0, 1);
+        assertTrue(g.removeEdge(0, 1));
+        assertFalse(g.hasEdge(0, 1));
+        
+        assertFalse(connectivity.connected(0, 1));
+        assertEquals(11, connectivity.numComponents());
+        assertMatches(g, connectivity);
+    }
+    
+    @Test
+    public void testTiledRemoveVertex() {
+        
+        System.out.println("TEST DYNAMIC CONNECTIVITY TILED REMOVE VERTEX--------------------------");
+        TiledAdjacencyMatrix<Integer, IntEdge> g = new TiledAdjacencyMatrix<Integer, IntEdge>(false, 5);
+        
+        for (int i = 0; i < 5; i++) {
+            g.addVertex(i);
+        }
+        
+        DynamicConnectivity<Integer> connectivity = DynamicConnectivity.of(g);
+        
+        g.addEdge(1, 3);
+        g.addEdge(1, 0);
+        g.addEdge(1, 4);
+        g.addEdge(2, 3);
+        g.addEdge(1, 2);
+        
+        //the replacement searches while 1's edges go mustn't pick up edges already gone
+        g.removeVertex(Integer.valueOf(1));
+        assertEquals(1, g.addVertex(5));
+        
+        assertFalse(connectivity.connected(1, 3));
+        assertMatches(g, connectivity);
+    }
+    
+    @Test
+    public void testTiledCompact() {
+        
+        System.out.println("TEST DYNAMIC CONNECTIVITY TILED COMPACT--------------------------");
+        TiledAdjacencyMatrix<Integer, IntEdge> g = new TiledAdjacencyMatrix<Integer, IntEdge>(false, 6);
+        
+        for (int i = 0; i < 6; i++) {
+            g.addVertex(i);
+        }
+        
+        g.addEdge(1, 2);
+        g.addEdge(4, 5);
+        g.removeVertex(Integer.valueOf(0));
+        g.removeVertex(Integer.valueOf(3));
+        
+        DynamicConnectivity<Integer> connectivity = DynamicConnectivity.of(g);
+        final int[] changes = new int[1];
+        
+        g.addListener(new MatrixListener() {
+            
+            public void edgeAdded(int fromVertex, int toVertex) {
+                changes[0]++;
+            }
+            
+            public void edgeRemoved(int fromVertex, int toVertex) {
+                changes[0]++;
+            }
+            
+            public void verticesRelabeled(int[] mapping) {}
+        });
+        
+        //moving the edges to new numbers adds and removes none
+        g.compact();
+        assertEquals(0, changes[0]);
+        assertEquals(2, g.numEdges());
+        assertTrue(g.hasEdge(0, 1));
+        assertTrue(g.hasEdge(2, 3));
+        
+        assertEquals(2, connectivity.numComponents());
+        assertFalse(connectivity.connected(1, 2));
+        assertMatches(g, connectivity);
+    }
+    
+    @Test
+    public void testReplacementEdge() {
+        
+        System.out.println("TEST REPLACEMENT EDGE--------------------------");
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>(false);
+        
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addVertex("d");
+        
+        DynamicConnectivity<String> connectivity = DynamicConnectivity.of(g);
+        
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "a");
+        
+        assertTrue(connectivity.connected("a", "c"));
+        assertFalse(connectivity.connected("a", "d"));
+        assertEquals(3, connectivity.componentSize(0));
+        assertEquals(2, connectivity.numComponents());
+        
+        //the cycle keeps them together whichever edge goes
+        g.removeEdge("a", "b");
+        assertTrue(connectivity.connected("a", "b"));
+        g.removeEdge("b", "c");
+        assertFalse(connectivity.connected("a", "b"));
+        assertTrue(connectivity.connected("a", "c"));
+        
+        g.removeVertex("c");
+        assertFalse(connectivity.connected("a", "c"));
+        assertEquals(-1, connectivity.componentOf(2));
+        assertEquals(3, connectivity.numComponents());
+        
+        connectivity.detach();
+        g.addEdge("a", "d");
+        assertFalse(connectivity.connected("a", "d"));
+        
+        assertNull(DynamicConnectivity.of(new AdjacencyMatrix<String, IntEdge>(true)));
+    }
+}
@@ -0,0 +1,124 @@
+package ds.Graph.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.DynamicTopologicalOrder;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class DynamicTopologicalOrderTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Checks that every edge of the graph goes forward in the order.
+     */
+    private void assertOrdered(DynamicTopologicalOrder<Integer, IntEdge> order) {
+        
+        AdjacencyMatrix<Integer, IntEdge> g = (AdjacencyMatrix<Integer, IntEdge>) order.getGraph();
+        
+        for (int i = 0; i < g.usedSlots(); i++) {
+            
+            for (int j = 0; j < g.usedSlots(); j++) {
+                
+                if (g.getVertex(i) != null && g.getVertex(j) != null && g.hasEdge(i, j)) {
+                    assertTrue(order.position(i) < order.position(j));
+                }
+            }
+        }
+        
+        assertEquals(g.size(), order.getOrder().size());
+    }
+    
+    @Test
+    public void testReorderAndReject() {
+        
+        System.out.println("TEST REORDER AND REJECT--------------------------");
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>(true);
+        
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addVertex("d");
+        g.addEdge("a", "b");
+        
+        DynamicTopologicalOrder<String, IntEdge> order = DynamicTopologicalOrder.of(g);
+        
+        assertTrue(order.precedes("a", "b"));
+        
+        //d before a moves d, and nothing after it that d doesn't reach
+        assertTrue(order.addEdge("c", "d"));
+        assertTrue(order.addEdge("d", "a"));
+        assertTrue(order.precedes("d", "a"));
+        assertTrue(order.precedes("c", "d"));
+        assertEquals(Arrays.asList("c", "d", "a", "b"), order.getOrder());
+        assertNull(order.getCycle());
+        
+        //b to c would close c, d, a, b
+        assertFalse(order.addEdge("b", "c"));
+        assertEquals(Arrays.asList("c", "d", "a", "b"), order.getCycle());
+        assertFalse(g.hasEdge(1, 2));
+        
+        assertFalse(order.addEdge("a", "a"));
+        assertEquals(Arrays.asList("a"), order.getCycle());
+        assertFalse(order.addEdge("a", "zebra"));
+        assertNull(order.getCycle());
+        
+        //removing an edge lets it through again
+        assertTrue(order.removeEdge("d", "a"));
+        assertTrue(order.addEdge("b", "c"));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), order.getOrder());
+        
+        assertNull(DynamicTopologicalOrder.of(new AdjacencyMatrix<String, IntEdge>(false)));
+        g.addEdge("d", "a");
+        assertNull(DynamicTopologicalOrder.of(g));
+    }
+    
+    @Test
+    public void testRandomInserts() {
+        
+        System.out.println("TEST RANDOM INSERTS--------------------------");
+        Random random = new Random(44);
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true, 4);
+        DynamicTopologicalOrder<Integer, IntEdge> order = DynamicTopologicalOrder.of(g);
+        
+        for (int i = 0; i < 60; i++) {
+            order.addVertex(i);
+        }
+        
+        for (int step = 0; step < 1500; step++) {
+            
+            int from = random.nextInt(60);
+            int to = random.nextInt(60);
+            boolean existed = g.hasEdge(from, to);
+            
+            //vertex numbers of removed vertices are handed to new elements, so numbers go by slot
+            
+            if (order.addEdge(from, to, 1)) {
+                
+                assertFalse(existed);
+            }
+            else if (order.getCycle() != null) {
+                
+                //a rejected edge has a path back from its to vertex to its from vertex
+                List<Integer> cycle = order.getCycle();
+                assertEquals(g.getVertex(to), cycle.get(0));
+                assertEquals(g.getVertex(from), cycle.get(cycle.size() - 1));
+                
+                for (int k = 1; k < cycle.size(); k++) {
+                    assertTrue(g.hasEdge(g.findVertex(cycle.get(k - 1)), g.findVertex(cycle.get(k))));
+                }
+            }
+            
+            if (step % 100 == 99) {
+                
+                order.removeVertex(random.nextInt(60));
+                order.addVertex(60 + step);
+                assertOrdered(order);
+            }
+        }
+        
+        assertOrdered(order);
+    }
+}
@@ -0,0 +1,94 @@
+package ds.Graph.Test;
+
+import static org.junit.Assert.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import ds.GraphExport.GraphExporter;
+import ds.GraphExport.GraphExporter.Format;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.DoubleWeightedMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class GraphExporterTest {
+
+    //~Methods-------------------------------------------------
+    private static AdjacencyMatrix<String, IntEdge> makeGraph(boolean directed) {
+
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>(directed);
+
+        g.addVertex("a");
+        g.addVertex("b \"quoted\"");
+        g.addVertex("c<d>");
+        g.addVertex("gone");
+        g.removeVertex(3);
+
+        g.addEdge(0, 1, 4);
+        g.addEdge(2, 0, 7);
+        g.addEdge(1, 2, 1);
+
+        return g;
+    }
+
+    @Test
+    public void testEdgeList() throws IOException {
+
+        StringBuilder out = new StringBuilder();
+        GraphExporter.export(Format.EDGE_LIST, makeGraph(true), out);
+        assertEquals("0\t1\t4\n1\t2\t1\n2\t0\t7\n", out.toString());
+
+        //undirected edges are written once, from the lower vertex number
+        out = new StringBuilder();
+        GraphExporter.export(Format.EDGE_LIST, makeGraph(false), out);
+        assertEquals("0\t1\t4\n0\t2\t7\n1\t2\t1\n", out.toString());
+
+        //row ranges split the edges between them
+        StringBuilder first = new StringBuilder();
+        StringBuilder second = new StringBuilder();
+        GraphExporter.export(Format.EDGE_LIST, makeGraph(false), 0, 1, first);
+        GraphExporter.export(Format.EDGE_LIST, makeGraph(false), 1, 100, second);
+        assertEquals(out.toString(), first.toString() + second.toString());
+    }
+
+    @Test
+    public void testDot() throws IOException {
+
+        StringBuilder out = new StringBuilder();
+        GraphExporter.export(Format.DOT, makeGraph(true), out);
+
+        assertEquals("digraph G {\n"
+                + "  0 [label=\"a\"];\n"
+                + "  1 [label=\"b \\\"quoted\\\"\"];\n"
+                + "  2 [label=\"c<d>\"];\n"
+                + "  0 -> 1 [weight=4];\n"
+                + "  1 -> 2 [weight=1];\n"
+                + "  2 -> 0 [weight=7];\n"
+                + "}\n", out.toString());
+
+        DoubleWeightedMatrix<String> weighted = new DoubleWeightedMatrix<String>(false);
+        weighted.addVertex("x");
+        weighted.addVertex("y");
+        weighted.addEdge(0, 1, 0.5);
+
+        out = new StringBuilder();
+        GraphExporter.export(Format.DOT, weighted, out);
+        assertTrue(out.toString().startsWith("graph G {\n"));
+        assertTrue(out.toString().contains("  0 -- 1 [weight=0.5];\n"));
+    }
+
+    @Test
+    public void testGraphMlToChannel() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GraphExporter.export(Format.GRAPHML, makeGraph(true), 0, 3, Channels.newChannel(bytes));
+        String xml = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+
+        assertTrue(xml.contains("edgedefault=\"directed\""));
+        assertTrue(xml.contains("<node id=\"n2\"><data key=\"label\">c&lt;d&gt;</data></node>"));
+        assertTrue(xml.contains("<edge source=\"n2\" target=\"n0\"><data key=\"weight\">7</data></edge>"));
+        assertFalse(xml.contains("gone"));
+        assertTrue(xml.endsWith("</graphml>\n"));
+    }
+}
@@ -0,0 +1,243 @@
+package ds.Graph.Test;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.HungarianAssignment;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class HungarianAssignmentTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Finds the least total cost by trying every assignment of the rows to different columns.
+     */
+    private double bruteForce(double[][] costs, int row, boolean[] taken) {
+
+        if (row == costs.length) {
+            return 0;
+        }
+
+        double best = Double.POSITIVE_INFINITY;
+
+        for (int j = 0; j < costs[row].length; j++) {
+
+            if (!taken[j]) {
+
+                taken[j] = true;
+                best = Math.min(best, costs[row][j] + bruteForce(costs, row + 1, taken));
+                taken[j] = false;
+            }
+        }
+
+        return best;
+    }
+
+    private double[][] transpose(double[][] costs) {
+
+        double[][] transpose = new double[costs[0].length][costs.length];
+
+        for (int i = 0; i < costs.length; i++) {
+
+            for (int j = 0; j < costs[0].length; j++) {
+
+                transpose[j][i] = costs[i][j];
+            }
+        }
+
+        return transpose;
+    }
+
+    /**
+     * Checks that match is an assignment of costs with the given total.
+     */
+    private void assertAssignment(double[][] costs, int[] match, double total) {
+
+        int rows = costs.length;
+        int cols = costs[0].length;
+        boolean[] taken = new boolean[cols];
+        int matched = 0;
+        double sum = 0;
+
+        assertEquals(rows, match.length);
+
+        for (int i = 0; i < rows; i++) {
+
+            if (match[i] == -1) {
+                continue;
+            }
+
+            assertFalse(taken[match[i]]);
+            taken[match[i]] = true;
+            sum += costs[i][match[i]];
+            matched++;
+        }
+
+        assertEquals(Math.min(rows, cols), matched);
+        assertEquals(total, sum, 1e-9);
+    }
+
+    @Test
+    public void testSmall() {
+
+        System.out.println("TEST SMALL---");
+
+        HungarianAssignment solver = new HungarianAssignment();
+        double[][] costs = {
+            {4, 1, 3},
+            {2, 0, 5},
+            {3, 2, 2}
+        };
+
+        int[] match = solver.solve(costs);
+
+        assertEquals(5, solver.cost(), 0);
+        assertEquals(1, match[0]);
+        assertEquals(0, match[1]);
+        assertEquals(2, match[2]);
+
+        assertNull(solver.solve(new double[0][]));
+        assertTrue(Double.isNaN(solver.cost()));
+    }
+
+    @Test
+    public void testRandom() {
+
+        System.out.println("TEST RANDOM---");
+
+        //one solver for all of them, so its scratch arrays get reused at every size
+        HungarianAssignment solver = new HungarianAssignment();
+        Random random = new Random(31);
+
+        for (int round = 0; round < 300; round++) {
+
+            int rows = 1 + random.nextInt(7);
+            int cols = 1 + random.nextInt(7);
+            double[][] costs = new double[rows][cols];
+
+            for (int i = 0; i < rows; i++) {
+
+                for (int j = 0; j < cols; j++) {
+
+                    costs[i][j] = round % 3 == 0 ? random.nextInt(5) - 2 : random.nextDouble() * 100;
+                }
+            }
+
+            double best = rows <= cols
+                    ? bruteForce(costs, 0, new boolean[cols])
+                    : bruteForce(transpose(costs), 0, new boolean[rows]);
+
+            int[] match = solver.solve(costs);
+
+            assertEquals(best, solver.cost(), 1e-9);
+            assertAssignment(costs, match, best);
+        }
+    }
+
+    @Test
+    public void testForbiddenPairs() {
+
+        System.out.println("TEST FORBIDDEN PAIRS---");
+
+        HungarianAssignment solver = new HungarianAssignment();
+        double inf = Double.POSITIVE_INFINITY;
+
+        //the cheap pairs can't all be used at once
+        double[][] costs = {
+            {1, inf, inf},
+            {1, 10, inf},
+            {inf, 1, 7}
+        };
+
+        int[] match = solver.solve(costs);
+        assertEquals(1 + 10 + 7, solver.cost(), 0);
+        assertAssignment(costs, match, 18);
+
+        //the first two rows both need column 0
+        assertNull(solver.solve(new double[][] {{1, inf}, {2, inf}}));
+    }
+
+    @Test
+    public void testMatrix() {
+
+        System.out.println("TEST MATRIX---");
+
+        //workers 0 to 3 and tasks 4 to 6, a worker can only do the tasks it has an edge to
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true, 7);
+
+        for (int i = 0; i < 7; i++) {
+
+            g.addVertex(i);
+        }
+
+        g.addEdge(0, 4, 9);
+        g.addEdge(0, 5, 2);
+        g.addEdge(1, 4, 3);
+        g.addEdge(1, 6, 8);
+        g.addEdge(2, 5, 4);
+        g.addEdge(2, 6, 4);
+        g.addEdge(3, 6, 1);
+
+        HungarianAssignment solver = new HungarianAssignment();
+        int[] workers = {0, 1, 2, 3};
+        int[] tasks = {4, 5, 6};
+
+        //more workers than tasks, one worker goes without
+        int[] match = solver.solve(g, workers, tasks);
+
+        assertEquals(2 + 3 + 1, solver.cost(), 0);
+        assertEquals(5, match[0]);
+        assertEquals(4, match[1]);
+        assertEquals(-1, match[2]);
+        assertEquals(6, match[3]);
+
+        //tasks to workers, the edges go the other way
+        assertNull(solver.solve(g, tasks, workers));
+
+        //without worker 3 there's still a full assignment of the tasks
+        match = solver.solve(g, new int[] {0, 1, 2}, tasks);
+        assertEquals(2 + 3 + 4, solver.cost(), 0);
+        assertEquals(6, match[2]);
+
+        //without worker 1, and with 0 no longer able to, nobody can do task 4
+        g.removeEdge(0, 4);
+        assertNull(solver.solve(g, new int[] {0, 2, 3}, tasks));
+    }
+
+    @Test
+    public void testLarge() {
+
+        System.out.println("TEST LARGE---");
+
+        //a diagonal of zeros hidden in a shuffled matrix of positive costs
+        int n = 400;
+        Random random = new Random(32);
+        int[] hidden = new int[n];
+
+        for (int i = 0; i < n; i++) {
+
+            int k = random.nextInt(i + 1);
+            hidden[i] = hidden[k];
+            hidden[k] = i;
+        }
+
+        double[][] costs = new double[n][n];
+        for (int i = 0; i < n; i++) {
+
+            for (int j = 0; j < n; j++) {
+
+                costs[i][j] = j == hidden[i] ? 0 : 1 + random.nextInt(1000);
+            }
+        }
+
+        HungarianAssignment solver = new HungarianAssignment();
+        int[] match = solver.solve(costs);
+
+        assertEquals(0, solver.cost(), 0);
+
+        for (int i = 0; i < n; i++) {
+
+            assertEquals(hidden[i], match[i]);
+        }
+    }
+}
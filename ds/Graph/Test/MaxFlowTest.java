@@ -0,0 +1,207 @@
+package ds.Graph.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.GraphSnapshot;
+import ds.GraphAlgorithms.MaxFlow;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.DoubleWeightedMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class MaxFlowTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    /**
+     * The network from Introduction to Algorithms, whose maximum flow is 23.
+     */
+    private AdjacencyMatrix<Integer, IntEdge> textbook() {
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true, 6);
+
+        for (int i = 0; i < 6; i++) {
+
+            g.addVertex(i);
+        }
+
+        g.addEdge(0, 1, 16);
+        g.addEdge(0, 2, 13);
+        g.addEdge(1, 3, 12);
+        g.addEdge(2, 1, 4);
+        g.addEdge(2, 4, 14);
+        g.addEdge(3, 2, 9);
+        g.addEdge(3, 5, 20);
+        g.addEdge(4, 3, 7);
+        g.addEdge(4, 5, 4);
+
+        return g;
+    }
+
+    /**
+     * Checks that flow is a valid flow of its value, that the cut is full,
+     * and that its capacity is the value.
+     */
+    private void assertValid(MaxFlow<Integer> flow, int source, int sink) {
+
+        GraphSnapshot<Integer> g = flow.getSnapshot();
+        double[] net = new double[g.usedSlots()];
+        double cut = 0;
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                int w = g.target(e);
+                double f = flow.edgeFlow(e);
+
+                assertTrue(f >= -1e-9 && f <= Math.max(g.weight(e), 0) + 1e-9);
+                assertEquals(f, flow.flow(v, w), 0);
+
+                net[v] -= f;
+                net[w] += f;
+
+                if (flow.isOnSourceSide(v) && !flow.isOnSourceSide(w)) {
+
+                    assertEquals(g.weight(e), f, 1e-9);
+                    cut += g.weight(e);
+                }
+                if (!flow.isOnSourceSide(v) && flow.isOnSourceSide(w) && v != w) {
+                    assertEquals(0, f, 1e-9);
+                }
+            }
+        }
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            if (v == source) {
+                assertEquals(-flow.value(), net[v], 1e-9);
+            }
+            else if (v == sink) {
+                assertEquals(flow.value(), net[v], 1e-9);
+            }
+            else {
+                assertEquals(0, net[v], 1e-9);
+            }
+        }
+
+        assertTrue(flow.isOnSourceSide(source));
+        assertFalse(flow.isOnSourceSide(sink));
+        assertEquals(flow.value(), cut, 1e-9);
+    }
+
+    @Test
+    public void testTextbook() {
+
+        System.out.println("TEST TEXTBOOK---");
+
+        AdjacencyMatrix<Integer, IntEdge> g = textbook();
+        MaxFlow<Integer> pushRelabel = MaxFlow.pushRelabel(g, 0, 5);
+        MaxFlow<Integer> dinic = MaxFlow.dinic(g, 0, 5);
+
+        assertEquals(23, pushRelabel.value(), 0);
+        assertEquals(23, dinic.value(), 0);
+        assertValid(pushRelabel, 0, 5);
+        assertValid(dinic, 0, 5);
+
+        //the cut is {0, 1, 2, 4} to {3, 5}
+        List<Integer> side = dinic.getSourceSide();
+        assertEquals(4, side.size());
+        assertFalse(side.contains(3));
+        assertEquals(3, dinic.getCutEdges().size());
+        assertEquals(dinic.getSourceSide(), pushRelabel.getSourceSide());
+
+        assertEquals(0, dinic.flow(0, 5), 0);
+        assertEquals(23, dinic.flow(3, 5) + dinic.flow(4, 5), 0);
+        assertEquals(dinic.flow(3, 5), dinic.flow(Integer.valueOf(3), Integer.valueOf(5)), 0);
+    }
+
+    @Test
+    public void testInvalid() {
+
+        System.out.println("TEST INVALID---");
+
+        AdjacencyMatrix<Integer, IntEdge> g = textbook();
+
+        assertNull(MaxFlow.pushRelabel(g, 0, 0));
+        assertNull(MaxFlow.dinic(g, 0, 6));
+        assertNull(MaxFlow.dinic(g, -1, 5));
+
+        g.removeVertex(Integer.valueOf(5));
+        assertNull(MaxFlow.pushRelabel(g, 0, 5));
+
+        AdjacencyMatrix<Integer, IntEdge> undirected = new AdjacencyMatrix<Integer, IntEdge>(false, 2);
+        undirected.addVertex(0);
+        undirected.addVertex(1);
+        undirected.addEdge(0, 1, 3);
+
+        assertNull(MaxFlow.pushRelabel(undirected, 0, 1));
+        assertNull(MaxFlow.dinic(undirected, 0, 1));
+    }
+
+    @Test
+    public void testNoPath() {
+
+        System.out.println("TEST NO PATH---");
+
+        AdjacencyMatrix<Integer, IntEdge> g = textbook();
+        g.removeEdge(3, 5);
+        g.removeEdge(4, 5);
+
+        for (MaxFlow<Integer> flow : Arrays.asList(MaxFlow.pushRelabel(g, 0, 5), MaxFlow.dinic(g, 0, 5))) {
+
+            assertEquals(0, flow.value(), 0);
+            assertEquals(5, flow.getSourceSide().size());
+            assertTrue(flow.getCutEdges().isEmpty());
+            assertValid(flow, 0, 5);
+        }
+    }
+
+    @Test
+    public void testRandom() {
+
+        System.out.println("TEST RANDOM---");
+
+        Random random = new Random(21);
+
+        for (int round = 0; round < 60; round++) {
+
+            int n = 2 + random.nextInt(40);
+            double p = random.nextDouble();
+            DoubleWeightedMatrix<Integer> g = new DoubleWeightedMatrix<Integer>(true, n);
+
+            for (int i = 0; i < n; i++) {
+
+                g.addVertex(i);
+            }
+
+            for (int i = 0; i < n; i++) {
+
+                for (int j = 0; j < n; j++) {
+
+                    if (random.nextDouble() < p) {
+
+                        //whole capacities, and some fractions, zeros and self loops
+                        double capacity = round % 2 == 0 ? random.nextInt(10) : random.nextDouble() * 5;
+                        g.addEdge(i, j, capacity);
+                    }
+                }
+            }
+
+            //vertices removed from the middle leave holes in the vertex numbers
+            if (n > 4) {
+                g.removeVertex(Integer.valueOf(n / 2));
+            }
+
+            int source = 0;
+            int sink = n - 1;
+
+            MaxFlow<Integer> pushRelabel = MaxFlow.pushRelabel(g, source, sink);
+            MaxFlow<Integer> dinic = MaxFlow.dinic(g, source, sink);
+
+            assertEquals(pushRelabel.value(), dinic.value(), 1e-9);
+            assertValid(pushRelabel, source, sink);
+            assertValid(dinic, source, sink);
+        }
+    }
+}
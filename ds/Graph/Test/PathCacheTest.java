@@ -0,0 +1,146 @@
+package ds.Graph.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.PathCache;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.LongWeightedMatrix;
+
+public class PathCacheTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    @Test
+    public void testHitsAndInvalidation() {
+        
+        System.out.println("TEST HITS AND INVALIDATION--------------------------");
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>(true);
+        
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addEdge("a", "b", 1);
+        g.addEdge("b", "c", 1);
+        g.addEdge("a", "c", 5);
+        
+        PathCache<String, IntEdge> cache = new PathCache<String, IntEdge>(g, 10);
+        
+        assertEquals(Arrays.asList("a", "c"), cache.bfs("a", "c"));
+        assertEquals(Arrays.asList("a", "c"), cache.bfs("a", "c"));
+        assertEquals(Arrays.asList("a", "b", "c"), cache.shortestPath("a", "c"));
+        assertNull(cache.bfs("c", "a"));
+        assertFalse(cache.isReachable("c", "a"));
+        
+        assertEquals(2, cache.hits());
+        assertEquals(3, cache.misses());
+        assertEquals(3, cache.size());
+        assertTrue(cache.estimatedBytes() > 0);
+        assertEquals(0.4, cache.hitRatio(), 1e-9);
+        
+        //any change to the graph drops every answer
+        long version = g.version();
+        g.addEdge("c", "a");
+        assertTrue(g.version() > version);
+        
+        assertTrue(cache.isReachable("c", "a"));
+        assertEquals(1, cache.size());
+        assertEquals(4, cache.misses());
+        
+        //so does a new weight on an edge that stays
+        g.addEdge(0, 2, new IntEdge(1));
+        assertEquals(Arrays.asList("a", "c"), cache.shortestPath("a", "c"));
+        assertEquals(5, cache.misses());
+    }
+    
+    @Test
+    public void testEviction() {
+        
+        System.out.println("TEST EVICTION--------------------------");
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(false);
+        
+        for (int i = 0; i < 5; i++) {
+            
+            g.addVertex(i);
+            if (i > 0) {
+                g.addEdge(i - 1, i);
+            }
+        }
+        
+        PathCache<Integer, IntEdge> cache = new PathCache<Integer, IntEdge>(g, 2);
+        
+        cache.bfs(0, 4);
+        cache.bfs(1, 4);
+        cache.bfs(0, 4);
+        
+        //(1, 4) is the least recently used, so it goes first
+        cache.bfs(2, 4);
+        assertEquals(1, cache.evictions());
+        assertEquals(2, cache.size());
+        
+        cache.bfs(0, 4);
+        assertEquals(2, cache.hits());
+        cache.bfs(1, 4);
+        assertEquals(4, cache.misses());
+        
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.estimatedBytes());
+        
+        //weight changes move the primitive matrices on too
+        LongWeightedMatrix<Integer> weights = new LongWeightedMatrix<Integer>(false);
+        weights.addVertex(0);
+        weights.addVertex(1);
+        weights.addEdge(0, 1, 2L);
+        
+        long version = weights.version();
+        weights.setWeight(0, 1, 3L);
+        assertTrue(weights.version() > version);
+    }
+    
+    @Test
+    public void testSharedLoads() throws Exception {
+        
+        System.out.println("TEST SHARED LOADS--------------------------");
+        final AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true, 300);
+        
+        for (int i = 0; i < 300; i++) {
+            
+            g.addVertex(i);
+            if (i > 0) {
+                g.addEdge(i - 1, i);
+            }
+        }
+        
+        final PathCache<Integer, IntEdge> cache = new PathCache<Integer, IntEdge>(g, 2);
+        List<Thread> threads = new ArrayList<Thread>();
+        
+        for (int t = 0; t < 4; t++) {
+            
+            threads.add(new Thread(new Runnable() {
+                public void run() {
+                    
+                    for (int i = 0; i < 20; i++) {
+                        
+                        assertEquals(300, cache.bfs(0, 299).size());
+                        assertEquals(2, cache.dfs(i, i + 1).size());
+                    }
+                }
+            }));
+        }
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        //every query either ran a search, shared one, or hit
+        assertEquals(160, cache.hits() + cache.misses() + cache.sharedLoads());
+        assertTrue(cache.size() <= 2);
+        assertTrue(cache.evictions() > 0);
+        System.out.println(cache);
+    }
+}
@@ -0,0 +1,175 @@
+package ds.Graph.Test;
+
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import ds.GraphAlgorithms.Algorithms;
+import ds.GraphAlgorithms.GraphSnapshot;
+import ds.GraphAlgorithms.QueryExecutor;
+import ds.GraphAlgorithms.QueryStats;
+import ds.GraphAlgorithms.RandomGraphGenerator;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class QueryExecutorTest {
+
+    //~Methods-------------------------------------------------
+    private static AdjacencyMatrix<Integer, IntEdge> makeGraph(int n, double p) {
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(true, n);
+        new RandomGraphGenerator(11).erdosRenyi(n, p, true).writeTo(g);
+
+        //give the edges different weights
+        for (int i = 0; i < n; i++) {
+
+            for (int j = 0; j < n; j++) {
+
+                if (g.hasEdge(i, j)) {
+
+                    g.popEdge(i, j);
+                    g.addEdge(i, j, 1 + (i * 31 + j * 17) % 9);
+                }
+            }
+        }
+
+        return g;
+    }
+
+    @Test
+    public void testMatchesAlgorithms() throws Exception {
+
+        AdjacencyMatrix<Integer, IntEdge> g = makeGraph(200, 0.02);
+        GraphSnapshot<Integer> snapshot = GraphSnapshot.fromMatrix(g);
+        QueryExecutor<Integer> executor = new QueryExecutor<Integer>(snapshot, 4);
+        Algorithms<Integer, IntEdge> a = new Algorithms<Integer, IntEdge>();
+
+        List<Future<List<Integer>>> bfs = new ArrayList<Future<List<Integer>>>();
+        List<Future<List<Integer>>> dfs = new ArrayList<Future<List<Integer>>>();
+        List<Future<List<Integer>>> paths = new ArrayList<Future<List<Integer>>>();
+
+        for (int t = 0; t < 100; t++) {
+
+            bfs.add(executor.bfs(t, 199 - t, 0, TimeUnit.SECONDS));
+            dfs.add(executor.dfs(t, 199 - t, 10, TimeUnit.SECONDS));
+            paths.add(executor.shortestPath(t, 199 - t, 10, TimeUnit.SECONDS));
+        }
+
+        for (int t = 0; t < 100; t++) {
+
+            assertEquals(a.bfs(g, t, 199 - t), bfs.get(t).get());
+
+            double[] distances = a.shortestPaths(g, t, null);
+            List<Integer> path = paths.get(t).get();
+            List<Integer> anyPath = dfs.get(t).get();
+
+            if (distances[199 - t] == Double.POSITIVE_INFINITY) {
+
+                assertNull(path);
+                assertNull(anyPath);
+                continue;
+            }
+
+            double weight = 0;
+            for (int i = 0; i + 1 < path.size(); i++) {
+
+                assertTrue(g.hasEdge(path.get(i), path.get(i + 1)));
+                weight += g.getEdge(path.get(i), path.get(i + 1));
+            }
+            assertEquals(distances[199 - t], weight, 0);
+
+            assertEquals(Integer.valueOf(t), anyPath.get(0));
+            assertEquals(Integer.valueOf(199 - t), anyPath.get(anyPath.size() - 1));
+            for (int i = 0; i + 1 < anyPath.size(); i++) {
+
+                assertTrue(g.hasEdge(anyPath.get(i), anyPath.get(i + 1)));
+            }
+        }
+
+        assertNull(executor.bfs(-5, 3, 0, TimeUnit.SECONDS).get());
+
+        GraphSnapshot<Integer> generic = GraphSnapshot.fromGraph(g);
+        assertEquals(snapshot.numStoredEdges(), generic.numStoredEdges());
+        assertEquals(snapshot.size(), generic.size());
+
+        QueryStats stats = executor.getStats();
+        System.out.println(stats);
+        assertEquals(301, stats.getCompleted());
+        assertEquals(0, stats.getTimedOut());
+        assertTrue(stats.getP50Nanos() <= stats.getP99Nanos());
+        assertTrue(stats.getThroughput() > 0);
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+
+        GraphSnapshot<Integer> snapshot = GraphSnapshot.fromMatrix(makeGraph(600, 0.05));
+        QueryExecutor<Integer> executor = new QueryExecutor<Integer>(snapshot, 1);
+
+        //a nanosecond is over before the query starts
+        Future<List<Integer>> late = executor.shortestPath(0, 599, 1, TimeUnit.NANOSECONDS);
+
+        try {
+
+            late.get();
+            fail("expected the query to time out");
+        }
+        catch (ExecutionException e) {
+
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+
+        assertNotNull(executor.bfs(0, 599, 10, TimeUnit.SECONDS).get());
+        assertEquals(1, executor.getStats().getTimedOut());
+
+        executor.resetStats();
+        assertEquals(0, executor.getStats().getCompleted());
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void testDeadlineWhileWaiting() throws Exception {
+
+        GraphSnapshot<Integer> snapshot = GraphSnapshot.fromMatrix(makeGraph(100, 0.05));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        QueryExecutor<Integer> executor = new QueryExecutor<Integer>(snapshot, pool);
+
+        //keep the only thread busy, so the query waits in the queue past its deadline
+        CountDownLatch release = new CountDownLatch(1);
+        pool.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        Future<List<Integer>> waiting = executor.bfs(0, 99, 50, TimeUnit.MILLISECONDS);
+
+        try {
+
+            waiting.get(10, TimeUnit.SECONDS);
+            fail("expected the query to time out");
+        }
+        catch (ExecutionException e) {
+
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+
+        release.countDown();
+
+        assertNotNull(executor.bfs(0, 99, 10, TimeUnit.SECONDS).get());
+        assertEquals(1, executor.getStats().getTimedOut());
+        assertEquals(1, executor.getStats().getCompleted());
+
+        executor.shutdown();
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,167 @@
+package ds.Graph.Test;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import ds.GraphAlgorithms.EdgeList;
+import ds.GraphAlgorithms.RandomGraphGenerator;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.ConcurrentAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+
+public class RandomGraphGeneratorTest {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Tells whether two edge lists hold the same edges in the same order.
+     */
+    private static boolean sameEdges(EdgeList a, EdgeList b) {
+
+        if (a.numEdges() != b.numEdges()) {
+            return false;
+        }
+
+        for (int e = 0; e < a.numEdges(); e++) {
+
+            if (a.getFrom(e) != b.getFrom(e) || a.getTo(e) != b.getTo(e)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Test
+    public void testErdosRenyi() {
+
+        RandomGraphGenerator gen = new RandomGraphGenerator(42);
+
+        EdgeList directed = gen.erdosRenyi(1000, 0.01, true);
+        assertTrue(sameEdges(directed, new RandomGraphGenerator(42).erdosRenyi(1000, 0.01, true)));
+        assertFalse(sameEdges(directed, new RandomGraphGenerator(43).erdosRenyi(1000, 0.01, true)));
+
+        //expected 9990 edges, standard deviation about 100
+        assertTrue(Math.abs(directed.numEdges() - 9990) < 500);
+        for (int e = 0; e < directed.numEdges(); e++) {
+
+            assertTrue(directed.getFrom(e) != directed.getTo(e));
+        }
+
+        EdgeList undirected = gen.erdosRenyi(1000, 0.01, false);
+        assertTrue(Math.abs(undirected.numEdges() - 4995) < 400);
+        for (int e = 0; e < undirected.numEdges(); e++) {
+
+            assertTrue(undirected.getTo(e) < undirected.getFrom(e));
+        }
+
+        assertEquals(90, gen.erdosRenyi(10, 1, true).numEdges());
+        assertEquals(45, gen.erdosRenyi(10, 1, false).numEdges());
+        assertEquals(0, gen.erdosRenyi(10, 0, true).numEdges());
+        assertNull(gen.erdosRenyi(10, 1.5, true));
+    }
+
+    @Test
+    public void testRmat() {
+
+        RandomGraphGenerator gen = new RandomGraphGenerator(7);
+
+        EdgeList rmat = gen.rmat(10, 200000, 0.57, 0.19, 0.19, true);
+        assertEquals(1024, rmat.numVertices());
+        assertEquals(200000, rmat.numEdges());
+        assertTrue(sameEdges(rmat, new RandomGraphGenerator(7).rmat(10, 200000, 0.57, 0.19, 0.19, true)));
+
+        //vertex 0 sits in the top left quadrant at every level, so it has far more edges
+        int[] degree = new int[rmat.numVertices()];
+        for (int e = 0; e < rmat.numEdges(); e++) {
+
+            degree[rmat.getFrom(e)]++;
+        }
+        assertTrue(degree[0] > 10 * degree[1023]);
+
+        assertNull(gen.rmat(10, 100, 0.5, 0.5, 0.5, true));
+    }
+
+    @Test
+    public void testBarabasiAlbert() {
+
+        EdgeList ba = new RandomGraphGenerator(1).barabasiAlbert(500, 3);
+
+        assertEquals(500, ba.numVertices());
+        assertEquals(497 * 3, ba.numEdges());
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(500);
+        ba.writeTo(g);
+
+        //every vertex past 3 brought 3 edges to different earlier vertices
+        for (int v = 4; v < 500; v++) {
+
+            int earlier = 0;
+            for (Integer w : g.getEdgesTo(v)) {
+
+                if (w < v) {
+                    earlier++;
+                }
+            }
+            assertEquals(3, earlier);
+        }
+
+        assertNull(new RandomGraphGenerator(1).barabasiAlbert(3, 3));
+    }
+
+    @Test
+    public void testGrid() {
+
+        EdgeList grid = new RandomGraphGenerator(0).grid(3, 4);
+
+        assertEquals(12, grid.numVertices());
+        assertEquals(3 * 3 + 2 * 4, grid.numEdges());
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>();
+        int[] numbers = grid.writeTo(g);
+
+        assertEquals(12, g.size());
+        assertEquals(2, g.getEdgesTo(0).size());
+        assertEquals(4, g.getEdgesTo(5).size());
+        assertEquals(0, g.getEdge(numbers[3], numbers[4]));
+        assertEquals(1, g.getEdge(numbers[4], numbers[8]));
+
+        //matrices that aren't an AbstractAdjacencyMatrix are filled by vertex number too
+        ConcurrentAdjacencyMatrix<Integer, IntEdge> concurrent = new ConcurrentAdjacencyMatrix<Integer, IntEdge>(false, 4);
+        numbers = grid.writeTo(concurrent);
+
+        assertNotNull(numbers);
+        assertEquals(grid.numEdges(), concurrent.numEdges());
+        assertEquals(1, concurrent.getEdge(numbers[4], numbers[8]));
+        assertEquals(0, concurrent.getEdge(numbers[3], numbers[4]));
+    }
+
+    @Test
+    public void testMakeGraphRandom() {
+
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>();
+
+        for (int i = 0; i < 8; i++) {
+
+            g.addVertex("v" + i);
+        }
+        g.removeVertex(3);
+        g.makeGraphRandom(5);
+
+        int present = 0;
+        for (int i = 0; i < 8; i++) {
+
+            for (int j = 0; j < 8; j++) {
+
+                assertEquals(g.getEdge(i, j), g.getEdge(j, i));
+                if (g.getEdge(i, j) != 0) {
+                    present++;
+                }
+            }
+        }
+
+        //no edges touch the removed vertex or slots past the vertices
+        assertTrue(g.getEdgesTo("v2").size() <= 7);
+        assertEquals(0, g.getEdge(3, 0));
+        assertEquals(0, g.getEdge(9, 9));
+        assertTrue(present > 0 && present < 49);
+    }
+}
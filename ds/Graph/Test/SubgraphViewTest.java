@@ -0,0 +1,112 @@
+package ds.Graph.Test;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.junit.Test;
+import ds.Graph.Graph;
+import ds.GraphAlgorithms.Algorithms;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.SubgraphView;
+
+public class SubgraphViewTest {
+
+    //~Methods-------------------------------------------------
+    /**
+     * a -1-> b -1-> d, a -5-> c -1-> d, d -2-> e
+     */
+    private static AdjacencyMatrix<String, IntEdge> makeGraph() {
+
+        AdjacencyMatrix<String, IntEdge> g = new AdjacencyMatrix<String, IntEdge>(true);
+
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addVertex("d");
+        g.addVertex("e");
+
+        g.addEdge("a", "b", 1);
+        g.addEdge("b", "d", 1);
+        g.addEdge("a", "c", 5);
+        g.addEdge("c", "d", 1);
+        g.addEdge("d", "e", 2);
+
+        return g;
+    }
+
+    @Test
+    public void testVertexFilter() {
+
+        AdjacencyMatrix<String, IntEdge> g = makeGraph();
+        BitSet active = new BitSet();
+        active.set(0, 5);
+        active.clear(1);
+
+        SubgraphView<String> view = new SubgraphView<String>(g, active, null);
+        Algorithms<String, IntEdge> a = new Algorithms<String, IntEdge>();
+
+        assertEquals(4, view.size());
+        assertEquals(Arrays.asList("a", "c", "d", "e"), view.getVertices());
+        assertEquals(Arrays.asList("a", "c", "d", "e"), a.bfs(view, "a", "e"));
+        assertEquals(Arrays.asList("c"), view.getEdgesTo("a"));
+        assertEquals(1, view.inDegree("d"));
+        assertEquals(-1, view.inDegree("b"));
+        assertEquals(3, view.numEdges());
+        assertEquals(Arrays.asList("a", "c", "d", "e"), a.topoSort(view));
+
+        //the view is live
+        active.clear(2);
+        assertNull(a.bfs(view, "a", "e"));
+        active.set(1);
+        assertEquals(Arrays.asList("a", "b", "d", "e"), a.bfs(view, "a", "e"));
+        g.removeEdge("b", "d");
+        assertNull(a.bfs(view, "a", "e"));
+    }
+
+    @Test
+    public void testEdgeFilter() {
+
+        AdjacencyMatrix<String, IntEdge> g = makeGraph();
+        SubgraphView<String> light = new SubgraphView<String>(g, null, SubgraphView.weightBetween(0, 2));
+        Algorithms<String, IntEdge> a = new Algorithms<String, IntEdge>();
+
+        assertEquals(5, light.size());
+        assertEquals(4, light.numEdges());
+        assertEquals(Arrays.asList("b"), light.getEdgesTo("a"));
+        assertEquals(Arrays.asList("b", "c"), light.getEdgesFrom("d"));
+        assertTrue(light.hasEdge(0, 1));
+        assertFalse(light.hasEdge(0, 2));
+        assertEquals(Arrays.asList("a", "b", "d", "e"), a.dfs(light, "a", "e"));
+
+        //only edges from lower to higher vertex numbers
+        SubgraphView<String> forward = new SubgraphView<String>(g, null,
+                (fromVertex, toVertex, weight) -> fromVertex < toVertex && weight > 1);
+        assertEquals(2, forward.numEdges());
+    }
+
+    @Test
+    public void testReadOnlyAndCopy() {
+
+        AdjacencyMatrix<String, IntEdge> g = makeGraph();
+        BitSet active = new BitSet();
+        active.set(0, 3);
+        SubgraphView<String> view = new SubgraphView<String>(g, active, null);
+
+        assertEquals(-1, view.addVertex("f"));
+        assertFalse(view.addEdge("a", "c"));
+        assertFalse(view.removeEdge("a", "b"));
+        assertFalse(view.removeVertex("a"));
+        assertNull(view.popVertex("a"));
+        assertEquals(5, g.size());
+
+        Graph<String> copy = view.makeCopy();
+        active.set(3);
+        g.removeEdge("a", "b");
+
+        assertEquals(3, copy.size());
+        assertEquals(Arrays.asList("b", "c"), copy.getEdgesTo("a"));
+        assertEquals(Arrays.asList("c"), view.getEdgesTo("a"));
+        assertEquals(view.printVertices(), "|a|b|c|d");
+    }
+}
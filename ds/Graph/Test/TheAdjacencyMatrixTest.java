@@ -24,13 +24,25 @@ public class TheAdjacencyMatrixTest extends TestCase {
     }
 
     //~Methods-------------------------------------------------
+    /**
+     * Makes the matrix under test. 
+     * Tests for other AdjacencyMatrixInterface implementations override this.
+     * 
+     * @param directed whether the matrix should be directed.
+     * @return a new, empty matrix.
+     */
+    protected AdjacencyMatrixInterface<String, IntEdge> makeMatrix(boolean directed) {
+        
+        return new AdjacencyMatrix<String, IntEdge>(directed);
+    }
+    
     //!~UNDIRECTED GRAPH TESTS
     @Test
     public void testAddVertex() {
         
         System.out.println("TEST ADD VERTEX NUMBER-----------------------------");
         
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         assertEquals(matrix.addVertex("alphabetical"), 0);
         assertEquals(matrix.addVertex("maniacal"), 1);
@@ -52,7 +64,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testRemoveVertexObject() {
         
         System.out.println("TEST REMOVE VERTEX OBJECT--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -88,7 +100,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testRemoveVertexNumber() {
         
         System.out.println("TEST REMOVE VERTEX NUMBER--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -132,7 +144,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testPopVertexObject() {
         
         System.out.println("TEST REMOVE VERTEX OBJECT--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -162,7 +174,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testAddEdgeObjects() {
         
         System.out.println("TEST REMOVE VERTEX OBJECT--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -214,7 +226,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testAddEdgeNumber() {
         
         System.out.println("TEST REMOVE VERTEX OBJECT--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -250,7 +262,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testRemoveEdgeElement() {
         
         System.out.println("TEST REMOVE VERTEX OBJECT--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -290,7 +302,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testMakeCopy() {
         
         System.out.println("TEST MAKE COPY--------------------------");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -307,11 +319,192 @@ public class TheAdjacencyMatrixTest extends TestCase {
         assertEquals(matrix.printVertices(), copy.printVertices());
     }
     
+    @Test
+    public void testMakeCopyOnWrite() {
+        
+        System.out.println("TEST MAKE COPY ON WRITE-----------------");
+        for (boolean directed : new boolean[] {false, true}) {
+            
+            AdjacencyMatrix<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(directed);
+            matrix.setTransposeEnabled(true);
+            
+            for (int i = 0; i < 12; i++) {
+                
+                matrix.addVertex("v" + i);
+            }
+            for (int i = 0; i < 12; i++) {
+                
+                matrix.addEdge(i, (i * 5 + 1) % 12, i + 1);
+            }
+            
+            String before = matrix.printEdges();
+            AdjacencyMatrix<String, IntEdge> copy = matrix.makeCopy(true);
+            AdjacencyMatrix<String, IntEdge> second = copy.makeCopy(true);
+            
+            assertEquals(before, copy.printEdges());
+            assertEquals(matrix.printVertices(), copy.printVertices());
+            
+            //writes to either side stay on that side
+            copy.addEdge(0, 0, 7);
+            copy.removeVertex(1);
+            matrix.removeEdge(2, 11);
+            matrix.addVertex("v12");
+            matrix.addEdge(12, 3, 9);
+            
+            assertEquals(7, copy.getEdge(0, 0));
+            assertEquals(0, matrix.getEdge(0, 0));
+            assertEquals(0, copy.getEdge(1, 6));
+            assertEquals(2, matrix.getEdge(1, 6));
+            assertEquals(3, copy.getEdge(2, 11));
+            assertEquals(0, matrix.getEdge(2, 11));
+            assertEquals(9, matrix.getEdge(12, 3));
+            assertEquals(before, second.printEdges());
+            
+            //the shared columns of the transposed bitmap split the same way as the rows
+            assertSameEdgesFrom(matrix);
+            assertSameEdgesFrom(copy);
+            assertSameEdgesFrom(second);
+            
+            copy.compact();
+            assertEquals(before, second.printEdges());
+            assertSameEdgesFrom(second);
+        }
+    }
+    
+    /**
+     * Checks that getEdgesFrom gives the same answer with the transposed bitmap as without it.
+     */
+    private void assertSameEdgesFrom(AdjacencyMatrix<String, IntEdge> matrix) {
+        
+        AdjacencyMatrix<String, IntEdge> plain = matrix.makeCopy(false);
+        plain.setTransposeEnabled(false);
+        
+        for (int i = 0; i < matrix.usedSlots(); i++) {
+            
+            String v = matrix.getVertex(i);
+            if (v != null) {
+                assertEquals(plain.getEdgesFrom(v), matrix.getEdgesFrom(v));
+            }
+        }
+    }
+    
+    @Test
+    public void testTranspose() {
+        
+        System.out.println("TEST TRANSPOSE--------------------------");
+        AdjacencyMatrix<String, IntEdge> plain = new AdjacencyMatrix<String, IntEdge>(true, 4);
+        AdjacencyMatrix<String, IntEdge> mirrored = new AdjacencyMatrix<String, IntEdge>(true, 4);
+        java.util.Random rand = new java.util.Random(3);
+        
+        mirrored.setTransposeEnabled(true);
+        assertTrue(mirrored.isTransposeEnabled());
+        
+        for (int step = 0; step < 2000; step++) {
+            
+            int n = Math.max(plain.usedSlots(), 1);
+            int i = rand.nextInt(n);
+            int j = rand.nextInt(n);
+            
+            switch (rand.nextInt(6)) {
+                case 0:
+                    plain.addVertex("v" + step);
+                    mirrored.addVertex("v" + step);
+                    break;
+                case 1:
+                case 2:
+                    plain.addEdge(i, j, step + 1);
+                    mirrored.addEdge(i, j, step + 1);
+                    break;
+                case 3:
+                    plain.popEdge(i, j);
+                    mirrored.popEdge(i, j);
+                    break;
+                case 4:
+                    plain.removeVertex(i);
+                    mirrored.removeVertex(i);
+                    break;
+                default:
+                    if (step % 50 == 0) {
+                        plain.compact();
+                        mirrored.compact();
+                    }
+                    else if (step % 25 == 0) {
+                        mirrored = mirrored.makeCopy(true);
+                    }
+            }
+            
+            String v = plain.getVertex(i);
+            if (v != null) {
+                assertEquals(plain.getEdgesFrom(v), mirrored.getEdgesFrom(v));
+            }
+        }
+        
+        mirrored.setTransposeEnabled(false);
+        assertFalse(mirrored.isTransposeEnabled());
+        
+        //undirected graphs have no use for it
+        AdjacencyMatrix<String, IntEdge> undirected = new AdjacencyMatrix<String, IntEdge>();
+        undirected.setTransposeEnabled(true);
+        assertFalse(undirected.isTransposeEnabled());
+    }
+    
+    @Test
+    public void testDegrees() {
+        
+        System.out.println("TEST DEGREES--------------------------");
+        for (boolean directed : new boolean[] {false, true}) {
+            
+            AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(directed);
+            
+            for (int i = 0; i < 6; i++) {
+                
+                matrix.addVertex("v" + i);
+            }
+            
+            matrix.addEdge(0, 1);
+            matrix.addEdge(0, 2);
+            matrix.addEdge(3, 0);
+            matrix.addEdge(4, 4);
+            //already there, no change
+            matrix.addEdge(0, 1);
+            
+            assertEquals(4, matrix.numEdges());
+            assertEquals(directed ? 2 : 3, matrix.outDegree("v0"));
+            assertEquals(directed ? 1 : 3, matrix.inDegree("v0"));
+            assertEquals(matrix.getEdgesTo("v0").size(), matrix.outDegree(0));
+            assertEquals(matrix.getEdgesFrom("v0").size(), matrix.inDegree(0));
+            assertEquals(1, matrix.outDegree(4));
+            assertEquals(0, matrix.outDegree("v5"));
+            assertEquals(-1, matrix.outDegree("missing"));
+            
+            matrix.removeEdge(0, 2);
+            assertEquals(3, matrix.numEdges());
+            assertEquals(0, matrix.inDegree(2));
+            
+            //removing a vertex removes its row and column
+            matrix.removeVertex(0);
+            assertEquals(1, matrix.numEdges());
+            assertEquals(0, matrix.outDegree(3));
+            assertEquals(0, matrix.inDegree(1));
+            
+            matrix.addEdge(5, 1);
+            matrix.compact();
+            assertEquals(2, matrix.numEdges());
+            assertEquals(1, matrix.outDegree("v5"));
+            assertEquals(1, matrix.inDegree("v1"));
+            assertEquals(1, matrix.outDegree("v4"));
+            
+            AdjacencyMatrixInterface<String, IntEdge> copy = matrix.makeCopy();
+            assertEquals(2, copy.numEdges());
+            assertEquals(1, copy.inDegree("v1"));
+        }
+    }
+    
     @Test
     public void testGetEdgesTo() {
         
         System.out.println("TEST GET EDGES TO (UNDIRECTED)");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -346,7 +539,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
         //----------------------------------------------------
         
         System.out.println("TEST GET EDGES TO (DIRECTED)");
-        matrix = new AdjacencyMatrix<String, IntEdge>(true);
+        matrix = makeMatrix(true);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -380,7 +573,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
     public void testGetEdgesFrom() {
         
         System.out.println("TEST GET EDGES FROM (UNDIRECTED)");
-        AdjacencyMatrixInterface<String, IntEdge> matrix = new AdjacencyMatrix<String, IntEdge>(false);
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -415,7 +608,7 @@ public class TheAdjacencyMatrixTest extends TestCase {
         //----------------------------------------------------
         
         System.out.println("TEST GET EDGES FROM (DIRECTED)");
-        matrix = new AdjacencyMatrix<String, IntEdge>(true);
+        matrix = makeMatrix(true);
         
         matrix.addVertex("alphabetical");
         matrix.addVertex("maniacal");
@@ -444,4 +637,80 @@ public class TheAdjacencyMatrixTest extends TestCase {
         matrix.getEdgesFrom("null");
         matrix.getEdgesFrom(null);
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testCompact() {
+        
+        System.out.println("TEST COMPACT--------------------------");
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
+        
+        matrix.addVertex("alphabetical");
+        matrix.addVertex("maniacal");
+        matrix.addVertex("cracked");
+        matrix.addVertex("draped");
+        matrix.addVertex("enigma");
+        matrix.addVertex("failure");
+        
+        matrix.addEdge("alphabetical", "enigma", 3);
+        matrix.addEdge("cracked", "failure", 4);
+        matrix.addEdge("maniacal", "draped", 5);
+        
+        assertTrue(matrix.removeVertex("maniacal"));
+        assertTrue(matrix.removeVertex("draped"));
+        assertNull(matrix.popVertex(3));
+        
+        //freed slots are handed out again before new ones
+        assertEquals(3, matrix.addVertex("grasped"));
+        assertTrue(matrix.removeVertex("grasped"));
+        assertEquals(6, matrix.usedSlots());
+        
+        int[] mapping = matrix.compact();
+        
+        assertEquals(0, mapping[0]);
+        assertEquals(-1, mapping[1]);
+        assertEquals(1, mapping[2]);
+        assertEquals(-1, mapping[3]);
+        assertEquals(2, mapping[4]);
+        assertEquals(3, mapping[5]);
+        
+        assertEquals(4, matrix.size());
+        assertEquals(4, matrix.usedSlots());
+        assertEquals("failure", matrix.getVertex(3));
+        assertEquals(3, matrix.getEdge(0, 2));
+        assertEquals(4, matrix.getEdge(3, 1));
+        assertEquals(0, matrix.getEdge(0, 1));
+        assertEquals(4, matrix.addVertex("hashed"));
+        assertEquals(0, matrix.getEdge(4, 0));
+        
+        System.out.println(matrix.printEdges());
+    }
+    
+    @Test
+    public void testResize() {
+        
+        System.out.println("TEST RESIZE--------------------------");
+        AdjacencyMatrixInterface<String, IntEdge> matrix = makeMatrix(false);
+        
+        for (int i = 0; i < 150; i++) {
+            
+            assertEquals(i, matrix.addVertex("vertex" + i));
+            
+            if (i > 0) {
+                assertTrue(matrix.addEdge(i - 1, i, i));
+            }
+        }
+        
+        assertEquals(150, matrix.size());
+        assertTrue(matrix.capacity() >= 150);
+        
+        for (int i = 1; i < 150; i++) {
+            
+            assertEquals(i, matrix.getEdge(i - 1, i));
+            assertEquals(i, matrix.getEdge(i, i - 1));
+            assertEquals(0, matrix.getEdge(i - 1, (i + 1) % 150));
+        }
+        
+        assertEquals(0, matrix.getEdge(149, matrix.capacity() - 1));
+        assertEquals(2, matrix.getEdgesTo("vertex75").size());
+    }
+}
@@ -0,0 +1,44 @@
+package ds.Graph.Test;
+import org.junit.Test;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.TiledAdjacencyMatrix;
+
+/**
+ * Runs the AdjacencyMatrix tests against the tiled storage.
+ */
+public class TiledAdjacencyMatrixTest extends TheAdjacencyMatrixTest {
+
+    //~Methods-------------------------------------------------
+    @Override
+    protected AdjacencyMatrixInterface<String, IntEdge> makeMatrix(boolean directed) {
+        
+        return new TiledAdjacencyMatrix<String, IntEdge>(directed);
+    }
+    
+    @Test
+    public void testTilesAllocatedLazily() {
+        
+        System.out.println("TEST TILES ALLOCATED LAZILY--------------------------");
+        TiledAdjacencyMatrix<Integer, IntEdge> matrix = new TiledAdjacencyMatrix<Integer, IntEdge>(true);
+        
+        for (int i = 0; i < 300; i++) {
+            matrix.addVertex(i);
+        }
+        
+        assertEquals(0, matrix.allocatedTiles());
+        
+        matrix.addEdge(1, 2);
+        matrix.addEdge(3, 4);
+        matrix.addEdge(299, 0);
+        
+        assertEquals(2, matrix.allocatedTiles());
+        
+        matrix.removeEdge(299, 0);
+        matrix.removeVertex(4);
+        
+        assertEquals(1, matrix.allocatedTiles());
+        assertEquals(1, matrix.getEdge(1, 2));
+        assertEquals(0, matrix.getEdge(3, 4));
+    }
+}
@@ -0,0 +1,42 @@
+package ds.Graph.Test;
+import org.junit.Test;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.TriangularAdjacencyMatrix;
+
+/**
+ * Runs the AdjacencyMatrix tests against the packed triangular storage.
+ * It only holds undirected graphs, so the directed cases still use an AdjacencyMatrix.
+ */
+public class TriangularAdjacencyMatrixTest extends TheAdjacencyMatrixTest {
+
+    //~Methods-------------------------------------------------
+    @Override
+    protected AdjacencyMatrixInterface<String, IntEdge> makeMatrix(boolean directed) {
+        
+        if (directed) {
+            
+            return new AdjacencyMatrix<String, IntEdge>(true);
+        }
+        
+        return new TriangularAdjacencyMatrix<String, IntEdge>();
+    }
+    
+    @Test
+    public void testMaxSize() {
+        
+        System.out.println("TEST TRIANGULAR MAX SIZE--------------------------");
+        
+        //one more vertex and the packed triangle has more cells than an int array
+        try {
+            
+            new TriangularAdjacencyMatrix<String, IntEdge>(TriangularAdjacencyMatrix.MAX_SIZE + 1);
+            fail("expected the size to be rejected");
+        }
+        catch (IllegalArgumentException e) {
+            
+            //expected
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package ds.Graph.Test;
+import java.util.List;
+import org.junit.Test;
+import ds.GraphAlgorithms.Algorithms;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.VersionedAdjacencyMatrix;
+
+/**
+ * Runs the AdjacencyMatrix tests against the versioned matrix, then checks its snapshots.
+ */
+public class VersionedAdjacencyMatrixTest extends TheAdjacencyMatrixTest {
+
+    //~Methods-------------------------------------------------
+    @Override
+    protected AdjacencyMatrixInterface<String, IntEdge> makeMatrix(boolean directed) {
+        
+        return new VersionedAdjacencyMatrix<String, IntEdge>(directed);
+    }
+    
+    @Test
+    public void testSnapshotIsolation() {
+        
+        System.out.println("TEST SNAPSHOT ISOLATION--------------------------");
+        VersionedAdjacencyMatrix<String, IntEdge> matrix = new VersionedAdjacencyMatrix<String, IntEdge>(true, 2);
+        
+        matrix.addVertex("a");
+        matrix.addVertex("b");
+        matrix.addVertex("c");
+        matrix.addEdge("a", "b", 2);
+        matrix.addEdge("b", "c", 3);
+        
+        VersionedAdjacencyMatrix<String, IntEdge>.Snapshot snapshot = matrix.snapshot();
+        long version = snapshot.version();
+        
+        assertEquals(version, matrix.version());
+        assertEquals(1, matrix.openSnapshots());
+        
+        //writes after the snapshot don't show up in it, including ones that resize the matrix
+        matrix.removeEdge("a", "b");
+        matrix.addEdge("c", "a", 4);
+        matrix.removeVertex("b");
+        matrix.addVertex("d");
+        matrix.addVertex("e");
+        matrix.addVertex("f");
+        
+        assertTrue(matrix.version() > version);
+        assertEquals(3, snapshot.size());
+        assertEquals(2, snapshot.numEdges());
+        assertEquals(2, snapshot.getEdge(0, 1));
+        assertEquals(0, snapshot.getEdge(2, 0));
+        assertEquals("b", snapshot.getVertex(1));
+        assertEquals(1, snapshot.outDegree("b"));
+        assertEquals(1, snapshot.inDegree("b"));
+        assertEquals(-1, snapshot.addVertex("g"));
+        assertFalse(snapshot.addEdge("a", "c"));
+        
+        Algorithms<String, IntEdge> algorithms = new Algorithms<String, IntEdge>();
+        List<String> order = algorithms.topoSort(snapshot);
+        assertEquals("a", order.get(0));
+        assertEquals("c", order.get(2));
+        
+        assertEquals(4, matrix.getEdge(2, 0));
+        assertEquals(1, matrix.numEdges());
+        
+        VersionedAdjacencyMatrix<String, IntEdge> copy = snapshot.makeCopy();
+        assertEquals(2, copy.getEdge(0, 1));
+        assertTrue(copy.addEdge("c", "a"));
+        assertEquals(0, snapshot.getEdge(2, 0));
+        
+        snapshot.release();
+        snapshot.release();
+        assertEquals(0, matrix.openSnapshots());
+    }
+    
+    @Test
+    public void testRowsShared() {
+        
+        System.out.println("TEST ROWS SHARED--------------------------");
+        VersionedAdjacencyMatrix<Integer, IntEdge> matrix = new VersionedAdjacencyMatrix<Integer, IntEdge>(false, 8);
+        
+        for (int i = 0; i < 8; i++) {
+            matrix.addVertex(i);
+        }
+        
+        //several snapshots, each only sees the edges added before it
+        try (VersionedAdjacencyMatrix<Integer, IntEdge>.Snapshot first = matrix.snapshot()) {
+            
+            matrix.addEdge(0, 1, 5);
+            
+            try (VersionedAdjacencyMatrix<Integer, IntEdge>.Snapshot second = matrix.snapshot()) {
+                
+                matrix.addEdge(0, 2, 6);
+                matrix.popEdge(0, 1);
+                
+                assertEquals(0, first.getEdge(1, 0));
+                assertEquals(5, second.getEdge(1, 0));
+                assertEquals(0, second.getEdge(0, 2));
+                assertEquals(1, second.numEdges());
+                assertEquals(2, matrix.openSnapshots());
+            }
+            
+            assertFalse(first.hasEdge(0, 2));
+        }
+        
+        //with nothing pinned, writes go in place and a new snapshot sees them all
+        assertEquals(0, matrix.openSnapshots());
+        matrix.addEdge(3, 4, 7);
+        
+        VersionedAdjacencyMatrix<Integer, IntEdge>.Snapshot last = matrix.snapshot();
+        assertEquals(6, last.getEdge(2, 0));
+        assertEquals(7, last.getEdge(4, 3));
+        assertEquals(2, last.numEdges());
+        last.release();
+    }
+}
@@ -0,0 +1,336 @@
+package ds.Graph.Test;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+import org.junit.Test;
+import ds.GraphAlgorithms.DynamicConnectivity;
+import ds.GraphAlgorithms.EdgeList;
+import ds.GraphAlgorithms.GraphSnapshot;
+import ds.GraphAlgorithms.RandomGraphGenerator;
+import ds.GraphAlgorithms.VertexOrder;
+import ds.GraphAlgorithms.VertexOrder.Layout;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.AtomicIntWeightedMatrix;
+import ds.TheAdjacencyMatrix.DoubleWeightedMatrix;
+import ds.TheAdjacencyMatrix.IntEdge;
+import ds.TheAdjacencyMatrix.TiledAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.TriangularAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+public class VertexOrderTest extends TestCase {
+
+    //~Methods-------------------------------------------------
+    /**
+     * A rows x cols grid whose vertex numbers are shuffled.
+     */
+    private GraphSnapshot<Integer> shuffledGrid(int rows, int cols, long seed) {
+
+        EdgeList grid = new RandomGraphGenerator(seed).grid(rows, cols);
+        int n = grid.numVertices();
+        int[] shuffle = new int[n];
+        Random random = new Random(seed);
+
+        for (int v = 0; v < n; v++) {
+
+            int k = random.nextInt(v + 1);
+            shuffle[v] = shuffle[k];
+            shuffle[k] = v;
+        }
+
+        int[] from = new int[grid.numEdges()];
+        int[] to = new int[grid.numEdges()];
+
+        for (int e = 0; e < from.length; e++) {
+
+            from[e] = shuffle[grid.getFrom(e)];
+            to[e] = shuffle[grid.getTo(e)];
+        }
+
+        return GraphSnapshot.fromEdgeList(new EdgeList(n, false, from, to));
+    }
+
+    /**
+     * Checks that mapping gives the live vertices of g the numbers 0 to g.size() - 1.
+     */
+    private void assertRenumbering(GraphSnapshot<?> g, int[] mapping) {
+
+        boolean[] taken = new boolean[g.size()];
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            if (g.getVertex(v) == null) {
+
+                assertEquals(-1, mapping[v]);
+                continue;
+            }
+
+            assertTrue(mapping[v] >= 0 && mapping[v] < g.size());
+            assertFalse(taken[mapping[v]]);
+            taken[mapping[v]] = true;
+        }
+    }
+
+    /**
+     * Checks that renumbered holds the edges of g at their new numbers, with their weights.
+     */
+    private void assertSameEdges(GraphSnapshot<Integer> g, GraphSnapshot<Integer> renumbered, int[] mapping) {
+
+        assertEquals(g.size(), renumbered.size());
+        assertEquals(g.numStoredEdges(), renumbered.numStoredEdges());
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            if (g.getVertex(v) == null) {
+                continue;
+            }
+
+            int w = mapping[v];
+            assertEquals(g.getVertex(v), renumbered.getVertex(w));
+            assertEquals(g.edgesEnd(v) - g.edgesStart(v), renumbered.edgesEnd(w) - renumbered.edgesStart(w));
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                int target = mapping[g.target(e)];
+                boolean found = false;
+
+                for (int f = renumbered.edgesStart(w); f < renumbered.edgesEnd(w); f++) {
+
+                    if (f > renumbered.edgesStart(w)) {
+                        assertTrue(renumbered.target(f - 1) < renumbered.target(f));
+                    }
+
+                    if (renumbered.target(f) == target) {
+
+                        assertEquals(g.weight(e), renumbered.weight(f), 0);
+                        found = true;
+                    }
+                }
+
+                assertTrue(found);
+            }
+        }
+    }
+
+    /**
+     * Checks that the matrix g, renumbered by mapping, still has every edge of before.
+     */
+    private <G extends AbstractAdjacencyMatrix<Integer> & WeightedMatrix> void assertRenumberedMatrix(
+            GraphSnapshot<Integer> before, G g, int[] mapping) {
+
+        assertEquals(before.size(), g.usedSlots());
+        assertSameEdges(before, GraphSnapshot.fromMatrix(g), mapping);
+
+        int degrees = 0;
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            degrees += g.outDegree(g.getVertex(v));
+        }
+
+        assertEquals(before.numStoredEdges(), degrees);
+    }
+
+    /**
+     * Fills g with a random graph with some of its vertices removed, adding each edge
+     * with its random weight through add.
+     */
+    private void fill(AbstractAdjacencyMatrix<Integer> g, long seed, EdgeAdder add) {
+
+        Random random = new Random(seed);
+
+        for (int i = 0; i < 40; i++) {
+
+            g.addVertex(i);
+        }
+
+        for (int i = 0; i < 120; i++) {
+
+            add.addEdge(random.nextInt(40), random.nextInt(40), 1 + random.nextInt(9));
+        }
+
+        for (int i = 0; i < 40; i += 7) {
+
+            g.removeVertex(i);
+        }
+    }
+
+    @Test
+    public void testMappings() {
+
+        System.out.println("TEST MAPPINGS---");
+
+        GraphSnapshot<Integer> grid = shuffledGrid(12, 9, 1);
+        GraphSnapshot<Integer> power = GraphSnapshot.fromEdgeList(new RandomGraphGenerator(2).barabasiAlbert(300, 3));
+        GraphSnapshot<Integer> directed = GraphSnapshot.fromEdgeList(new RandomGraphGenerator(3).erdosRenyi(200, 0.02, true));
+
+        for (Layout layout : Layout.values()) {
+
+            for (GraphSnapshot<Integer> g : Arrays.asList(grid, power, directed)) {
+
+                int[] mapping = VertexOrder.mapping(g, layout);
+                assertRenumbering(g, mapping);
+                assertSameEdges(g, g.renumber(mapping), mapping);
+            }
+        }
+    }
+
+    @Test
+    public void testReverseCuthillMcKeeBandwidth() {
+
+        System.out.println("TEST REVERSE CUTHILL MCKEE BANDWIDTH---");
+
+        //a shuffled path ends up with every edge between neighboring numbers
+        int n = 500;
+        int[] from = new int[n - 1];
+        int[] to = new int[n - 1];
+        Random random = new Random(4);
+        int[] shuffle = new int[n];
+
+        for (int v = 0; v < n; v++) {
+
+            int k = random.nextInt(v + 1);
+            shuffle[v] = shuffle[k];
+            shuffle[k] = v;
+        }
+
+        for (int e = 0; e < n - 1; e++) {
+
+            from[e] = shuffle[e];
+            to[e] = shuffle[e + 1];
+        }
+
+        GraphSnapshot<Integer> path = GraphSnapshot.fromEdgeList(new EdgeList(n, false, from, to));
+        assertTrue(VertexOrder.bandwidth(path) > 1);
+        assertEquals(1, VertexOrder.bandwidth(path.renumber(VertexOrder.mapping(path, Layout.REVERSE_CUTHILL_MCKEE))));
+
+        //a grid gets about its width
+        GraphSnapshot<Integer> grid = shuffledGrid(40, 10, 5);
+        GraphSnapshot<Integer> rcm = grid.renumber(VertexOrder.mapping(grid, Layout.REVERSE_CUTHILL_MCKEE));
+
+        assertTrue(VertexOrder.bandwidth(grid) > 100);
+        assertTrue(VertexOrder.bandwidth(rcm) <= 20);
+    }
+
+    @Test
+    public void testDegreeAndBfsOrder() {
+
+        System.out.println("TEST DEGREE AND BFS ORDER---");
+
+        GraphSnapshot<Integer> g = GraphSnapshot.fromEdgeList(new RandomGraphGenerator(6).barabasiAlbert(200, 2));
+        GraphSnapshot<Integer> degree = g.renumber(VertexOrder.mapping(g, Layout.DEGREE));
+
+        for (int v = 1; v < degree.usedSlots(); v++) {
+
+            assertTrue(degree.edgesEnd(v - 1) - degree.edgesStart(v - 1) >= degree.edgesEnd(v) - degree.edgesStart(v));
+        }
+
+        //in bfs order, every vertex but the first of its search has a lower numbered neighbor
+        GraphSnapshot<Integer> bfs = g.renumber(VertexOrder.mapping(g, Layout.BFS));
+
+        for (int v = 1; v < bfs.usedSlots(); v++) {
+
+            assertTrue(bfs.edgesEnd(v) > bfs.edgesStart(v));
+            assertTrue(bfs.target(bfs.edgesStart(v)) < v);
+        }
+    }
+
+    @Test
+    public void testRenumberSnapshot() {
+
+        System.out.println("TEST RENUMBER SNAPSHOT---");
+
+        GraphSnapshot<Integer> g = shuffledGrid(3, 3, 7);
+
+        assertNull(g.renumber(new int[3]));
+        assertNull(g.renumber(new int[] {0, 0, 1, 2, 3, 4, 5, 6, 7}));
+
+        //leaving out vertices leaves out their edges
+        int[] mapping = {0, 1, -1, 2, 3, 4, 5, 6, 7};
+        GraphSnapshot<Integer> smaller = g.renumber(mapping);
+
+        assertEquals(8, smaller.size());
+        assertEquals(-1, smaller.findVertex(2));
+        assertEquals(g.numStoredEdges() - 2 * (g.edgesEnd(2) - g.edgesStart(2)), smaller.numStoredEdges());
+    }
+
+    @Test
+    public void testRenumberMatrices() {
+
+        System.out.println("TEST RENUMBER MATRICES---");
+
+        AdjacencyMatrix<Integer, IntEdge> matrix = new AdjacencyMatrix<Integer, IntEdge>(false, 8);
+        TriangularAdjacencyMatrix<Integer, IntEdge> triangular = new TriangularAdjacencyMatrix<Integer, IntEdge>(8);
+        TiledAdjacencyMatrix<Integer, IntEdge> tiled = new TiledAdjacencyMatrix<Integer, IntEdge>(true, 8);
+        DoubleWeightedMatrix<Integer> weighted = new DoubleWeightedMatrix<Integer>(true, 8);
+        AtomicIntWeightedMatrix<Integer> atomic = new AtomicIntWeightedMatrix<Integer>(false, 8);
+
+        fill(matrix, 8, (from, to, weight) -> matrix.addEdge(from, to, weight));
+        fill(triangular, 9, (from, to, weight) -> triangular.addEdge(from, to));
+        fill(tiled, 10, (from, to, weight) -> tiled.addEdge(from, to));
+        fill(weighted, 11, (from, to, weight) -> weighted.addEdge(from, to, weight / 2.0));
+        fill(atomic, 12, (from, to, weight) -> atomic.addEdge(from, to, weight));
+
+        for (Layout layout : Layout.values()) {
+
+            GraphSnapshot<Integer> before = GraphSnapshot.fromMatrix(matrix);
+            assertRenumberedMatrix(before, matrix, VertexOrder.renumber(matrix, layout));
+
+            before = GraphSnapshot.fromMatrix(triangular);
+            assertRenumberedMatrix(before, triangular, VertexOrder.renumber(triangular, layout));
+
+            before = GraphSnapshot.fromMatrix(tiled);
+            assertRenumberedMatrix(before, tiled, VertexOrder.renumber(tiled, layout));
+
+            before = GraphSnapshot.fromMatrix(weighted);
+            assertRenumberedMatrix(before, weighted, VertexOrder.renumber(weighted, layout));
+
+            before = GraphSnapshot.fromMatrix(atomic);
+            assertRenumberedMatrix(before, atomic, VertexOrder.renumber(atomic, layout));
+        }
+
+        //the vertices have to get 0 to size() - 1
+        assertFalse(matrix.renumber(new int[] {0}));
+
+        int[] mapping = new int[matrix.usedSlots()];
+        assertFalse(matrix.renumber(mapping));
+
+        for (int v = 0; v < mapping.length; v++) {
+
+            mapping[v] = mapping.length - 1 - v;
+        }
+        assertTrue(matrix.renumber(mapping));
+    }
+
+    @Test
+    public void testRenumberTellsListeners() {
+
+        System.out.println("TEST RENUMBER TELLS LISTENERS---");
+
+        AdjacencyMatrix<Integer, IntEdge> g = new AdjacencyMatrix<Integer, IntEdge>(false, 8);
+        fill(g, 13, (from, to, weight) -> g.addEdge(from, to, weight));
+
+        DynamicConnectivity<Integer> connectivity = DynamicConnectivity.of(g);
+        VertexOrder.renumber(g, Layout.GORDER);
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            for (int w = 0; w < g.usedSlots(); w++) {
+
+                if (g.hasEdge(v, w)) {
+                    assertTrue(connectivity.connected(v, w));
+                }
+            }
+        }
+
+        assertEquals(DynamicConnectivity.of(g).numComponents(), connectivity.numComponents());
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * Adds an edge to the matrix being filled, with the weight type the matrix takes.
+     */
+    private interface EdgeAdder {
+
+        public void addEdge(int from, int to, int weight);
+    }
+}
@@ -1,5 +1,6 @@
 package ds.GraphAlgorithms;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -9,8 +10,11 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import ds.Graph.Graph;
+import ds.GraphMetrics.Instrumentation;
 import ds.TheAdjacencyMatrix.AdjacencyMatrix;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
 import ds.TheAdjacencyMatrix.Edge;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
 import ds.TheHeap.PriorityQueue;
 import ds.Tuple.ComparableTuple;
 
@@ -20,7 +24,13 @@ import ds.Tuple.ComparableTuple;
  * Contains:
  * dfs
  * bfs
+ * multi-source bfs
  * topological sort
+ * Djikstras (on primitive weights)
+ * Prim's minimum spanning forest (on primitive weights)
+ * 
+ * Every call reports its time, the vertices it visited and the edges it followed
+ * to the installed GraphInstrumentation, if any (see ds.GraphMetrics.Instrumentation).
  * 
  * To implement:
  * A*
@@ -98,6 +108,144 @@ public class Algorithms<T, E extends Edge> {
         return t;
     }
     
+    /**
+     * Computes a minimum spanning forest of the undirected graph g with Prim's algorithm,
+     * reading the weights straight out of the matrix as primitives.
+     * Uses the dense form of the algorithm, O(V^2) with no heap, which suits a matrix
+     * where every row has to be scanned anyway.
+     * 
+     * @param g the graph to make a minimum spanning forest of.
+     * @return parents where parents[v] is the vertex number v is attached to in the forest,
+     *          -1 for the root of each tree (and vertex numbers with no vertex).
+     *          Returns null if g is directed.
+     */
+    public int[] primMinSpanForest(WeightedMatrix g) {
+        
+        if (g.isDirected()) {
+            
+            return null;
+        }
+        
+        long start = Instrumentation.start();
+        long relaxed = 0;
+        
+        int n = g.usedSlots();
+        int[] parents = new int[n];
+        double[] cost = new double[n];
+        boolean[] inTree = new boolean[n];
+        
+        Arrays.fill(parents, -1);
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        
+        for (int added = 0; added < n; added++) {
+            
+            //cheapest vertex to attach, a new root if nothing is reachable
+            int v = -1;
+            for (int i = 0; i < n; i++) {
+                
+                if (!inTree[i] && (v == -1 || cost[i] < cost[v])) {
+                    v = i;
+                }
+            }
+            
+            inTree[v] = true;
+            
+            for (int w = 0; w < n; w++) {
+                
+                if (!inTree[w] && g.hasEdge(v, w)) {
+                    
+                    relaxed++;
+                    if (g.weightOf(v, w) < cost[w]) {
+                        
+                        cost[w] = g.weightOf(v, w);
+                        parents[w] = v;
+                    }
+                }
+            }
+        }
+        
+        Instrumentation.finish("primMinSpanForest", start, n, relaxed);
+        
+        return parents;
+    }
+    
+    /**
+     * Finds the length of the shortest path from source to every vertex number with
+     * Djikstra's algorithm, reading the weights straight out of the matrix as primitives.
+     * Uses the dense form of the algorithm, O(V^2) with no heap.
+     * Edge weights must not be negative.
+     * 
+     * @param g the graph to search.
+     * @param source the vertex number to find paths from.
+     * @param previous if not null, filled with the vertex number before each vertex number
+     *          on its shortest path, -1 for the source and unreachable vertex numbers.
+     *          Must be at least g.usedSlots() long.
+     * @return distances where distances[v] is the total weight of the shortest path 
+     *          from source to v, Double.POSITIVE_INFINITY if v can't be reached.
+     */
+    public double[] shortestPaths(WeightedMatrix g, int source, int[] previous) {
+        
+        long start = Instrumentation.start();
+        long visited = 0;
+        long relaxed = 0;
+        
+        int n = g.usedSlots();
+        double[] distances = new double[n];
+        boolean[] done = new boolean[n];
+        
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        if (previous != null) {
+            Arrays.fill(previous, 0, n, -1);
+        }
+        
+        if (source < 0 || source >= n) {
+            
+            return distances;
+        }
+        
+        distances[source] = 0;
+        
+        while (true) {
+            
+            //closest vertex not done yet
+            int v = -1;
+            for (int i = 0; i < n; i++) {
+                
+                if (!done[i] && distances[i] != Double.POSITIVE_INFINITY 
+                        && (v == -1 || distances[i] < distances[v])) {
+                    v = i;
+                }
+            }
+            
+            if (v == -1) {
+                break;
+            }
+            
+            done[v] = true;
+            visited++;
+            
+            for (int w = 0; w < n; w++) {
+                
+                if (!done[w] && g.hasEdge(v, w)) {
+                    
+                    relaxed++;
+                    double distance = distances[v] + g.weightOf(v, w);
+                    if (distance < distances[w]) {
+                        
+                        distances[w] = distance;
+                        if (previous != null) {
+                            previous[w] = v;
+                        }
+                    }
+                }
+            }
+        }
+        
+        Instrumentation.finish("shortestPaths", start, visited, relaxed);
+        
+        return distances;
+    }
+    
     /**
      * Depth first search method that takes a starting element, goal element, and graph and finds a path
      * between the start and goal elements.
@@ -109,18 +257,20 @@ public class Algorithms<T, E extends Edge> {
      */
     public List<T> dfs(Graph<T> g, T cur, T end) {
         
+        long start = Instrumentation.start();
+        
         LinkedList<T> trail = new LinkedList<T>();
         Set<T> set = new HashSet<T>();
+        long[] counts = new long[2];
         
         set.add(cur);
         trail.add(cur);
         
-        if (dfs(g, cur, end, set, trail)) {
-            
-            return trail;
-        }
+        boolean found = dfs(g, cur, end, set, trail, counts);
         
-        return null;
+        Instrumentation.finish("dfs", start, counts[0], counts[1]);
+        
+        return found ? trail : null;
     }
     
     /**
@@ -134,10 +284,13 @@ public class Algorithms<T, E extends Edge> {
      * @param end the goal element.
      * @param set a set to keep track of which elements have been visited.
      * @param trail the trail of elements.
+     * @param counts the number of vertices visited and edges followed so far, for instrumentation.
      * @return true if goal found, false otherwise.
      */
-    private boolean dfs(Graph<T> g, T cur, T end, Set<T> set, LinkedList<T> trail) {
-                
+    private boolean dfs(Graph<T> g, T cur, T end, Set<T> set, LinkedList<T> trail, long[] counts) {
+        
+        counts[0]++;
+        
         if (cur.equals(end)) {
             
             return true;
@@ -146,12 +299,14 @@ public class Algorithms<T, E extends Edge> {
          
             for (T el : g.getEdgesTo(cur)) {
                 
+                counts[1]++;
+                
                 if (!set.contains(el)) {
         
                     set.add(el);
                     trail.add(el);
                     
-                    if (!dfs(g, el, end, set, trail)) {
+                    if (!dfs(g, el, end, set, trail, counts)) {
                         
                         set.remove(el);
                         trail.remove(el);
@@ -178,6 +333,10 @@ public class Algorithms<T, E extends Edge> {
      */
     public List<T> bfs(Graph<T> g, T start, T end) {
         
+        long startTime = Instrumentation.start();
+        long visited = 0;
+        long relaxed = 0;
+        
         LinkedList<T> trail = new LinkedList<T>();
         Set<T> set = new HashSet<T>();
         Queue<T> q = new LinkedList<T>();
@@ -190,6 +349,7 @@ public class Algorithms<T, E extends Edge> {
         while (!q.isEmpty()) {
             
             cur = q.remove();
+            visited++;
             
             if (cur.equals(end)) {
 
@@ -199,12 +359,16 @@ public class Algorithms<T, E extends Edge> {
                 }
                 trail.addFirst(start);
                 
+                Instrumentation.finish("bfs", startTime, visited, relaxed);
+                
                 return trail;
             }
             else {
                 
                 for (T edge : g.getEdgesTo(cur)) {
                     
+                    relaxed++;
+                    
                     if (!set.contains(edge)) {
                         
                         q.add(edge);
@@ -215,12 +379,134 @@ public class Algorithms<T, E extends Edge> {
             }
         }
         
+        Instrumentation.finish("bfs", startTime, visited, relaxed);
+        
         return null;
     }
     
+    /**
+     * Runs a breadth first search from every vertex number in sources at once, and
+     * returns the distance (in edges) from each source to every vertex number.
+     * 
+     * Every vertex carries a bit mask of the searches that have reached it, so each row
+     * of the matrix is scanned at most once per level for all of the searches together,
+     * instead of once per search. 
+     * 
+     * @param g the graph to be searched.
+     * @param sources the vertex numbers to start a search from, duplicates are allowed.
+     * @return distances where distances[s][v] is the number of edges on the shortest path 
+     *          from sources[s] to v, -1 if there is no path or either number has no vertex.
+     */
+    public int[][] multiSourceBfs(AdjacencyMatrixInterface<T, E> g, int[] sources) {
+        
+        long start = Instrumentation.start();
+        long visited = 0;
+        long relaxed = 0;
+        
+        int n = g.usedSlots();
+        int words = (sources.length + 63) >>> 6;
+        int[][] distances = new int[sources.length][n];
+        
+        //masks of vertex v are at [v * words, (v + 1) * words)
+        long[] seen = new long[n * words];
+        long[] visit = new long[n * words];
+        long[] next = new long[n * words];
+        
+        for (int s = 0; s < sources.length; s++) {
+            
+            Arrays.fill(distances[s], -1);
+            
+            int v = sources[s];
+            if (g.getVertex(v) != null) {
+                
+                seen[v * words + (s >>> 6)] |= 1L << s;
+                visit[v * words + (s >>> 6)] |= 1L << s;
+                distances[s][v] = 0;
+            }
+        }
+        
+        boolean frontier = true;
+        for (int level = 1; frontier; level++) {
+            
+            //push every frontier vertex's searches along its row
+            for (int v = 0; v < n; v++) {
+                
+                if (isEmptyMask(visit, v * words, words)) {
+                    continue;
+                }
+                
+                visited++;
+                
+                for (int w = 0; w < n; w++) {
+                    
+                    if (g.getEdge(v, w) != 0 && g.getVertex(w) != null) {
+                        
+                        relaxed++;
+                        
+                        for (int k = 0; k < words; k++) {
+                            
+                            next[w * words + k] |= visit[v * words + k] & ~seen[w * words + k];
+                        }
+                    }
+                }
+            }
+            
+            //searches that reached a vertex for the first time are at distance level
+            frontier = false;
+            for (int i = 0; i < next.length; i++) {
+                
+                long found = next[i];
+                if (found != 0) {
+                    
+                    frontier = true;
+                    seen[i] |= found;
+                    
+                    int w = i / words;
+                    int base = (i % words) << 6;
+                    while (found != 0) {
+                        
+                        distances[base + Long.numberOfTrailingZeros(found)][w] = level;
+                        found &= found - 1;
+                    }
+                }
+            }
+            
+            long[] temp = visit;
+            visit = next;
+            next = temp;
+            Arrays.fill(next, 0);
+        }
+        
+        Instrumentation.finish("multiSourceBfs", start, visited, relaxed);
+        
+        return distances;
+    }
+    
+    /**
+     * Tells whether all of the words of a bit mask are 0.
+     * 
+     * @param masks the array holding the mask.
+     * @param start the index of the first word of the mask.
+     * @param words the number of words in the mask.
+     * @return true if no bit of the mask is set, false otherwise.
+     */
+    private static boolean isEmptyMask(long[] masks, int start, int words) {
+        
+        for (int k = start; k < start + words; k++) {
+            
+            if (masks[k] != 0) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
     /**
      * Performs a topological sort on the graph, provided it is directed.
      * If null is returns then it means that this graph is acyclic.
+     * Uses Kahn's algorithm on the in-degrees the graph keeps, so the graph
+     * doesn't have to be copied or changed.
      * 
      * @param g the graph to be topologically sorted.
      * @return the topological ordering of the graph, null if none exists.
@@ -229,20 +515,23 @@ public class Algorithms<T, E extends Edge> {
         
         if (g.isDirected()) {
             
-            //copy graph to not destroy the original
-            Graph<T> copy = g.makeCopy();
+            long start = Instrumentation.start();
+            long relaxed = 0;
             
             Queue<T> q = new LinkedList<T>();
             LinkedList<T> sort = new LinkedList<T>();
+            
+            //number of edges to each vertex from vertices not sorted yet
+            Map<T, Integer> remaining = new HashMap<T, Integer>();
 
-            //find vertices with no edges to them---
-            //loop over all vertices
-            for (T v : copy.getVertices()) {
+            //find vertices with no edges to them
+            for (T v : g.getVertices()) {
+                
+                int degree = g.inDegree(v);
+                remaining.put(v, degree);
                 
-                //if there are no edges from e to v
-                if (copy.getEdgesFrom(v).isEmpty()) {
+                if (degree == 0) {
                     
-                    //store v
                     q.add(v);
                 }
             }
@@ -255,17 +544,21 @@ public class Algorithms<T, E extends Edge> {
                 el = q.remove(); 
                 sort.add(el);
                 
-                //loop over edges from el to v
-                for (T e : copy.getEdgesTo(el)) {
+                //loop over edges from el to e, as if removing them
+                for (T e : g.getEdgesTo(el)) {
                     
-                    copy.removeEdge(el, e);
+                    relaxed++;
+                    int degree = remaining.get(e) - 1;
+                    remaining.put(e, degree);
                     
-                    if (copy.getEdgesFrom(e).isEmpty()) {
+                    if (degree == 0) {
                         q.add(e);
                     }
                 }
             }
             
+            Instrumentation.finish("topoSort", start, sort.size(), relaxed);
+            
             //The size of the sort and the graph differ, therefore....
                 //there is a cycle, and therefore no valid topological sort
             if (sort.size() != g.size()) {
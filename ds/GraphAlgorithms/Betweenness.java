@@ -0,0 +1,458 @@
+package ds.GraphAlgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import ds.Graph.Graph;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+/**
+ * Betweenness centrality with Brandes' algorithm: the betweenness of v is the sum, over every
+ * pair of other vertices s and t, of the share of the shortest paths from s to t that go
+ * through v. For undirected graphs each pair counts once.
+ *
+ * Each source takes one search, a breadth first search for unweighted betweenness, or
+ * Djikstra's algorithm (edge weights must be positive) for weighted betweenness, which counts
+ * the shortest paths to every vertex. A pass back over the vertices, farthest first, then adds
+ * up how much each vertex depends on the others.
+ *
+ * The sources are shared out between threads, each keeping its own scratch arrays and its own
+ * running totals, which are only added together at the end, so threads never write to the
+ * same memory. For very large graphs, approximate only searches from a random sample of sources.
+ *
+ * Scores are in the vertex numbers of the GraphSnapshot searched: the matrix's vertex numbers
+ * for matrices, the order of getVertices() for other graphs.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public final class Betweenness {
+
+    //~Constructors--------------------------------------------
+    private Betweenness() {}
+
+    //~Methods-------------------------------------------------
+    /**
+     * Works out the exact betweenness of every vertex.
+     *
+     * @param g the graph.
+     * @param weighted true to use the edge weights as lengths, false to count edges.
+     * @param threads the number of threads to use.
+     * @return the betweenness of each vertex number, 0 for numbers with no vertex,
+     *          or null if the thread was interrupted.
+     */
+    public static double[] exact(GraphSnapshot<?> g, boolean weighted, int threads) {
+
+        int[] sources = new int[g.size()];
+        int count = 0;
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            if (g.getVertex(v) != null) {
+                sources[count++] = v;
+            }
+        }
+
+        return run(g, weighted, sources, 1, threads);
+    }
+
+    /**
+     * Works out the exact betweenness of every vertex of any Graph, see exact(GraphSnapshot...).
+     *
+     * @param g the graph.
+     * @param weighted true to use the edge weights as lengths, false to count edges.
+     *          Only matrices have weights, other graphs count edges either way.
+     * @param threads the number of threads to use.
+     * @return the betweenness of each vertex number, or null if the thread was interrupted.
+     */
+    public static <T> double[] exact(Graph<T> g, boolean weighted, int threads) {
+
+        return exact(snapshot(g), weighted, threads);
+    }
+
+    /**
+     * Estimates the betweenness of every vertex from the searches of a uniform random sample
+     * of sources, enough for every estimate to be within epsilon * n * (n - 2) of the exact
+     * betweenness (half that for undirected graphs) with probability at least 1 - delta,
+     * where n is the number of vertices. When that takes as many searches as there are
+     * vertices, the exact betweenness is worked out instead.
+     *
+     * @param g the graph.
+     * @param weighted true to use the edge weights as lengths, false to count edges.
+     * @param epsilon the error allowed, as a share of the highest possible betweenness, above 0.
+     * @param delta the chance of an estimate being off by more than that, 0 to 1.
+     * @param seed the seed of the random sample.
+     * @param threads the number of threads to use.
+     * @return the estimated betweenness of each vertex number, 0 for numbers with no vertex,
+     *          or null if epsilon or delta is out of range, or the thread was interrupted.
+     */
+    public static double[] approximate(GraphSnapshot<?> g, boolean weighted, double epsilon,
+            double delta, long seed, int threads) {
+
+        if (!(epsilon > 0) || !(delta > 0 && delta < 1)) {
+            return null;
+        }
+
+        int n = g.size();
+        long samples = samples(n, epsilon, delta);
+
+        if (samples >= n) {
+            return exact(g, weighted, threads);
+        }
+
+        int[] vertices = new int[n];
+        int count = 0;
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            if (g.getVertex(v) != null) {
+                vertices[count++] = v;
+            }
+        }
+
+        int[] sources = new int[(int) samples];
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int i = 0; i < sources.length; i++) {
+
+            sources[i] = vertices[random.nextInt(n)];
+        }
+
+        return run(g, weighted, sources, (double) n / sources.length, threads);
+    }
+
+    /**
+     * Estimates the betweenness of every vertex of any Graph, see approximate(GraphSnapshot...).
+     *
+     * @param g the graph.
+     * @param weighted true to use the edge weights as lengths, false to count edges.
+     * @param epsilon the error allowed, as a share of the highest possible betweenness, above 0.
+     * @param delta the chance of an estimate being off by more than that, 0 to 1.
+     * @param seed the seed of the random sample.
+     * @param threads the number of threads to use.
+     * @return the estimated betweenness of each vertex number,
+     *          or null if epsilon or delta is out of range, or the thread was interrupted.
+     */
+    public static <T> double[] approximate(Graph<T> g, boolean weighted, double epsilon,
+            double delta, long seed, int threads) {
+
+        return approximate(snapshot(g), weighted, epsilon, delta, seed, threads);
+    }
+
+    /**
+     * Tells the number of sampled sources approximate searches from, by Hoeffding's bound:
+     * each source's contribution to a vertex is between 0 and n - 2, and the bound has
+     * to hold for all n vertices at once.
+     *
+     * @param n the number of vertices.
+     * @param epsilon the error allowed, as a share of the highest possible betweenness.
+     * @param delta the chance of an estimate being off by more than that.
+     * @return ln(2n / delta) / (2 epsilon^2), rounded up.
+     */
+    public static long samples(int n, double epsilon, double delta) {
+
+        return (long) Math.ceil(Math.log(2.0 * Math.max(n, 1) / delta) / (2 * epsilon * epsilon));
+    }
+
+    /**
+     * Takes a snapshot of g, with its weights if it's a weighted matrix.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> GraphSnapshot<T> snapshot(Graph<T> g) {
+
+        if (g instanceof AbstractAdjacencyMatrix && g instanceof WeightedMatrix) {
+            return GraphSnapshot.fromMatrix((AbstractAdjacencyMatrix<T> & WeightedMatrix) g);
+        }
+
+        return GraphSnapshot.fromGraph(g);
+    }
+
+    /**
+     * Searches from every source on threads threads, each with its own totals, and adds
+     * the totals together.
+     *
+     * @param g the graph.
+     * @param weighted true for Djikstra's algorithm, false for breadth first search.
+     * @param sources the vertex numbers to search from, may repeat.
+     * @param scale what to multiply the totals by.
+     * @param threads the number of threads.
+     * @return the betweenness, null if the thread was interrupted.
+     */
+    private static double[] run(final GraphSnapshot<?> g, final boolean weighted, final int[] sources,
+            double scale, int threads) {
+
+        final AtomicInteger next = new AtomicInteger();
+        double[] total;
+
+        threads = Math.max(1, Math.min(threads, sources.length));
+
+        if (threads == 1) {
+
+            total = new Searcher(g, weighted).search(sources, next);
+        }
+        else {
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            try {
+
+                List<Future<double[]>> futures = new ArrayList<Future<double[]>>();
+                for (int t = 0; t < threads; t++) {
+
+                    futures.add(executor.submit(() -> new Searcher(g, weighted).search(sources, next)));
+                }
+
+                //the totals of each thread are only added up once it's done
+                total = new double[g.usedSlots()];
+                for (Future<double[]> future : futures) {
+
+                    double[] partial = future.get();
+
+                    for (int v = 0; v < total.length; v++) {
+
+                        total[v] += partial[v];
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+
+                return null;
+            }
+            catch (ExecutionException e) {
+
+                throw new RuntimeException(e.getCause());
+            }
+            finally {
+
+                executor.shutdownNow();
+            }
+        }
+
+        //an undirected pair was counted from both of its ends
+        double factor = g.isDirected() ? scale : scale / 2;
+        for (int v = 0; v < total.length; v++) {
+
+            total[v] *= factor;
+        }
+
+        return total;
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * One thread's scratch arrays and running totals.
+     */
+    private static final class Searcher {
+
+        private final GraphSnapshot<?> g;
+        private final boolean weighted;
+
+        /**
+         * The running betweenness totals of this thread.
+         */
+        private final double[] centrality;
+
+        private final double[] distances;
+
+        /**
+         * The number of shortest paths from the source to each vertex, a double since it
+         * can be far more than a long holds.
+         */
+        private final double[] paths;
+
+        private final double[] dependencies;
+
+        /**
+         * The vertices in the order their distances were settled, nearest first.
+         */
+        private final int[] order;
+
+        private double[] heapKeys;
+        private int[] heapValues;
+
+        private Searcher(GraphSnapshot<?> g, boolean weighted) {
+
+            this.g = g;
+            this.weighted = weighted;
+
+            int n = g.usedSlots();
+            centrality = new double[n];
+            distances = new double[n];
+            paths = new double[n];
+            dependencies = new double[n];
+            order = new int[n];
+
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+            if (weighted) {
+
+                heapKeys = new double[g.numStoredEdges() + 1];
+                heapValues = new int[g.numStoredEdges() + 1];
+            }
+        }
+
+        /**
+         * The length of edge e.
+         */
+        private double length(int e) {
+
+            return weighted ? g.weight(e) : 1;
+        }
+
+        /**
+         * Searches from the sources, taking the next one not yet taken by any thread
+         * until there are none left.
+         *
+         * @param sources the vertex numbers to search from.
+         * @param next the index of the next source to take, shared by the threads.
+         * @return the totals of this thread.
+         */
+        private double[] search(int[] sources, AtomicInteger next) {
+
+            for (int i = next.getAndIncrement(); i < sources.length; i = next.getAndIncrement()) {
+
+                accumulate(sources[i]);
+            }
+
+            return centrality;
+        }
+
+        /**
+         * Adds the dependencies of every vertex on source to the totals.
+         *
+         * @param source the vertex number to search from.
+         */
+        private void accumulate(int source) {
+
+            int count = weighted ? dijkstra(source) : bfs(source);
+
+            //farthest first, so every vertex's successors are done before it
+            for (int k = count - 1; k >= 0; k--) {
+
+                int v = order[k];
+                double dependency = 0;
+
+                for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                    int w = g.target(e);
+
+                    if (distances[w] == distances[v] + length(e)) {
+                        dependency += paths[v] / paths[w] * (1 + dependencies[w]);
+                    }
+                }
+
+                dependencies[v] = dependency;
+
+                if (v != source) {
+                    centrality[v] += dependency;
+                }
+            }
+
+            //only the vertices reached were written to
+            for (int k = 0; k < count; k++) {
+
+                int v = order[k];
+                distances[v] = Double.POSITIVE_INFINITY;
+                paths[v] = 0;
+                dependencies[v] = 0;
+            }
+        }
+
+        /**
+         * Counts the shortest paths from source with a breadth first search.
+         *
+         * @return the number of vertices reached, which are in order.
+         */
+        private int bfs(int source) {
+
+            distances[source] = 0;
+            paths[source] = 1;
+            order[0] = source;
+            int count = 1;
+
+            for (int head = 0; head < count; head++) {
+
+                int v = order[head];
+                double next = distances[v] + 1;
+
+                for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                    int w = g.target(e);
+
+                    if (distances[w] == Double.POSITIVE_INFINITY) {
+
+                        distances[w] = next;
+                        order[count++] = w;
+                    }
+
+                    if (distances[w] == next) {
+                        paths[w] += paths[v];
+                    }
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Counts the shortest paths from source with Djikstra's algorithm.
+         *
+         * @return the number of vertices reached, which are in order.
+         */
+        private int dijkstra(int source) {
+
+            int size = 0;
+            int count = 0;
+
+            distances[source] = 0;
+            paths[source] = 1;
+            size = DoubleHeap.push(heapKeys, heapValues, size, 0, source);
+
+            while (size > 0) {
+
+                double d = heapKeys[0];
+                int v = heapValues[0];
+                size = DoubleHeap.pop(heapKeys, heapValues, size);
+
+                //an old entry for a vertex whose distance has gone down since
+                if (d > distances[v]) {
+                    continue;
+                }
+
+                order[count++] = v;
+
+                for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                    int w = g.target(e);
+                    double distance = d + g.weight(e);
+
+                    if (w == v) {
+                        continue;
+                    }
+
+                    if (distance < distances[w]) {
+
+                        distances[w] = distance;
+                        paths[w] = paths[v];
+                        size = DoubleHeap.push(heapKeys, heapValues, size, distance, w);
+                    }
+                    else if (distance == distances[w]) {
+
+                        paths[w] += paths[v];
+                    }
+                }
+            }
+
+            return count;
+        }
+    }
+}
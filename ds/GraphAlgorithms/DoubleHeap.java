@@ -0,0 +1,81 @@
+package ds.GraphAlgorithms;
+
+/**
+ * A binary min heap of int values by double keys, kept in two arrays the caller owns,
+ * so searches can reuse their arrays and push and pop allocate nothing. Entries are
+ * never moved up in place, searches push a vertex again when its key goes down and
+ * skip the old entries as they come out (a lazy decrease key).
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+final class DoubleHeap {
+
+    //~Constructors--------------------------------------------
+    private DoubleHeap() {}
+
+    //~Methods-------------------------------------------------
+    /**
+     * Adds an entry to the heap. The arrays must have room for one more entry.
+     *
+     * @param keys the keys of the heap.
+     * @param values the values of the heap.
+     * @param size the number of entries in the heap.
+     * @param key the key of the new entry.
+     * @param value the value of the new entry.
+     * @return the new size of the heap.
+     */
+    static int push(double[] keys, int[] values, int size, double key, int value) {
+
+        int i = size;
+
+        while (i > 0 && keys[(i - 1) >>> 1] > key) {
+
+            keys[i] = keys[(i - 1) >>> 1];
+            values[i] = values[(i - 1) >>> 1];
+            i = (i - 1) >>> 1;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        return size + 1;
+    }
+
+    /**
+     * Removes the entry with the smallest key, which is at index 0, so read it first.
+     *
+     * @param keys the keys of the heap.
+     * @param values the values of the heap.
+     * @param size the number of entries in the heap, above 0.
+     * @return the new size of the heap.
+     */
+    static int pop(double[] keys, int[] values, int size) {
+
+        size--;
+        double key = keys[size];
+        int value = values[size];
+        int i = 0;
+
+        while (2 * i + 1 < size) {
+
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+
+            if (keys[child] >= key) {
+                break;
+            }
+
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        return size;
+    }
+}
@@ -0,0 +1,562 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.MatrixListener;
+
+/**
+ * Answers "are u and v connected" on an undirected adjacency matrix in O(1) time,
+ * kept up to date as edges come and go, without searching the graph per query.
+ *
+ * Keeps a spanning forest of the graph, and the connected component of every vertex number.
+ * Components are circular linked lists of their vertex numbers, so they are joined in O(1)
+ * time and only the smaller one is relabeled.
+ * - Adding an edge between two components joins them, with the edge as a tree edge.
+ *   Adding one within a component changes nothing. Either way O(1) amortized, plus the
+ *   relabeling of the smaller component.
+ * - Removing an edge that isn't in the forest changes nothing, O(tree degree).
+ * - Removing a tree edge splits its tree in two. The smaller half is found by searching both
+ *   halves of the forest at once, stopping as soon as one is done. Then the rows of the
+ *   smaller half are scanned for a replacement edge back to the larger half. If there is one
+ *   it becomes a tree edge, otherwise the smaller half becomes a component of its own.
+ *   That costs O(V) per vertex of the smaller half, which is cheap while the halves are
+ *   lopsided, as they usually are. It isn't the polylog bound of Holm, de Lichtenberg and
+ *   Thorup, whose levels of edges don't fit over a matrix, whose rows are scanned anyway.
+ *
+ * Hooks into the matrix as a MatrixListener, so the matrix's own addEdge, removeEdge,
+ * removeVertex and compact keep it up to date. Vertex numbers with no vertex are components
+ * of their own, though edges added at them connect through them like any other edge.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public class DynamicConnectivity<T> {
+
+    //~Data Fields--------------------------------------------
+    private final AbstractAdjacencyMatrix<T> g;
+
+    private final MatrixListener listener;
+
+    /**
+     * The component of each vertex number.
+     */
+    private int[] component;
+
+    /**
+     * The circular list of the vertex numbers of each component, next and previous vertex number.
+     */
+    private int[] next;
+    private int[] previous;
+
+    /**
+     * The number of vertex numbers in each component.
+     */
+    private int[] size;
+
+    /**
+     * Stack of component numbers not in use. There are never more components than vertex numbers.
+     */
+    private int[] freeIds;
+    private int numFree;
+
+    /**
+     * The tree edges at each vertex number, treeEdges[v][0 .. treeDegree[v]).
+     */
+    private int[][] treeEdges;
+    private int[] treeDegree;
+
+    /**
+     * Scratch space for the search of the forest: marks, and a queue per half.
+     */
+    private int[] mark;
+    private int stamp;
+    private int[] queueA;
+    private int[] queueB;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Builds the forest of g. Use of to build one.
+     *
+     * @param g an undirected graph.
+     */
+    private DynamicConnectivity(AbstractAdjacencyMatrix<T> g) {
+
+        this.g = g;
+
+        listener = new MatrixListener() {
+
+            public void edgeAdded(int fromVertex, int toVertex) {
+
+                link(fromVertex, toVertex);
+            }
+
+            public void edgeRemoved(int fromVertex, int toVertex) {
+
+                cut(fromVertex, toVertex);
+            }
+
+            public void verticesRelabeled(int[] mapping) {
+
+                rebuild();
+            }
+        };
+
+        rebuild();
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Builds the connectivity of g, and starts listening to it.
+     *
+     * @param g an undirected graph.
+     * @return the connectivity of g, or null if g is directed.
+     */
+    public static <T> DynamicConnectivity<T> of(AbstractAdjacencyMatrix<T> g) {
+
+        if (g.isDirected()) {
+            return null;
+        }
+
+        DynamicConnectivity<T> connectivity = new DynamicConnectivity<T>(g);
+        g.addListener(connectivity.listener);
+
+        return connectivity;
+    }
+
+    /**
+     * Stops listening to the graph. Answers are no longer kept up to date afterwards.
+     */
+    public void detach() {
+
+        g.removeListener(listener);
+    }
+
+    /**
+     * Tells whether there is a path between the vertices numbered index1 and index2.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if both have a vertex and are connected, false otherwise.
+     */
+    public boolean connected(int index1, int index2) {
+
+        return g.getVertex(index1) != null && g.getVertex(index2) != null
+                && component(index1) == component(index2);
+    }
+
+    /**
+     * Tells whether there is a path between element1 and element2.
+     *
+     * @param element1 the first element.
+     * @param element2 the second element.
+     * @return true if both are in the graph and are connected, false otherwise.
+     */
+    public boolean connected(T element1, T element2) {
+
+        return connected(g.findVertex(element1), g.findVertex(element2));
+    }
+
+    /**
+     * Gets the component of the vertex numbered index. Two vertices are connected if and only
+     * if they have the same component. Component numbers change as edges change.
+     *
+     * @param index the vertex number.
+     * @return the component number, -1 if the number has no vertex.
+     */
+    public int componentOf(int index) {
+
+        return g.getVertex(index) != null ? component(index) : -1;
+    }
+
+    /**
+     * Tells the number of vertices connected to the vertex numbered index, itself included.
+     *
+     * @param index the vertex number.
+     * @return the size of its component, 0 if the number has no vertex.
+     */
+    public int componentSize(int index) {
+
+        return g.getVertex(index) != null ? size[component(index)] : 0;
+    }
+
+    /**
+     * Counts the connected components of the graph, in O(V) time.
+     *
+     * @return the number of components.
+     */
+    public int numComponents() {
+
+        //grow first, growing swaps in new marks and starts the stamps over
+        ensure(g.usedSlots() - 1);
+        nextStamp();
+        int count = 0;
+
+        for (int i = 0; i < g.usedSlots(); i++) {
+
+            if (g.getVertex(i) == null) {
+                continue;
+            }
+
+            int c = component(i);
+
+            if (mark[c] != stamp) {
+
+                mark[c] = stamp;
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the component of a vertex number, which may be past the end of the arrays
+     * if the graph grew since, in which case it's a component of its own.
+     *
+     * @param index the vertex number.
+     * @return the component number.
+     */
+    private int component(int index) {
+
+        ensure(index);
+
+        return component[index];
+    }
+
+    /**
+     * Makes every vertex number a component of its own, then adds every edge of the graph.
+     */
+    private void rebuild() {
+
+        int n = g.capacity();
+
+        component = new int[n];
+        next = new int[n];
+        previous = new int[n];
+        size = new int[n];
+        freeIds = new int[n];
+        numFree = 0;
+        treeEdges = new int[n][];
+        treeDegree = new int[n];
+        mark = new int[n];
+        stamp = 0;
+        queueA = new int[n];
+        queueB = new int[n];
+
+        for (int i = 0; i < n; i++) {
+
+            component[i] = i;
+            next[i] = i;
+            previous[i] = i;
+            size[i] = 1;
+        }
+
+        for (int i = 0; i < n; i++) {
+
+            for (int j = i; j < n; j++) {
+
+                if (g.hasEdge(i, j)) {
+                    link(i, j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Grows the arrays after the graph grew, so that index fits.
+     * New vertex numbers are components of their own, numbered as themselves, which are free
+     * since there were fewer vertex numbers, and so fewer components, before.
+     *
+     * @param index a vertex number.
+     */
+    private void ensure(int index) {
+
+        int old = component.length;
+
+        if (index < old) {
+            return;
+        }
+
+        int n = Math.max(g.capacity(), index + 1);
+
+        component = Arrays.copyOf(component, n);
+        next = Arrays.copyOf(next, n);
+        previous = Arrays.copyOf(previous, n);
+        size = Arrays.copyOf(size, n);
+        freeIds = Arrays.copyOf(freeIds, n);
+        treeEdges = Arrays.copyOf(treeEdges, n);
+        treeDegree = Arrays.copyOf(treeDegree, n);
+        mark = new int[n];
+        stamp = 0;
+        queueA = new int[n];
+        queueB = new int[n];
+
+        for (int i = old; i < n; i++) {
+
+            component[i] = i;
+            next[i] = i;
+            previous[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    /**
+     * Adds an edge, joining two components if it is between them.
+     *
+     * @param u one end of the edge.
+     * @param v the other end of the edge.
+     */
+    private void link(int u, int v) {
+
+        ensure(Math.max(u, v));
+
+        int cu = component[u];
+        int cv = component[v];
+
+        if (cu == cv) {
+            return;
+        }
+
+        addTreeEdge(u, v);
+
+        //relabel the smaller component into the larger one
+        int small = size[cu] < size[cv] ? cu : cv;
+        int large = small == cu ? cv : cu;
+        int start = small == cu ? u : v;
+        int other = small == cu ? v : u;
+
+        int x = start;
+        do {
+
+            component[x] = large;
+            x = next[x];
+        }
+        while (x != start);
+
+        //splice the two circular lists together
+        int afterStart = next[start];
+        int afterOther = next[other];
+
+        next[start] = afterOther;
+        previous[afterOther] = start;
+        next[other] = afterStart;
+        previous[afterStart] = other;
+
+        size[large] += size[small];
+        size[small] = 0;
+        freeIds[numFree++] = small;
+    }
+
+    /**
+     * Removes an edge. If it was a tree edge, looks for a replacement or splits the component.
+     *
+     * @param u one end of the edge.
+     * @param v the other end of the edge.
+     */
+    private void cut(int u, int v) {
+
+        //the replacement search below reads marks up to usedSlots(), and growing starts the stamps over
+        ensure(Math.max(Math.max(u, v), g.usedSlots() - 1));
+
+        if (u == v || !removeTreeEdge(u, v)) {
+            return;
+        }
+
+        removeTreeEdge(v, u);
+
+        //search both halves at once, the first to run out is the smaller
+        nextStamp();
+        int headA = 0;
+        int tailA = 0;
+        int headB = 0;
+        int tailB = 0;
+
+        queueA[tailA++] = u;
+        queueB[tailB++] = v;
+        mark[u] = stamp;
+        mark[v] = stamp;
+
+        int[] smaller;
+        int count;
+
+        while (true) {
+
+            if (headA == tailA) {
+
+                smaller = queueA;
+                count = tailA;
+                break;
+            }
+            if (headB == tailB) {
+
+                smaller = queueB;
+                count = tailB;
+                break;
+            }
+
+            tailA = expand(queueA[headA++], queueA, tailA);
+            tailB = expand(queueB[headB++], queueB, tailB);
+        }
+
+        //the marks of the other half get in the way of the replacement search, mark again
+        nextStamp();
+        for (int k = 0; k < count; k++) {
+
+            mark[smaller[k]] = stamp;
+        }
+
+        int n = g.usedSlots();
+
+        for (int k = 0; k < count; k++) {
+
+            int x = smaller[k];
+
+            for (int y = 0; y < n; y++) {
+
+                //the cut edge itself may still show in the matrix while it's being removed
+                boolean isCut = (x == u && y == v) || (x == v && y == u);
+
+                if (mark[y] != stamp && !isCut && g.hasEdge(x, y) && component(y) == component[x]) {
+
+                    addTreeEdge(x, y);
+
+                    return;
+                }
+            }
+        }
+
+        split(smaller, count);
+    }
+
+    /**
+     * Adds the tree neighbors of x not seen yet to a queue.
+     *
+     * @param x the vertex number to expand.
+     * @param queue the queue of its half of the forest.
+     * @param tail the end of the queue.
+     * @return the new end of the queue.
+     */
+    private int expand(int x, int[] queue, int tail) {
+
+        for (int k = 0; k < treeDegree[x]; k++) {
+
+            int y = treeEdges[x][k];
+
+            if (mark[y] != stamp) {
+
+                mark[y] = stamp;
+                queue[tail++] = y;
+            }
+        }
+
+        return tail;
+    }
+
+    /**
+     * Moves the vertex numbers of half of a split component to a new component.
+     *
+     * @param vertices the vertex numbers moving.
+     * @param count the number of them.
+     */
+    private void split(int[] vertices, int count) {
+
+        int id = freeIds[--numFree];
+        int old = component[vertices[0]];
+
+        for (int k = 0; k < count; k++) {
+
+            int x = vertices[k];
+
+            //unlink from the old list
+            next[previous[x]] = next[x];
+            previous[next[x]] = previous[x];
+
+            //link into the new one, after the first vertex moved
+            if (k == 0) {
+
+                next[x] = x;
+                previous[x] = x;
+            }
+            else {
+
+                int first = vertices[0];
+                next[x] = next[first];
+                previous[x] = first;
+                previous[next[first]] = x;
+                next[first] = x;
+            }
+
+            component[x] = id;
+        }
+
+        size[id] = count;
+        size[old] -= count;
+    }
+
+    /**
+     * Records the tree edge between u and v at both ends.
+     *
+     * @param u one end of the edge.
+     * @param v the other end of the edge.
+     */
+    private void addTreeEdge(int u, int v) {
+
+        push(u, v);
+        push(v, u);
+    }
+
+    /**
+     * Adds v to the tree edges of u.
+     *
+     * @param u the vertex number whose tree edges grow.
+     * @param v the vertex number at the other end.
+     */
+    private void push(int u, int v) {
+
+        if (treeEdges[u] == null) {
+
+            treeEdges[u] = new int[4];
+        }
+        else if (treeDegree[u] == treeEdges[u].length) {
+
+            treeEdges[u] = Arrays.copyOf(treeEdges[u], treeDegree[u] * 2);
+        }
+
+        treeEdges[u][treeDegree[u]++] = v;
+    }
+
+    /**
+     * Removes v from the tree edges of u, if it's there.
+     *
+     * @param u the vertex number whose tree edges shrink.
+     * @param v the vertex number at the other end.
+     * @return true if the edge was a tree edge, false otherwise.
+     */
+    private boolean removeTreeEdge(int u, int v) {
+
+        for (int k = 0; k < treeDegree[u]; k++) {
+
+            if (treeEdges[u][k] == v) {
+
+                treeEdges[u][k] = treeEdges[u][--treeDegree[u]];
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Moves on to the next search stamp, clearing the marks when the stamps wrap around.
+     */
+    private void nextStamp() {
+
+        if (++stamp == 0) {
+
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+    }
+}
@@ -0,0 +1,554 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.Edge;
+
+/**
+ * Keeps a topological order of a directed acyclic graph up to date as edges are added,
+ * without sorting the whole graph again (Pearce and Kelly's algorithm).
+ *
+ * Every vertex has a position in the order. Adding an edge from x to y that already goes
+ * forward in the order changes nothing. Otherwise only the vertices with positions between
+ * those of y and x can be affected: those reachable from y, and those that reach x.
+ * They are found by searches that never leave that range, and are given the same set of
+ * positions again, the ones reaching x first. An edge that would close a cycle is found by
+ * the same search, and is rejected, leaving the graph and the order as they were.
+ *
+ * The graph has to be changed through this class, so that the order sees every change.
+ * Removing edges or vertices never breaks a topological order, so those just pass through.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class DynamicTopologicalOrder<T, E extends Edge> {
+
+    //~Data Fields--------------------------------------------
+    private final AdjacencyMatrixInterface<T, E> g;
+
+    /**
+     * The position of each vertex number in the order, -1 for vertex numbers with no vertex.
+     */
+    private int[] ord;
+
+    /**
+     * The vertex number at each position, -1 for positions freed by removing a vertex.
+     */
+    private int[] order;
+
+    /**
+     * The next position handed to a new vertex, every position at or above it is free.
+     */
+    private int nextPos;
+
+    /**
+     * Search marks, vertex number i was reached by the current search if mark[i] == stamp.
+     */
+    private int[] mark;
+    private int stamp;
+
+    /**
+     * The vertex number each vertex was reached from by the forward search, for the cycle path.
+     */
+    private int[] parent;
+
+    /**
+     * Scratch stack for the searches, and the vertices each search found, as
+     * (position << 32 | vertex number) so that sorting them sorts them by position.
+     */
+    private int[] stack;
+    private long[] forward;
+    private long[] backward;
+    private int numForward;
+    private int numBackward;
+
+    /**
+     * The path that closed a cycle with the last edge rejected, null if the last add worked.
+     */
+    private List<T> cycle;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Wraps g with the given order already worked out. Use of to build one.
+     *
+     * @param g the graph.
+     * @param ord the position of each vertex number.
+     * @param count the number of positions used.
+     */
+    private DynamicTopologicalOrder(AdjacencyMatrixInterface<T, E> g, int[] ord, int count) {
+
+        this.g = g;
+        this.ord = ord;
+
+        order = new int[ord.length];
+        Arrays.fill(order, -1);
+
+        for (int i = 0; i < ord.length; i++) {
+
+            if (ord[i] != -1) {
+                order[ord[i]] = i;
+            }
+        }
+
+        nextPos = count;
+        mark = new int[ord.length];
+        parent = new int[ord.length];
+        stack = new int[ord.length];
+        forward = new long[ord.length];
+        backward = new long[ord.length];
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Sorts g topologically (Kahn's algorithm over the in degrees) and wraps it,
+     * so that the order can be kept up to date from then on.
+     *
+     * @param g a directed graph, which from now on should only be changed through the result.
+     * @return the order of g, or null if g is undirected or has a cycle.
+     */
+    public static <T, E extends Edge> DynamicTopologicalOrder<T, E> of(AdjacencyMatrixInterface<T, E> g) {
+
+        if (!g.isDirected()) {
+            return null;
+        }
+
+        int n = g.usedSlots();
+        int[] ord = new int[g.capacity()];
+        int[] remaining = new int[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+
+        Arrays.fill(ord, -1);
+
+        //count in edges between live vertices only, edges can sit at numbers with no vertex
+        for (int i = 0; i < n; i++) {
+
+            for (int j = 0; j < n && g.getVertex(i) != null; j++) {
+
+                if (g.hasEdge(i, j) && g.getVertex(j) != null) {
+                    remaining[j]++;
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+
+            if (g.getVertex(i) != null && remaining[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+
+        while (head < tail) {
+
+            int v = queue[head];
+            ord[v] = head++;
+
+            for (int j = 0; j < n; j++) {
+
+                if (g.hasEdge(v, j) && g.getVertex(j) != null && --remaining[j] == 0) {
+                    queue[tail++] = j;
+                }
+            }
+        }
+
+        //anything never freed of its in edges is on, or after, a cycle
+        if (tail != g.size()) {
+            return null;
+        }
+
+        return new DynamicTopologicalOrder<T, E>(g, ord, tail);
+    }
+
+    /**
+     * Gets the graph whose order this is.
+     *
+     * @return the graph.
+     */
+    public AdjacencyMatrixInterface<T, E> getGraph() {
+
+        return g;
+    }
+
+    /**
+     * Gets the vertices in topological order, every edge goes from an earlier one to a later one.
+     *
+     * @return the elements in order.
+     */
+    public List<T> getOrder() {
+
+        List<T> list = new LinkedList<T>();
+
+        for (int k = 0; k < nextPos; k++) {
+
+            if (order[k] != -1) {
+                list.add(g.getVertex(order[k]));
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Gets the position of the vertex numbered index in the order. Positions only say which
+     * vertex comes first, they aren't consecutive.
+     *
+     * @param index the vertex number.
+     * @return the position, -1 if the number has no vertex.
+     */
+    public int position(int index) {
+
+        return index > -1 && index < ord.length ? ord[index] : -1;
+    }
+
+    /**
+     * Tells whether element1 comes before element2 in the order.
+     *
+     * @param element1 the first element.
+     * @param element2 the second element.
+     * @return true if both are in the graph and element1 comes first, false otherwise.
+     */
+    public boolean precedes(T element1, T element2) {
+
+        int pos1 = position(g.findVertex(element1));
+        int pos2 = position(g.findVertex(element2));
+
+        return pos1 != -1 && pos2 != -1 && pos1 < pos2;
+    }
+
+    /**
+     * Gets the path that the last rejected edge would have closed into a cycle:
+     * the vertices from the edge's to vertex along existing edges to its from vertex.
+     * For a rejected self loop that's just the one vertex.
+     *
+     * @return the path, or null if the last addEdge didn't reject an edge.
+     */
+    public List<T> getCycle() {
+
+        return cycle;
+    }
+
+    /**
+     * Adds a vertex to the graph, at the end of the order.
+     *
+     * @param element the element to add.
+     * @return the vertex number of the new vertex.
+     */
+    public int addVertex(T element) {
+
+        int index = g.addVertex(element);
+
+        if (index >= ord.length) {
+            grow(g.capacity());
+        }
+
+        //positions are never reused, so squeeze out the free ones once they run out
+        if (nextPos == order.length) {
+            renumber();
+        }
+
+        ord[index] = nextPos;
+        order[nextPos++] = index;
+
+        return index;
+    }
+
+    /**
+     * Removes a vertex from the graph and from the order.
+     *
+     * @param element the element to remove.
+     * @return true if the element was in the graph, false otherwise.
+     */
+    public boolean removeVertex(T element) {
+
+        int index = g.findVertex(element);
+
+        if (index != -1 && g.removeVertex(index)) {
+
+            order[ord[index]] = -1;
+            ord[index] = -1;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the edge from element1 to element2. The order stays valid as it is.
+     *
+     * @param element1 the element the edge goes from.
+     * @param element2 the element the edge goes to.
+     * @return true if the edge existed, false otherwise.
+     */
+    public boolean removeEdge(T element1, T element2) {
+
+        return g.removeEdge(element1, element2);
+    }
+
+    /**
+     * Adds an edge of weight 1 from element1 to element2, unless it would close a cycle.
+     *
+     * @param element1 the element the edge goes from.
+     * @param element2 the element the edge goes to.
+     * @return true if the edge was added, false if it exists, would close a cycle
+     *          (see getCycle) or either element isn't in the graph.
+     */
+    public boolean addEdge(T element1, T element2) {
+
+        return addEdge(g.findVertex(element1), g.findVertex(element2), 1);
+    }
+
+    /**
+     * Adds an edge of weight weight from element1 to element2, unless it would close a cycle.
+     *
+     * @param element1 the element the edge goes from.
+     * @param element2 the element the edge goes to.
+     * @param weight the weight of the edge.
+     * @return true if the edge was added, false if it exists, would close a cycle
+     *          (see getCycle) or either element isn't in the graph.
+     */
+    public boolean addEdge(T element1, T element2, int weight) {
+
+        return addEdge(g.findVertex(element1), g.findVertex(element2), weight);
+    }
+
+    /**
+     * Adds an edge of weight weight from the vertex numbered from to the one numbered to,
+     * unless it would close a cycle. Reorders the vertices between the two if needed.
+     *
+     * @param from the vertex number the edge goes from.
+     * @param to the vertex number the edge goes to.
+     * @param weight the weight of the edge.
+     * @return true if the edge was added, false if it exists, would close a cycle
+     *          (see getCycle) or either number has no vertex.
+     */
+    public boolean addEdge(int from, int to, int weight) {
+
+        cycle = null;
+
+        if (position(from) == -1 || position(to) == -1 || g.hasEdge(from, to)) {
+            return false;
+        }
+
+        if (from == to) {
+
+            cycle = new LinkedList<T>();
+            cycle.add(g.getVertex(from));
+
+            return false;
+        }
+
+        int lower = ord[to];
+        int upper = ord[from];
+
+        //the edge already goes forward, or everything between has to be looked at
+        if (lower < upper) {
+
+            if (!searchForward(to, from, upper)) {
+
+                cycle = path(to, from);
+
+                return false;
+            }
+
+            searchBackward(from, lower);
+            reorder();
+        }
+
+        return g.addEdge(from, to, weight);
+    }
+
+    /**
+     * Finds the vertices reachable from start without passing position upper.
+     *
+     * @param start the vertex the new edge goes to.
+     * @param end the vertex the new edge comes from.
+     * @param upper the position of end.
+     * @return true if end can't be reached, false if it can, meaning the edge closes a cycle.
+     */
+    private boolean searchForward(int start, int end, int upper) {
+
+        int n = g.usedSlots();
+        int top = 0;
+
+        nextStamp();
+        numForward = 0;
+
+        mark[start] = stamp;
+        stack[top++] = start;
+
+        while (top > 0) {
+
+            int v = stack[--top];
+            forward[numForward++] = ((long) ord[v] << 32) | v;
+
+            for (int j = 0; j < n; j++) {
+
+                if (g.hasEdge(v, j) && ord[j] != -1) {
+
+                    if (j == end) {
+
+                        parent[end] = v;
+
+                        return false;
+                    }
+
+                    if (mark[j] != stamp && ord[j] < upper) {
+
+                        mark[j] = stamp;
+                        parent[j] = v;
+                        stack[top++] = j;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the vertices that reach start without passing position lower.
+     *
+     * @param start the vertex the new edge comes from.
+     * @param lower the position of the vertex the new edge goes to.
+     */
+    private void searchBackward(int start, int lower) {
+
+        int n = g.usedSlots();
+        int top = 0;
+
+        nextStamp();
+        numBackward = 0;
+
+        mark[start] = stamp;
+        stack[top++] = start;
+
+        while (top > 0) {
+
+            int v = stack[--top];
+            backward[numBackward++] = ((long) ord[v] << 32) | v;
+
+            for (int j = 0; j < n; j++) {
+
+                if (mark[j] != stamp && ord[j] > lower && g.hasEdge(j, v)) {
+
+                    mark[j] = stamp;
+                    stack[top++] = j;
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the positions of every vertex the two searches found back out, in the same
+     * relative order within each search, the vertices that reach the new edge first.
+     */
+    private void reorder() {
+
+        Arrays.sort(forward, 0, numForward);
+        Arrays.sort(backward, 0, numBackward);
+
+        //merge the two sets of positions, both sorted, into stack
+        int total = numBackward + numForward;
+        int b = 0;
+        int f = 0;
+
+        for (int k = 0; k < total; k++) {
+
+            if (f == numForward || (b < numBackward && backward[b] < forward[f])) {
+                stack[k] = (int) (backward[b++] >>> 32);
+            }
+            else {
+                stack[k] = (int) (forward[f++] >>> 32);
+            }
+        }
+
+        for (int k = 0; k < total; k++) {
+
+            int v = (int) (k < numBackward ? backward[k] : forward[k - numBackward]);
+
+            ord[v] = stack[k];
+            order[stack[k]] = v;
+        }
+    }
+
+    /**
+     * Follows the parents of the forward search back from end to start.
+     *
+     * @param start the vertex the search began at.
+     * @param end the vertex the search reached.
+     * @return the elements on the path from start to end.
+     */
+    private List<T> path(int start, int end) {
+
+        LinkedList<T> path = new LinkedList<T>();
+
+        for (int v = end; v != start; v = parent[v]) {
+
+            path.addFirst(g.getVertex(v));
+        }
+        path.addFirst(g.getVertex(start));
+
+        return path;
+    }
+
+    /**
+     * Moves on to the next search stamp, clearing the marks when the stamps wrap around.
+     */
+    private void nextStamp() {
+
+        if (++stamp == 0) {
+
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+    }
+
+    /**
+     * Makes room for vertex numbers up to size, after the graph grew.
+     *
+     * @param size the new number of vertex numbers.
+     */
+    private void grow(int size) {
+
+        int old = ord.length;
+
+        ord = Arrays.copyOf(ord, size);
+        Arrays.fill(ord, old, size, -1);
+
+        order = Arrays.copyOf(order, size);
+        Arrays.fill(order, old, size, -1);
+
+        mark = new int[size];
+        stamp = 0;
+        parent = new int[size];
+        stack = new int[size];
+        forward = new long[size];
+        backward = new long[size];
+    }
+
+    /**
+     * Hands out positions 0 up again, in the same order, leaving no free positions between.
+     */
+    private void renumber() {
+
+        int count = 0;
+
+        for (int k = 0; k < nextPos; k++) {
+
+            if (order[k] != -1) {
+
+                ord[order[k]] = count;
+                order[count++] = order[k];
+            }
+        }
+
+        Arrays.fill(order, count, order.length, -1);
+        nextPos = count;
+    }
+}
@@ -0,0 +1,180 @@
+package ds.GraphAlgorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import ds.Graph.Graph;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+
+/**
+ * A list of edges between vertex numbers 0 to numVertices() - 1, kept in two int arrays,
+ * as made by RandomGraphGenerator. Can be written into any Graph.
+ *
+ * In an undirected list each edge appears once, in either direction.
+ * Lists may hold duplicate edges and self loops (R-MAT makes both), writing them into
+ * a matrix collapses duplicates into one edge.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public class EdgeList {
+
+    //~Data Fields--------------------------------------------
+    private final int numVertices;
+
+    private final boolean directed;
+
+    /**
+     * Edge i goes from from[i] to to[i].
+     */
+    private final int[] from;
+
+    private final int[] to;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Makes an edge list out of the edges in from and to, which are kept, not copied.
+     *
+     * @param numVertices the number of vertices.
+     * @param directed true if the edges are directed, false otherwise.
+     * @param from the vertex number each edge goes from.
+     * @param to the vertex number each edge goes to.
+     */
+    public EdgeList(int numVertices, boolean directed, int[] from, int[] to) {
+
+        this.numVertices = numVertices;
+        this.directed = directed;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Joins the edges of each chunk, in order, into one edge list.
+     *
+     * @param numVertices the number of vertices.
+     * @param directed true if the edges are directed, false otherwise.
+     * @param chunks the from and to arrays of each chunk, and the number of edges they hold.
+     * @param counts the number of edges in each chunk.
+     * @return the joined edge list.
+     */
+    static EdgeList join(int numVertices, boolean directed, int[][][] chunks, int[] counts) {
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+
+        int[] from = new int[total];
+        int[] to = new int[total];
+
+        int offset = 0;
+        for (int c = 0; c < chunks.length; c++) {
+
+            System.arraycopy(chunks[c][0], 0, from, offset, counts[c]);
+            System.arraycopy(chunks[c][1], 0, to, offset, counts[c]);
+            offset += counts[c];
+        }
+
+        return new EdgeList(numVertices, directed, from, to);
+    }
+
+    //~Methods-------------------------------------------------
+    public int numVertices() {
+
+        return numVertices;
+    }
+
+    public int numEdges() {
+
+        return from.length;
+    }
+
+    public boolean isDirected() {
+
+        return directed;
+    }
+
+    public int getFrom(int edge) {
+
+        return from[edge];
+    }
+
+    public int getTo(int edge) {
+
+        return to[edge];
+    }
+
+    /**
+     * Adds a vertex to g for each vertex of the list, holding the element of the same
+     * number, and then adds all of the edges between them.
+     * Matrices, AbstractAdjacencyMatrix or AdjacencyMatrixInterface, are filled by vertex number,
+     * keeping the number each vertex got, so no edge has to look up its vertices.
+     * Other graphs are filled by element. The directedness of g wins over the directedness of the list.
+     *
+     * @param g the graph to write to.
+     * @param elements the element of each vertex, at least numVertices() long, no duplicates.
+     * @return the vertex number that each vertex got in g, or null if g isn't a matrix.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] writeTo(Graph<T> g, List<T> elements) {
+
+        AbstractAdjacencyMatrix<T> matrix = g instanceof AbstractAdjacencyMatrix
+                ? (AbstractAdjacencyMatrix<T>) g : null;
+        AdjacencyMatrixInterface<T, ?> numbered = g instanceof AdjacencyMatrixInterface
+                ? (AdjacencyMatrixInterface<T, ?>) g : null;
+
+        if (matrix == null && numbered == null) {
+
+            for (int v = 0; v < numVertices; v++) {
+
+                g.addVertex(elements.get(v));
+            }
+
+            for (int e = 0; e < from.length; e++) {
+
+                g.addEdge(elements.get(from[e]), elements.get(to[e]));
+            }
+
+            return null;
+        }
+
+        //the numbers of the vertices, looked up once here instead of by element for every edge
+        int[] numbers = new int[numVertices];
+
+        for (int v = 0; v < numVertices; v++) {
+
+            numbers[v] = g.addVertex(elements.get(v));
+        }
+
+        for (int e = 0; e < from.length; e++) {
+
+            if (matrix != null) {
+                matrix.addEdge(numbers[from[e]], numbers[to[e]]);
+            }
+            else {
+                numbered.addEdge(numbers[from[e]], numbers[to[e]]);
+            }
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Writes the list into g with the vertex numbers as the elements,
+     * see writeTo(Graph, List).
+     *
+     * @param g the graph to write to.
+     * @return the vertex number that each vertex got in g, or null if g isn't a matrix.
+     */
+    public int[] writeTo(Graph<Integer> g) {
+
+        List<Integer> elements = new ArrayList<Integer>(numVertices);
+
+        for (int v = 0; v < numVertices; v++) {
+
+            elements.add(v);
+        }
+
+        return writeTo(g, elements);
+    }
+}
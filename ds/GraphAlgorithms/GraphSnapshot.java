@@ -0,0 +1,457 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import ds.Graph.Graph;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+/**
+ * An immutable copy of a graph in compressed sparse row form: the edges from each vertex
+ * are stored one after another in a single array, so walking a vertex's edges is a
+ * sequential scan of only the edges that exist, and the whole graph takes O(V + E) memory.
+ * Since it never changes, any number of threads can read it at once without locking.
+ *
+ * Vertex numbers are the ones of the graph it was taken from (for matrices), numbers with
+ * no vertex have no edges. The edges from vertex v are at edgesStart(v) to edgesEnd(v) - 1,
+ * in increasing order of target. An undirected edge is stored from both of its vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public final class GraphSnapshot<T> {
+
+    //~Data Fields--------------------------------------------
+    /**
+     * The element at each vertex number, null where there is no vertex.
+     */
+    private final T[] elements;
+
+    /**
+     * The vertex number of each element.
+     */
+    private final Map<T, Integer> numbers;
+
+    /**
+     * The edges from vertex v are at offsets[v] to offsets[v + 1] - 1 of targets and weights.
+     */
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final double[] weights;
+
+    private final boolean directed;
+
+    //~Constructors--------------------------------------------
+    private GraphSnapshot(T[] elements, int[] offsets, int[] targets, double[] weights, boolean directed) {
+
+        this.elements = elements;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.directed = directed;
+
+        numbers = new HashMap<T, Integer>();
+        for (int v = 0; v < elements.length; v++) {
+
+            if (elements[v] != null) {
+                numbers.put(elements[v], v);
+            }
+        }
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Takes a snapshot of a matrix, keeping its vertex numbers and edge weights.
+     * Edges to or from vertex numbers with no vertex are left out.
+     *
+     * @param g the matrix to take a snapshot of.
+     * @return the snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> GraphSnapshot<T> fromMatrix(G g) {
+
+        int n = g.usedSlots();
+        T[] elements = (T[]) new Object[n];
+        int[] offsets = new int[n + 1];
+
+        for (int v = 0; v < n; v++) {
+
+            elements[v] = g.getVertex(v);
+        }
+
+        //count, then fill
+        for (int v = 0; v < n; v++) {
+
+            int count = 0;
+
+            for (int w = 0; elements[v] != null && w < n; w++) {
+
+                if (elements[w] != null && g.hasEdge(v, w)) {
+                    count++;
+                }
+            }
+
+            offsets[v + 1] = offsets[v] + count;
+        }
+
+        int[] targets = new int[offsets[n]];
+        double[] weights = new double[offsets[n]];
+
+        for (int v = 0; v < n; v++) {
+
+            int e = offsets[v];
+
+            for (int w = 0; e < offsets[v + 1]; w++) {
+
+                if (elements[w] != null && g.hasEdge(v, w)) {
+
+                    targets[e] = w;
+                    weights[e++] = g.weightOf(v, w);
+                }
+            }
+        }
+
+        return new GraphSnapshot<T>(elements, offsets, targets, weights, g.isDirected());
+    }
+
+    /**
+     * Takes a snapshot of any Graph. Vertices are numbered in the order of g.getVertices(),
+     * and every edge gets a weight of 1.
+     *
+     * @param g the graph to take a snapshot of.
+     * @return the snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GraphSnapshot<T> fromGraph(Graph<T> g) {
+
+        List<T> vertices = g.getVertices();
+        int n = vertices.size();
+        T[] elements = (T[]) vertices.toArray();
+        Map<T, Integer> numbers = new HashMap<T, Integer>();
+
+        for (int v = 0; v < n; v++) {
+
+            numbers.put(elements[v], v);
+        }
+
+        int[][] rows = new int[n][];
+        int[] offsets = new int[n + 1];
+
+        for (int v = 0; v < n; v++) {
+
+            List<T> edges = g.getEdgesTo(elements[v]);
+            int[] row = new int[edges.size()];
+            int e = 0;
+
+            for (T w : edges) {
+
+                row[e++] = numbers.get(w);
+            }
+
+            Arrays.sort(row);
+            rows[v] = row;
+            offsets[v + 1] = offsets[v] + row.length;
+        }
+
+        int[] targets = new int[offsets[n]];
+        double[] weights = new double[offsets[n]];
+
+        for (int v = 0; v < n; v++) {
+
+            System.arraycopy(rows[v], 0, targets, offsets[v], rows[v].length);
+        }
+        Arrays.fill(weights, 1);
+
+        return new GraphSnapshot<T>(elements, offsets, targets, weights, g.isDirected());
+    }
+
+    /**
+     * Takes a snapshot of an edge list, without building a graph from it first, so that it
+     * works for far more vertices than a matrix could hold. Vertex v holds the Integer v,
+     * every edge gets a weight of 1, and duplicate edges are kept once.
+     *
+     * @param edges the edge list.
+     * @return the snapshot.
+     */
+    public static GraphSnapshot<Integer> fromEdgeList(EdgeList edges) {
+
+        int n = edges.numVertices();
+        boolean directed = edges.isDirected();
+        Integer[] elements = new Integer[n];
+        int[] offsets = new int[n + 1];
+
+        for (int v = 0; v < n; v++) {
+
+            elements[v] = v;
+        }
+
+        //count, then fill, an undirected edge from both of its vertices
+        for (int e = 0; e < edges.numEdges(); e++) {
+
+            offsets[edges.getFrom(e) + 1]++;
+
+            if (!directed && edges.getFrom(e) != edges.getTo(e)) {
+                offsets[edges.getTo(e) + 1]++;
+            }
+        }
+
+        for (int v = 0; v < n; v++) {
+
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] next = Arrays.copyOf(offsets, n);
+
+        for (int e = 0; e < edges.numEdges(); e++) {
+
+            int from = edges.getFrom(e);
+            int to = edges.getTo(e);
+
+            targets[next[from]++] = to;
+
+            if (!directed && from != to) {
+                targets[next[to]++] = from;
+            }
+        }
+
+        return sorted(elements, offsets, targets, directed);
+    }
+
+    /**
+     * Makes a copy of this snapshot with its vertices moved to new vertex numbers,
+     * for example to put vertices that are used together next to each other (see VertexOrder).
+     * The edges and their weights move with their vertices, so the answers of a search on the
+     * copy map back to this snapshot through mapping.
+     *
+     * @param mapping the new vertex number of each vertex number, at least usedSlots() long.
+     *          Vertices mapped to -1 are left out, along with their edges.
+     * @return the renumbered snapshot, null if two vertices get the same number,
+     *          or a vertex number below -1.
+     */
+    @SuppressWarnings("unchecked")
+    public GraphSnapshot<T> renumber(int[] mapping) {
+
+        int n = elements.length;
+
+        if (mapping == null || mapping.length < n) {
+            return null;
+        }
+
+        int newN = 0;
+        for (int v = 0; v < n; v++) {
+
+            if (elements[v] != null) {
+
+                if (mapping[v] < -1) {
+                    return null;
+                }
+
+                newN = Math.max(newN, mapping[v] + 1);
+            }
+        }
+
+        T[] newElements = (T[]) new Object[newN];
+        int[] newOffsets = new int[newN + 1];
+
+        for (int v = 0; v < n; v++) {
+
+            if (elements[v] == null || mapping[v] == -1) {
+                continue;
+            }
+
+            if (newElements[mapping[v]] != null) {
+                return null;
+            }
+
+            newElements[mapping[v]] = elements[v];
+
+            int count = 0;
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+
+                if (mapping[targets[e]] != -1) {
+                    count++;
+                }
+            }
+
+            newOffsets[mapping[v] + 1] = count;
+        }
+
+        for (int v = 0; v < newN; v++) {
+
+            newOffsets[v + 1] += newOffsets[v];
+        }
+
+        int[] newTargets = new int[newOffsets[newN]];
+        double[] newWeights = new double[newOffsets[newN]];
+        long[] row = new long[0];
+
+        for (int v = 0; v < n; v++) {
+
+            if (elements[v] == null || mapping[v] == -1) {
+                continue;
+            }
+
+            //sort the edges by new target, carrying the index of each edge along
+            int count = newOffsets[mapping[v] + 1] - newOffsets[mapping[v]];
+            if (row.length < count) {
+                row = new long[count];
+            }
+
+            int k = 0;
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+
+                if (mapping[targets[e]] != -1) {
+                    row[k++] = ((long) mapping[targets[e]] << 32) | e;
+                }
+            }
+
+            Arrays.sort(row, 0, count);
+
+            int start = newOffsets[mapping[v]];
+            for (k = 0; k < count; k++) {
+
+                newTargets[start + k] = (int) (row[k] >>> 32);
+                newWeights[start + k] = weights[(int) row[k]];
+            }
+        }
+
+        return new GraphSnapshot<T>(newElements, newOffsets, newTargets, newWeights, directed);
+    }
+
+    /**
+     * Sorts the edges from every vertex by target and drops duplicates, then makes the snapshot.
+     * Every edge gets a weight of 1.
+     *
+     * @param elements the element at each vertex number.
+     * @param offsets the edges from vertex v are at offsets[v] to offsets[v + 1] - 1 of targets.
+     * @param targets the vertex number each edge goes to.
+     * @param directed true if the edges are directed, false otherwise.
+     * @return the snapshot.
+     */
+    private static <T> GraphSnapshot<T> sorted(T[] elements, int[] offsets, int[] targets, boolean directed) {
+
+        int n = elements.length;
+        int kept = 0;
+        int start = 0;
+
+        for (int v = 0; v < n; v++) {
+
+            int end = offsets[v + 1];
+            Arrays.sort(targets, start, end);
+
+            //offsets[v] already points at where row v was moved to
+            for (int e = start; e < end; e++) {
+
+                if (e == start || targets[e] != targets[kept - 1]) {
+                    targets[kept++] = targets[e];
+                }
+            }
+
+            start = end;
+            offsets[v + 1] = kept;
+        }
+
+        targets = Arrays.copyOf(targets, kept);
+        double[] weights = new double[kept];
+        Arrays.fill(weights, 1);
+
+        return new GraphSnapshot<T>(elements, offsets, targets, weights, directed);
+    }
+
+    /**
+     * Tells the number of vertex numbers, no vertex number at or above this holds a vertex.
+     *
+     * @return one past the highest vertex number.
+     */
+    public int usedSlots() {
+
+        return elements.length;
+    }
+
+    /**
+     * Tells the number of vertices.
+     *
+     * @return the number of vertices.
+     */
+    public int size() {
+
+        return numbers.size();
+    }
+
+    /**
+     * Tells the number of stored edges, an undirected edge is stored twice (once for a self loop).
+     *
+     * @return the number of stored edges.
+     */
+    public int numStoredEdges() {
+
+        return targets.length;
+    }
+
+    public boolean isDirected() {
+
+        return directed;
+    }
+
+    /**
+     * Gets the element at a vertex number.
+     *
+     * @param number the vertex number.
+     * @return the element, null if the number is invalid or has no vertex.
+     */
+    public T getVertex(int number) {
+
+        return number > -1 && number < elements.length ? elements[number] : null;
+    }
+
+    /**
+     * Finds the vertex number of an element, in O(1) time.
+     *
+     * @param element the element to find.
+     * @return the vertex number, -1 if element isn't in the snapshot.
+     */
+    public int findVertex(T element) {
+
+        Integer number = element == null ? null : numbers.get(element);
+
+        return number == null ? -1 : number;
+    }
+
+    /**
+     * The index of the first edge from v. Assumes a valid vertex number.
+     */
+    public int edgesStart(int v) {
+
+        return offsets[v];
+    }
+
+    /**
+     * One past the index of the last edge from v. Assumes a valid vertex number.
+     */
+    public int edgesEnd(int v) {
+
+        return offsets[v + 1];
+    }
+
+    /**
+     * The vertex number that edge e goes to.
+     */
+    public int target(int e) {
+
+        return targets[e];
+    }
+
+    /**
+     * The weight of edge e.
+     */
+    public double weight(int e) {
+
+        return weights[e];
+    }
+}
@@ -0,0 +1,327 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+/**
+ * Solves the assignment problem with the Hungarian (Kuhn-Munkres) algorithm: matches every
+ * row of a cost matrix to a different column so that the total cost is as low as possible,
+ * in O(rows^2 * cols) time. For the highest total instead, negate the costs.
+ *
+ * The rows are added one at a time, each by a Dijkstra-like search over the columns with
+ * reduced costs (cost - u[row] - v[col]) kept non-negative by the potentials u and v.
+ *
+ * A solver keeps its scratch arrays between calls and only grows them, so solving again and
+ * again takes no allocation besides the answer, and solving takes none per row or step.
+ * A solver isn't thread safe, use one per thread.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public final class HungarianAssignment {
+
+    //~Data Fields--------------------------------------------
+    /**
+     * The potentials of the rows and the columns, 1 based, index 0 is a dummy.
+     */
+    private double[] u;
+
+    private double[] v;
+
+    /**
+     * The row (1 based) matched to each column, 0 if none.
+     */
+    private int[] p;
+
+    /**
+     * The column before each column on the shortest path found to it.
+     */
+    private int[] way;
+
+    /**
+     * The lowest reduced cost from a row on the path to each column.
+     */
+    private double[] minv;
+
+    private boolean[] used;
+
+    /**
+     * The cost matrix built by the WeightedMatrix version, and the transpose of tall matrices.
+     */
+    private double[][] buffer;
+
+    private double cost;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Makes a solver with no scratch space yet.
+     */
+    public HungarianAssignment() {
+
+        u = new double[1];
+        v = new double[1];
+        p = new int[1];
+        way = new int[1];
+        minv = new double[1];
+        used = new boolean[1];
+        buffer = new double[0][];
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Finds an assignment of least total cost. If there are more rows than columns, every
+     * column gets a row instead, and the rest of the rows get none. An infinite cost means
+     * the row can't be matched to the column.
+     *
+     * @param costs the cost of matching each row to each column, a rectangle.
+     * @return the column matched to each row, -1 for unmatched rows, or null if the smaller side
+     *          can't be matched completely without an infinite cost, or costs is empty.
+     */
+    public int[] solve(double[][] costs) {
+
+        cost = Double.NaN;
+
+        int rows = costs.length;
+        int cols = rows == 0 ? 0 : costs[0].length;
+
+        if (rows == 0 || cols == 0) {
+            return null;
+        }
+
+        if (rows <= cols) {
+            return assign(costs, rows, cols);
+        }
+
+        //tall, solve the transpose and turn the answer around
+        double[][] transpose = buffer(cols, rows);
+        for (int i = 0; i < rows; i++) {
+
+            for (int j = 0; j < cols; j++) {
+
+                transpose[j][i] = costs[i][j];
+            }
+        }
+
+        int[] columnsRows = assign(transpose, cols, rows);
+        if (columnsRows == null) {
+            return null;
+        }
+
+        int[] match = new int[rows];
+        Arrays.fill(match, -1);
+
+        for (int j = 0; j < cols; j++) {
+
+            match[columnsRows[j]] = j;
+        }
+
+        return match;
+    }
+
+    /**
+     * Finds an assignment of least total weight between two sides of a bipartite graph,
+     * the weights of the edges from left to right being the costs. Pairs with no edge can't be matched.
+     *
+     * @param g the graph, or any weight matrix.
+     * @param left the vertex numbers of one side.
+     * @param right the vertex numbers of the other side.
+     * @return the vertex number in right matched to each vertex in left, -1 for unmatched ones,
+     *          or null if the smaller side can't be matched completely, or a side is empty.
+     */
+    public int[] solve(WeightedMatrix g, int[] left, int[] right) {
+
+        cost = Double.NaN;
+
+        if (left.length == 0 || right.length == 0) {
+            return null;
+        }
+
+        boolean tall = left.length > right.length;
+        int rows = tall ? right.length : left.length;
+        int cols = tall ? left.length : right.length;
+        double[][] costs = buffer(rows, cols);
+
+        for (int i = 0; i < rows; i++) {
+
+            double[] row = costs[i];
+
+            for (int j = 0; j < cols; j++) {
+
+                int from = tall ? left[j] : left[i];
+                int to = tall ? right[i] : right[j];
+
+                row[j] = g.hasEdge(from, to) ? g.weightOf(from, to) : Double.POSITIVE_INFINITY;
+            }
+        }
+
+        int[] assigned = assign(costs, rows, cols);
+        if (assigned == null) {
+            return null;
+        }
+
+        int[] match = new int[left.length];
+        Arrays.fill(match, -1);
+
+        for (int i = 0; i < rows; i++) {
+
+            if (tall) {
+                match[assigned[i]] = right[i];
+            }
+            else {
+                match[i] = right[assigned[i]];
+            }
+        }
+
+        return match;
+    }
+
+    /**
+     * Tells the total cost of the last assignment found.
+     *
+     * @return the total cost, NaN if the last solve found none.
+     */
+    public double cost() {
+
+        return cost;
+    }
+
+    /**
+     * Gets a rows x cols scratch matrix, growing the buffer if needed.
+     */
+    private double[][] buffer(int rows, int cols) {
+
+        if (buffer.length < rows) {
+            buffer = Arrays.copyOf(buffer, rows);
+        }
+
+        for (int i = 0; i < rows; i++) {
+
+            if (buffer[i] == null || buffer[i].length < cols) {
+                buffer[i] = new double[cols];
+            }
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Grows the scratch arrays to hold cols columns and rows rows.
+     */
+    private void ensure(int rows, int cols) {
+
+        if (u.length <= rows) {
+            u = new double[rows + 1];
+        }
+
+        if (v.length <= cols) {
+
+            v = new double[cols + 1];
+            p = new int[cols + 1];
+            way = new int[cols + 1];
+            minv = new double[cols + 1];
+            used = new boolean[cols + 1];
+        }
+    }
+
+    /**
+     * Runs the Hungarian algorithm on the first rows rows and cols columns of costs.
+     *
+     * @param costs the costs, rows <= cols.
+     * @param rows the number of rows.
+     * @param cols the number of columns.
+     * @return the column matched to each row, null if some row can't be matched.
+     */
+    private int[] assign(double[][] costs, int rows, int cols) {
+
+        ensure(rows, cols);
+        Arrays.fill(u, 0, rows + 1, 0);
+        Arrays.fill(v, 0, cols + 1, 0);
+        Arrays.fill(p, 0, cols + 1, 0);
+
+        for (int i = 1; i <= rows; i++) {
+
+            //column 0 is a dummy that row i starts matched to
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, 0, cols + 1, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, 0, cols + 1, false);
+
+            //grow a tree of tight edges until it reaches a free column
+            do {
+
+                used[j0] = true;
+                int i0 = p[j0];
+                double[] row = costs[i0 - 1];
+                double ui0 = u[i0];
+                double delta = Double.POSITIVE_INFINITY;
+                int j1 = 0;
+
+                for (int j = 1; j <= cols; j++) {
+
+                    if (used[j]) {
+                        continue;
+                    }
+
+                    double reduced = row[j - 1] - ui0 - v[j];
+
+                    if (reduced < minv[j]) {
+
+                        minv[j] = reduced;
+                        way[j] = j0;
+                    }
+
+                    if (minv[j] < delta) {
+
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+
+                if (delta == Double.POSITIVE_INFINITY) {
+                    return null;
+                }
+
+                for (int j = 0; j <= cols; j++) {
+
+                    if (used[j]) {
+
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    }
+                    else {
+
+                        minv[j] -= delta;
+                    }
+                }
+
+                j0 = j1;
+
+            } while (p[j0] != 0);
+
+            //flip the matching along the path
+            do {
+
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+
+            } while (j0 != 0);
+        }
+
+        int[] match = new int[rows];
+        double total = 0;
+
+        for (int j = 1; j <= cols; j++) {
+
+            if (p[j] != 0) {
+
+                match[p[j] - 1] = j - 1;
+                total += costs[p[j] - 1][j - 1];
+            }
+        }
+
+        cost = total;
+
+        return match;
+    }
+}
@@ -0,0 +1,643 @@
+package ds.GraphAlgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+/**
+ * A maximum flow from a source to a sink of a directed graph, where the weight of every edge
+ * is its capacity, and the minimum cut that comes with it.
+ *
+ * pushRelabel is highest label push-relabel with the gap heuristic, best for dense graphs.
+ * dinic is Dinic's blocking flow algorithm, best for sparse graphs and graphs of unit capacity.
+ * Both work on a residual network of primitive arrays built from a GraphSnapshot (taken of the
+ * matrix, for matrices), in which every edge is an arc and has a reverse arc of no capacity.
+ * The flow answers are in the vertex numbers of the graph.
+ *
+ * Edges of weight 0 or less, and self loops, carry no flow.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public final class MaxFlow<T> {
+
+    //~Data Fields--------------------------------------------
+    private final GraphSnapshot<T> g;
+
+    private final int n;
+
+    private final int source;
+
+    private final int sink;
+
+    /**
+     * The arcs from vertex v are at arcStart[v] to arcStart[v + 1] - 1.
+     */
+    private final int[] arcStart;
+
+    /**
+     * The vertex each arc goes to.
+     */
+    private final int[] arcTo;
+
+    /**
+     * The capacity left on each arc.
+     */
+    private final double[] residual;
+
+    /**
+     * The index of the reverse of each arc.
+     */
+    private final int[] reverse;
+
+    /**
+     * The arc of each edge of the snapshot, -1 for edges that carry no flow.
+     */
+    private final int[] edgeArc;
+
+    private double value;
+
+    /**
+     * True for the vertices on the source side of the minimum cut.
+     */
+    private boolean[] sourceSide;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Builds the residual network of g, with no flow yet.
+     */
+    private MaxFlow(GraphSnapshot<T> g, int source, int sink) {
+
+        this.g = g;
+        this.source = source;
+        this.sink = sink;
+
+        n = g.usedSlots();
+        arcStart = new int[n + 1];
+        edgeArc = new int[g.numStoredEdges()];
+
+        //count, then fill, an edge's arc at its start and the reverse arc at its end
+        for (int v = 0; v < n; v++) {
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                if (carries(v, e)) {
+
+                    arcStart[v + 1]++;
+                    arcStart[g.target(e) + 1]++;
+                }
+            }
+        }
+
+        for (int v = 0; v < n; v++) {
+
+            arcStart[v + 1] += arcStart[v];
+        }
+
+        arcTo = new int[arcStart[n]];
+        residual = new double[arcStart[n]];
+        reverse = new int[arcStart[n]];
+        int[] next = Arrays.copyOf(arcStart, n);
+
+        for (int v = 0; v < n; v++) {
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                if (!carries(v, e)) {
+
+                    edgeArc[e] = -1;
+                    continue;
+                }
+
+                int w = g.target(e);
+                int forward = next[v]++;
+                int back = next[w]++;
+
+                arcTo[forward] = w;
+                residual[forward] = g.weight(e);
+                reverse[forward] = back;
+
+                arcTo[back] = v;
+                reverse[back] = forward;
+
+                edgeArc[e] = forward;
+            }
+        }
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Finds a maximum flow with highest label push-relabel.
+     *
+     * @param g the directed graph, whose edge weights are the capacities.
+     * @param source the vertex number the flow starts from.
+     * @param sink the vertex number the flow ends at.
+     * @return the flow, null if g is undirected, or source or sink is invalid, or they're the same.
+     */
+    public static <T> MaxFlow<T> pushRelabel(GraphSnapshot<T> g, int source, int sink) {
+
+        if (!valid(g, source, sink)) {
+            return null;
+        }
+
+        MaxFlow<T> flow = new MaxFlow<T>(g, source, sink);
+        flow.pushRelabel();
+        flow.finish();
+
+        return flow;
+    }
+
+    /**
+     * Finds a maximum flow with highest label push-relabel, on a snapshot of the matrix g.
+     *
+     * @param g the directed matrix, whose edge weights are the capacities.
+     * @param source the vertex number the flow starts from.
+     * @param sink the vertex number the flow ends at.
+     * @return the flow, null if g is undirected, or source or sink is invalid, or they're the same.
+     */
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> MaxFlow<T> pushRelabel(G g,
+            int source, int sink) {
+
+        return g.isDirected() ? pushRelabel(GraphSnapshot.fromMatrix(g), source, sink) : null;
+    }
+
+    /**
+     * Finds a maximum flow with Dinic's algorithm.
+     *
+     * @param g the directed graph, whose edge weights are the capacities.
+     * @param source the vertex number the flow starts from.
+     * @param sink the vertex number the flow ends at.
+     * @return the flow, null if g is undirected, or source or sink is invalid, or they're the same.
+     */
+    public static <T> MaxFlow<T> dinic(GraphSnapshot<T> g, int source, int sink) {
+
+        if (!valid(g, source, sink)) {
+            return null;
+        }
+
+        MaxFlow<T> flow = new MaxFlow<T>(g, source, sink);
+        flow.dinic();
+        flow.finish();
+
+        return flow;
+    }
+
+    /**
+     * Finds a maximum flow with Dinic's algorithm, on a snapshot of the matrix g.
+     *
+     * @param g the directed matrix, whose edge weights are the capacities.
+     * @param source the vertex number the flow starts from.
+     * @param sink the vertex number the flow ends at.
+     * @return the flow, null if g is undirected, or source or sink is invalid, or they're the same.
+     */
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> MaxFlow<T> dinic(G g,
+            int source, int sink) {
+
+        return g.isDirected() ? dinic(GraphSnapshot.fromMatrix(g), source, sink) : null;
+    }
+
+    private static boolean valid(GraphSnapshot<?> g, int source, int sink) {
+
+        return g.isDirected() && g.getVertex(source) != null && g.getVertex(sink) != null && source != sink;
+    }
+
+    /**
+     * Tells whether edge e, from v, gets an arc.
+     */
+    private boolean carries(int v, int e) {
+
+        return g.target(e) != v && g.weight(e) > 0;
+    }
+
+    /**
+     * Runs highest label push-relabel. Vertices are labeled with their distance to the sink
+     * in the residual network to start with, and the active vertex (one with excess) of highest
+     * label is always discharged next. When a label below n loses its last vertex, no vertex
+     * above it can reach the sink any more, so they're all lifted to n at once (the gap heuristic),
+     * and only push their excess back to the source from then on.
+     */
+    private void pushRelabel() {
+
+        int[] label = new int[n];
+        double[] excess = new double[n];
+        int[] current = Arrays.copyOf(arcStart, n);
+
+        //the active vertices of each label, as stacks linked through next
+        int[] heads = new int[2 * n];
+        int[] next = new int[n];
+        int[] count = new int[2 * n + 1];
+        Arrays.fill(heads, -1);
+
+        //exact distances to the sink, by a search backwards from it
+        Arrays.fill(label, n);
+        int[] queue = new int[n];
+        label[sink] = 0;
+        queue[0] = sink;
+
+        for (int head = 0, tail = 1; head < tail; head++) {
+
+            int w = queue[head];
+
+            for (int a = arcStart[w]; a < arcStart[w + 1]; a++) {
+
+                int v = arcTo[a];
+
+                if (label[v] == n && v != source && residual[reverse[a]] > 0) {
+
+                    label[v] = label[w] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        label[source] = n;
+        for (int v = 0; v < n; v++) {
+
+            count[label[v]]++;
+        }
+
+        int highest = -1;
+
+        for (int a = arcStart[source]; a < arcStart[source + 1]; a++) {
+
+            int w = arcTo[a];
+            double delta = residual[a];
+
+            if (delta == 0) {
+                continue;
+            }
+
+            residual[a] = 0;
+            residual[reverse[a]] += delta;
+
+            if (excess[w] == 0 && w != sink && w != source) {
+
+                next[w] = heads[label[w]];
+                heads[label[w]] = w;
+                highest = Math.max(highest, label[w]);
+            }
+
+            excess[w] += delta;
+        }
+
+        while (true) {
+
+            while (highest >= 0 && heads[highest] == -1) {
+                highest--;
+            }
+
+            if (highest < 0) {
+                break;
+            }
+
+            int v = heads[highest];
+            heads[highest] = next[v];
+
+            //discharge v
+            while (excess[v] > 0) {
+
+                if (current[v] == arcStart[v + 1]) {
+
+                    int old = label[v];
+                    int lowest = 2 * n - 2;
+
+                    for (int a = arcStart[v]; a < arcStart[v + 1]; a++) {
+
+                        if (residual[a] > 0) {
+                            lowest = Math.min(lowest, label[arcTo[a]]);
+                        }
+                    }
+
+                    count[old]--;
+                    label[v] = lowest + 1;
+
+                    //v is the highest active vertex, so every vertex lifted by a gap is inactive
+                    if (old < n && count[old] == 0) {
+
+                        for (int w = 0; w < n; w++) {
+
+                            if (label[w] > old && label[w] < n && w != v) {
+
+                                count[label[w]]--;
+                                label[w] = n;
+                                count[n]++;
+                            }
+                        }
+
+                        label[v] = Math.max(label[v], n);
+                    }
+
+                    count[label[v]]++;
+                    current[v] = arcStart[v];
+
+                    continue;
+                }
+
+                int a = current[v];
+                int w = arcTo[a];
+
+                if (residual[a] > 0 && label[v] == label[w] + 1) {
+
+                    double delta = Math.min(excess[v], residual[a]);
+
+                    residual[a] -= delta;
+                    residual[reverse[a]] += delta;
+                    excess[v] -= delta;
+
+                    if (excess[w] == 0 && w != sink && w != source) {
+
+                        next[w] = heads[label[w]];
+                        heads[label[w]] = w;
+                        highest = Math.max(highest, label[w]);
+                    }
+
+                    excess[w] += delta;
+                }
+                else {
+
+                    current[v]++;
+                }
+            }
+        }
+
+        value = excess[sink];
+    }
+
+    /**
+     * Runs Dinic's algorithm: searches for the distance of every vertex from the source in the
+     * residual network, then sends a blocking flow along only the arcs that go one further,
+     * until the sink can't be reached. The paths are followed with an explicit stack, and a
+     * vertex that leads nowhere is left out until the next search.
+     */
+    private void dinic() {
+
+        int[] level = new int[n];
+        int[] queue = new int[n];
+        int[] current = new int[n];
+        int[] path = new int[n];
+
+        while (levels(level, queue)) {
+
+            System.arraycopy(arcStart, 0, current, 0, n);
+
+            int depth = 0;
+            int v = source;
+
+            while (true) {
+
+                if (v == sink) {
+
+                    double bottleneck = Double.POSITIVE_INFINITY;
+                    for (int k = 0; k < depth; k++) {
+
+                        bottleneck = Math.min(bottleneck, residual[path[k]]);
+                    }
+
+                    //go back to before the first arc that got saturated
+                    int first = -1;
+                    for (int k = 0; k < depth; k++) {
+
+                        residual[path[k]] -= bottleneck;
+                        residual[reverse[path[k]]] += bottleneck;
+
+                        if (first == -1 && residual[path[k]] == 0) {
+                            first = k;
+                        }
+                    }
+
+                    value += bottleneck;
+                    depth = first;
+                    v = arcTo[reverse[path[first]]];
+
+                    continue;
+                }
+
+                while (current[v] < arcStart[v + 1]) {
+
+                    int a = current[v];
+
+                    if (residual[a] > 0 && level[arcTo[a]] == level[v] + 1) {
+                        break;
+                    }
+
+                    current[v]++;
+                }
+
+                if (current[v] < arcStart[v + 1]) {
+
+                    path[depth++] = current[v];
+                    v = arcTo[current[v]];
+
+                    continue;
+                }
+
+                if (v == source) {
+                    break;
+                }
+
+                //a dead end, step back and skip the arc to it
+                level[v] = -1;
+                v = arcTo[reverse[path[--depth]]];
+                current[v]++;
+            }
+        }
+    }
+
+    /**
+     * Finds the distance of every vertex from the source in the residual network.
+     *
+     * @param level filled with the distances, -1 for vertices that can't be reached.
+     * @param queue scratch, n long.
+     * @return true if the sink can be reached, false otherwise.
+     */
+    private boolean levels(int[] level, int[] queue) {
+
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        queue[0] = source;
+
+        for (int head = 0, tail = 1; head < tail; head++) {
+
+            int v = queue[head];
+
+            for (int a = arcStart[v]; a < arcStart[v + 1]; a++) {
+
+                int w = arcTo[a];
+
+                if (level[w] == -1 && residual[a] > 0) {
+
+                    level[w] = level[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        return level[sink] != -1;
+    }
+
+    /**
+     * Finds the source side of the minimum cut, the vertices the source can still reach
+     * in the residual network.
+     */
+    private void finish() {
+
+        sourceSide = new boolean[n];
+        int[] queue = new int[n];
+
+        sourceSide[source] = true;
+        queue[0] = source;
+
+        for (int head = 0, tail = 1; head < tail; head++) {
+
+            int v = queue[head];
+
+            for (int a = arcStart[v]; a < arcStart[v + 1]; a++) {
+
+                int w = arcTo[a];
+
+                if (!sourceSide[w] && residual[a] > 0) {
+
+                    sourceSide[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells the value of the flow, the total capacity of the minimum cut.
+     *
+     * @return the value of the maximum flow.
+     */
+    public double value() {
+
+        return value;
+    }
+
+    /**
+     * Tells the flow along an edge.
+     *
+     * @param fromVertex the vertex number the edge goes from.
+     * @param toVertex the vertex number the edge goes to.
+     * @return the flow, 0 if there is no such edge.
+     */
+    public double flow(int fromVertex, int toVertex) {
+
+        if (g.getVertex(fromVertex) == null) {
+            return 0;
+        }
+
+        //the edges from a vertex are in increasing order of target
+        int low = g.edgesStart(fromVertex);
+        int high = g.edgesEnd(fromVertex) - 1;
+
+        while (low <= high) {
+
+            int middle = (low + high) >>> 1;
+            int target = g.target(middle);
+
+            if (target < toVertex) {
+                low = middle + 1;
+            }
+            else if (target > toVertex) {
+                high = middle - 1;
+            }
+            else {
+                return edgeFlow(middle);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Tells the flow along an edge.
+     *
+     * @param from the element the edge goes from.
+     * @param to the element the edge goes to.
+     * @return the flow, 0 if there is no such edge.
+     */
+    public double flow(T from, T to) {
+
+        return flow(g.findVertex(from), g.findVertex(to));
+    }
+
+    /**
+     * Tells the flow along edge e of the snapshot the flow was found on, see getSnapshot().
+     *
+     * @param e the index of the edge in the snapshot.
+     * @return the flow.
+     */
+    public double edgeFlow(int e) {
+
+        int a = edgeArc[e];
+
+        return a == -1 ? 0 : g.weight(e) - residual[a];
+    }
+
+    /**
+     * Gets the snapshot the flow was found on, whose edge indices edgeFlow takes.
+     *
+     * @return the snapshot.
+     */
+    public GraphSnapshot<T> getSnapshot() {
+
+        return g;
+    }
+
+    /**
+     * Tells whether a vertex is on the source side of the minimum cut.
+     * The edges from the source side to the other side make up the cut, and are all full.
+     *
+     * @param vertex the vertex number.
+     * @return true if the vertex is on the source side, false otherwise.
+     */
+    public boolean isOnSourceSide(int vertex) {
+
+        return vertex > -1 && vertex < n && sourceSide[vertex];
+    }
+
+    /**
+     * Gets the vertices on the source side of the minimum cut.
+     *
+     * @return the elements on the source side.
+     */
+    public List<T> getSourceSide() {
+
+        List<T> side = new ArrayList<T>();
+
+        for (int v = 0; v < n; v++) {
+
+            if (sourceSide[v]) {
+                side.add(g.getVertex(v));
+            }
+        }
+
+        return side;
+    }
+
+    /**
+     * Gets the edges of the minimum cut, those from the source side to the other side.
+     *
+     * @return the vertex numbers of each edge, from and to.
+     */
+    public List<int[]> getCutEdges() {
+
+        List<int[]> cut = new ArrayList<int[]>();
+
+        for (int v = 0; v < n; v++) {
+
+            for (int e = g.edgesStart(v); sourceSide[v] && e < g.edgesEnd(v); e++) {
+
+                if (edgeArc[e] != -1 && !sourceSide[g.target(e)]) {
+                    cut.add(new int[] {v, g.target(e)});
+                }
+            }
+        }
+
+        return cut;
+    }
+}
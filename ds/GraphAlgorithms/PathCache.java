@@ -0,0 +1,494 @@
+package ds.GraphAlgorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.Edge;
+
+/**
+ * Remembers the paths found by bfs, dfs and shortest path queries on one graph, so that asking
+ * for the same pair again is a map lookup. Meant for graphs that change much less often than
+ * they are queried.
+ *
+ * Every answer is kept with the version of the graph it was found at. As soon as the graph's
+ * version moves on, every cached answer is dropped, so an answer is never older than the graph.
+ * At most maxEntries answers are kept, the least recently used one is dropped to make room.
+ *
+ * Any number of threads can query the cache at once, as long as nobody writes to the graph while
+ * a query runs on it (or the graph can be read while it's written, like ConcurrentAdjacencyMatrix).
+ * If several threads ask the same question at once, only one of them runs the search,
+ * the others wait for its answer.
+ *
+ * Paths handed out are shared between callers, and can't be changed.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class PathCache<T, E extends Edge> {
+
+    //~Constants----------------------------------------------
+    /**
+     * The searches whose answers are cached.
+     */
+    public enum Query {
+
+        /**
+         * Algorithms.bfs, the path with the fewest edges.
+         */
+        BFS,
+
+        /**
+         * Algorithms.dfs, some path.
+         */
+        DFS,
+
+        /**
+         * The path of least total weight, from Algorithms.shortestPaths.
+         */
+        SHORTEST_PATH
+    }
+
+    /**
+     * Rough bytes taken by one cached answer besides its path: the key, the map entry and
+     * the list holding the path.
+     */
+    private static final long ENTRY_BYTES = 120;
+
+    /**
+     * Rough bytes taken by each vertex of a cached path. The elements themselves belong to the
+     * graph, so they aren't counted.
+     */
+    private static final long REFERENCE_BYTES = 8;
+
+    //~Data Fields--------------------------------------------
+    private final AdjacencyMatrixInterface<T, E> g;
+    private final Algorithms<T, E> algorithms;
+    private final int maxEntries;
+
+    /**
+     * The cached answers, in least recently used first order. Guarded by itself.
+     */
+    private final LinkedHashMap<Key<T>, Answer<T>> entries;
+
+    /**
+     * The version of the graph the cached answers belong to.
+     */
+    private long cachedVersion;
+
+    /**
+     * The rough size of the cached answers, see estimatedBytes.
+     */
+    private long bytes;
+
+    /**
+     * The searches running now, so that a second thread asking the same thing waits
+     * for the first one's answer.
+     */
+    private final ConcurrentHashMap<Key<T>, CompletableFuture<Answer<T>>> running;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder sharedLoads;
+    private final LongAdder evictions;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Makes an empty cache of the answers about g.
+     *
+     * @param g the graph the queries are about.
+     * @param maxEntries the most answers kept at once, at least 1.
+     */
+    public PathCache(AdjacencyMatrixInterface<T, E> g, int maxEntries) {
+
+        this.g = g;
+        this.maxEntries = Math.max(1, maxEntries);
+
+        algorithms = new Algorithms<T, E>();
+        entries = new LinkedHashMap<Key<T>, Answer<T>>(16, 0.75f, true);
+        running = new ConcurrentHashMap<Key<T>, CompletableFuture<Answer<T>>>();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        sharedLoads = new LongAdder();
+        evictions = new LongAdder();
+        cachedVersion = g.version();
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Finds the path with the fewest edges from start to end, as Algorithms.bfs does.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return the elements from start to end, null if there is no path.
+     */
+    public List<T> bfs(T start, T end) {
+
+        return get(Query.BFS, start, end);
+    }
+
+    /**
+     * Finds a path from start to end, as Algorithms.dfs does.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return the elements from start to end, null if there is no path.
+     */
+    public List<T> dfs(T start, T end) {
+
+        return get(Query.DFS, start, end);
+    }
+
+    /**
+     * Finds the path of least total weight from start to end, with Algorithms.shortestPaths.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return the elements from start to end, null if there is no path.
+     */
+    public List<T> shortestPath(T start, T end) {
+
+        return get(Query.SHORTEST_PATH, start, end);
+    }
+
+    /**
+     * Tells whether end can be reached from start, sharing the cached bfs answers.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return true if there is a path, false otherwise.
+     */
+    public boolean isReachable(T start, T end) {
+
+        return get(Query.BFS, start, end) != null;
+    }
+
+    /**
+     * Gets the answer to a query, from the cache if it's there for the current version
+     * of the graph, otherwise by running the search, or waiting for the thread already running it.
+     *
+     * @param query the search.
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return the path, null if there is none.
+     */
+    private List<T> get(Query query, T start, T end) {
+
+        long version = g.version();
+        Key<T> key = new Key<T>(query, version, start, end);
+
+        synchronized (entries) {
+
+            //the graph changed, nothing cached is right any more. A thread that read the version
+            //before another thread moved it on just misses, without dropping the newer answers
+            if (version > cachedVersion) {
+
+                entries.clear();
+                bytes = 0;
+                cachedVersion = version;
+            }
+
+            Answer<T> answer = entries.get(key);
+            if (answer != null) {
+
+                hits.increment();
+
+                return answer.path;
+            }
+        }
+
+        CompletableFuture<Answer<T>> mine = new CompletableFuture<Answer<T>>();
+        CompletableFuture<Answer<T>> theirs = running.putIfAbsent(key, mine);
+
+        if (theirs != null) {
+
+            sharedLoads.increment();
+
+            return theirs.join().path;
+        }
+
+        misses.increment();
+
+        try {
+
+            Answer<T> answer = new Answer<T>(search(query, start, end));
+
+            store(key, answer);
+            mine.complete(answer);
+
+            return answer.path;
+        }
+        catch (RuntimeException e) {
+
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+
+            running.remove(key, mine);
+        }
+    }
+
+    /**
+     * Caches an answer, unless the graph moved on while it was being found,
+     * dropping the least recently used answers past maxEntries.
+     *
+     * @param key the query.
+     * @param answer its answer.
+     */
+    private void store(Key<T> key, Answer<T> answer) {
+
+        synchronized (entries) {
+
+            if (key.version != cachedVersion || g.version() != key.version) {
+                return;
+            }
+
+            if (entries.put(key, answer) == null) {
+                bytes += answer.bytes();
+            }
+
+            Iterator<Map.Entry<Key<T>, Answer<T>>> it = entries.entrySet().iterator();
+            while (entries.size() > maxEntries) {
+
+                bytes -= it.next().getValue().bytes();
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Runs a search on the graph.
+     *
+     * @param query the search.
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return the path, which can't be changed, or null if there is none.
+     */
+    private List<T> search(Query query, T start, T end) {
+
+        List<T> path;
+
+        switch (query) {
+
+            case BFS:
+                path = algorithms.bfs(g, start, end);
+                break;
+
+            case DFS:
+                path = algorithms.dfs(g, start, end);
+                break;
+
+            default:
+                path = shortest(start, end);
+                break;
+        }
+
+        return path == null ? null : Collections.unmodifiableList(new ArrayList<T>(path));
+    }
+
+    /**
+     * Finds the path of least total weight from start to end.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @return the path, null if there is none.
+     */
+    private List<T> shortest(T start, T end) {
+
+        int source = g.findVertex(start);
+        int target = g.findVertex(end);
+
+        if (source == -1 || target == -1) {
+            return null;
+        }
+
+        int[] previous = new int[g.usedSlots()];
+        double[] distances = algorithms.shortestPaths(g, source, previous);
+
+        if (distances[target] == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+
+        LinkedList<T> path = new LinkedList<T>();
+        for (int v = target; v != -1; v = previous[v]) {
+
+            path.addFirst(g.getVertex(v));
+        }
+
+        return path;
+    }
+
+    /**
+     * Drops every cached answer. The statistics are kept.
+     */
+    public void clear() {
+
+        synchronized (entries) {
+
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Tells the number of answers cached now.
+     *
+     * @return the number of answers.
+     */
+    public int size() {
+
+        synchronized (entries) {
+
+            return entries.size();
+        }
+    }
+
+    /**
+     * Tells roughly how many bytes the cached answers take, not counting the elements,
+     * which belong to the graph.
+     *
+     * @return the estimated size of the cache in bytes.
+     */
+    public long estimatedBytes() {
+
+        synchronized (entries) {
+
+            return bytes;
+        }
+    }
+
+    /**
+     * Tells the number of queries answered from the cache.
+     *
+     * @return the number of hits.
+     */
+    public long hits() {
+
+        return hits.sum();
+    }
+
+    /**
+     * Tells the number of queries that ran a search.
+     *
+     * @return the number of misses.
+     */
+    public long misses() {
+
+        return misses.sum();
+    }
+
+    /**
+     * Tells the number of queries that waited for the same search running on another thread.
+     *
+     * @return the number of shared searches.
+     */
+    public long sharedLoads() {
+
+        return sharedLoads.sum();
+    }
+
+    /**
+     * Tells the number of answers dropped to stay within maxEntries.
+     *
+     * @return the number of evictions.
+     */
+    public long evictions() {
+
+        return evictions.sum();
+    }
+
+    /**
+     * Tells the share of queries that didn't run a search of their own.
+     *
+     * @return (hits + shared searches) / queries, 0 if there were no queries.
+     */
+    public double hitRatio() {
+
+        long saved = hits.sum() + sharedLoads.sum();
+        long total = saved + misses.sum();
+
+        return total == 0 ? 0 : (double) saved / total;
+    }
+
+    @Override
+    public String toString() {
+
+        return "hits=" + hits() + " misses=" + misses() + " shared=" + sharedLoads()
+                + " evictions=" + evictions() + " entries=" + size() + " bytes=" + estimatedBytes()
+                + String.format(" hitRatio=%.3f", hitRatio());
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * A query, at a version of the graph.
+     */
+    private static final class Key<T> {
+
+        private final Query query;
+        private final long version;
+        private final T start;
+        private final T end;
+
+        private Key(Query query, long version, T start, T end) {
+
+            this.query = query;
+            this.version = version;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key<?> other = (Key<?>) o;
+
+            return query == other.query && version == other.version
+                    && (start == null ? other.start == null : start.equals(other.start))
+                    && (end == null ? other.end == null : end.equals(other.end));
+        }
+
+        @Override
+        public int hashCode() {
+
+            int hash = query.hashCode();
+            hash = 31 * hash + Long.hashCode(version);
+            hash = 31 * hash + (start == null ? 0 : start.hashCode());
+            hash = 31 * hash + (end == null ? 0 : end.hashCode());
+
+            return hash;
+        }
+    }
+
+    /**
+     * The answer to a query, which may be that there's no path.
+     */
+    private static final class Answer<T> {
+
+        private final List<T> path;
+
+        private Answer(List<T> path) {
+
+            this.path = path;
+        }
+
+        private long bytes() {
+
+            return ENTRY_BYTES + (path == null ? 0 : path.size() * REFERENCE_BYTES);
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs many independent path queries at once against one GraphSnapshot.
+ * The snapshot never changes, so queries share it without locking. Each query borrows
+ * a set of scratch arrays (visited marks, queue, parents...) from a pool and gives it back
+ * when done, so after warming up queries allocate little more than their result.
+ *
+ * Queries run on a bounded pool of threads, or on any ExecutorService passed in
+ * (e.g. a virtual thread per task executor). Each query can have a deadline, counted from
+ * when it is submitted: at its deadline the Future of a query still running or still waiting
+ * for a thread fails with a TimeoutException, right away, from a timer thread. A waiting query
+ * then never runs, and a running one stops at its next deadline check.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public class QueryExecutor<T> {
+
+    //~Constants----------------------------------------------
+    /**
+     * Number of loop steps between deadline checks.
+     */
+    private static final int CHECK_EVERY = 256;
+
+    private static final int BFS = 0;
+
+    private static final int DFS = 1;
+
+    private static final int SHORTEST_PATH = 2;
+
+    //~Data Fields--------------------------------------------
+    private final GraphSnapshot<T> graph;
+
+    private final ExecutorService executor;
+
+    /**
+     * True if the executor was made here, and so is shut down here.
+     */
+    private final boolean ownsExecutor;
+
+    /**
+     * Scratch arrays not in use by a query.
+     */
+    private final ConcurrentLinkedQueue<Scratch> scratchPool = new ConcurrentLinkedQueue<Scratch>();
+
+    /**
+     * Fails the Futures of queries at their deadlines, whether they have started or not.
+     */
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    private volatile long statsStart = System.nanoTime();
+
+    //~Constructors--------------------------------------------
+    /**
+     * Makes an executor that runs queries on its own pool of threads threads.
+     *
+     * @param graph the graph to query.
+     * @param threads the number of threads.
+     */
+    public QueryExecutor(GraphSnapshot<T> graph, int threads) {
+
+        this.graph = graph;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.ownsExecutor = true;
+        this.timer = makeTimer();
+    }
+
+    /**
+     * Makes an executor that runs queries on executor, which the caller keeps
+     * ownership of and has to shut down.
+     *
+     * @param graph the graph to query.
+     * @param executor where to run the queries.
+     */
+    public QueryExecutor(GraphSnapshot<T> graph, ExecutorService executor) {
+
+        this.graph = graph;
+        this.executor = executor;
+        this.ownsExecutor = false;
+        this.timer = makeTimer();
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Finds a path with the fewest edges from start to end, as Algorithms.bfs does.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @param timeout the time the query has, 0 or less for no deadline.
+     * @param unit the unit of timeout.
+     * @return the path from start to end, null if there is none or either isn't in the graph.
+     */
+    public Future<List<T>> bfs(T start, T end, long timeout, TimeUnit unit) {
+
+        return submit(BFS, start, end, timeout, unit);
+    }
+
+    /**
+     * Finds a path from start to end in depth first order. Unlike Algorithms.dfs, every
+     * vertex is visited at most once, so this takes linear time but may find another path.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @param timeout the time the query has, 0 or less for no deadline.
+     * @param unit the unit of timeout.
+     * @return the path from start to end, null if there is none or either isn't in the graph.
+     */
+    public Future<List<T>> dfs(T start, T end, long timeout, TimeUnit unit) {
+
+        return submit(DFS, start, end, timeout, unit);
+    }
+
+    /**
+     * Finds the path of least total weight from start to end with Djikstra's algorithm.
+     * Edge weights must not be negative.
+     *
+     * @param start the starting element.
+     * @param end the goal element.
+     * @param timeout the time the query has, 0 or less for no deadline.
+     * @param unit the unit of timeout.
+     * @return the path from start to end, null if there is none or either isn't in the graph.
+     */
+    public Future<List<T>> shortestPath(T start, T end, long timeout, TimeUnit unit) {
+
+        return submit(SHORTEST_PATH, start, end, timeout, unit);
+    }
+
+    /**
+     * Makes the timer of the deadlines, one daemon thread that drops timeouts as soon as
+     * their query is done.
+     */
+    private static ScheduledThreadPoolExecutor makeTimer() {
+
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+            Thread thread = new Thread(runnable, "QueryExecutor deadlines");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+
+        return timer;
+    }
+
+    private Future<List<T>> submit(final int kind, final T start, final T end, long timeout, TimeUnit unit) {
+
+        final long submitted = System.nanoTime();
+        final long deadline = timeout > 0 ? submitted + unit.toNanos(timeout) : 0;
+        final CompletableFuture<List<T>> result = new CompletableFuture<List<T>>();
+
+        //the query and its timeout race to finish it, the winner counts it in the stats
+        //before completing the Future, so callers woken by it see the stats up to date
+        final AtomicBoolean finished = new AtomicBoolean();
+
+        final Future<?> task = executor.submit(() -> {
+
+            //timed out or cancelled while waiting for a thread
+            if (finished.get() || result.isDone()) {
+                return;
+            }
+
+            Scratch scratch = scratchPool.poll();
+            if (scratch == null) {
+                scratch = new Scratch(graph.usedSlots());
+            }
+
+            try {
+
+                checkDeadline(deadline);
+
+                List<T> path = run(kind, graph.findVertex(start), graph.findVertex(end),
+                        deadline, scratch);
+
+                if (finished.compareAndSet(false, true)) {
+
+                    latencies.record(System.nanoTime() - submitted);
+                    completed.increment();
+                    result.complete(path);
+                }
+            }
+            catch (TimeoutException e) {
+
+                if (finished.compareAndSet(false, true)) {
+
+                    timedOut.increment();
+                    result.completeExceptionally(e);
+                }
+            }
+            catch (RuntimeException e) {
+
+                if (finished.compareAndSet(false, true)) {
+                    result.completeExceptionally(e);
+                }
+            }
+            finally {
+
+                scratchPool.offer(scratch);
+            }
+        });
+
+        //after shutdown, queries on an executor passed in only check their deadlines once running
+        if (deadline != 0 && !timer.isShutdown()) {
+
+            final ScheduledFuture<?> timeoutTask = timer.schedule(() -> {
+
+                if (finished.compareAndSet(false, true)) {
+
+                    timedOut.increment();
+                    result.completeExceptionally(new TimeoutException("query passed its deadline"));
+                    task.cancel(false);
+                }
+            }, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+            result.whenComplete((path, e) -> timeoutTask.cancel(false));
+        }
+
+        //cancelling the query drops it from the queue if it hasn't started
+        result.whenComplete((path, e) -> {
+
+            if (result.isCancelled()) {
+                task.cancel(false);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Throws if the deadline has passed.
+     *
+     * @param deadline the deadline in System.nanoTime() terms, 0 for none.
+     * @throws TimeoutException if it has passed.
+     */
+    private static void checkDeadline(long deadline) throws TimeoutException {
+
+        if (deadline != 0 && System.nanoTime() - deadline > 0) {
+
+            throw new TimeoutException("query passed its deadline");
+        }
+    }
+
+    private List<T> run(int kind, int source, int target, long deadline, Scratch scratch)
+            throws TimeoutException {
+
+        if (source == -1 || target == -1) {
+
+            return null;
+        }
+
+        scratch.nextQuery();
+
+        boolean found;
+        switch (kind) {
+            case BFS:
+                found = bfs(source, target, deadline, scratch);
+                break;
+            case DFS:
+                found = dfs(source, target, deadline, scratch);
+                break;
+            default:
+                found = dijkstra(source, target, deadline, scratch);
+        }
+
+        if (!found) {
+
+            return null;
+        }
+
+        LinkedList<T> path = new LinkedList<T>();
+        for (int v = target; v != -1; v = v == source ? -1 : scratch.parent[v]) {
+
+            path.addFirst(graph.getVertex(v));
+        }
+
+        return path;
+    }
+
+    private boolean bfs(int source, int target, long deadline, Scratch scratch) throws TimeoutException {
+
+        int[] queue = scratch.queue;
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = source;
+        scratch.mark(source);
+
+        while (head < tail) {
+
+            if ((head & (CHECK_EVERY - 1)) == 0) {
+                checkDeadline(deadline);
+            }
+
+            int v = queue[head++];
+
+            if (v == target) {
+                return true;
+            }
+
+            for (int e = graph.edgesStart(v); e < graph.edgesEnd(v); e++) {
+
+                int w = graph.target(e);
+
+                if (!scratch.isMarked(w)) {
+
+                    scratch.mark(w);
+                    scratch.parent[w] = v;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean dfs(int source, int target, long deadline, Scratch scratch) throws TimeoutException {
+
+        //the stack is the current path, cursor[v] is the next edge of v to try
+        int[] stack = scratch.queue;
+        int[] cursor = scratch.cursor;
+        int depth = 0;
+        long steps = 0;
+
+        stack[depth++] = source;
+        cursor[source] = graph.edgesStart(source);
+        scratch.mark(source);
+
+        while (depth > 0) {
+
+            if ((++steps & (CHECK_EVERY - 1)) == 0) {
+                checkDeadline(deadline);
+            }
+
+            int v = stack[depth - 1];
+
+            if (v == target) {
+                return true;
+            }
+
+            if (cursor[v] == graph.edgesEnd(v)) {
+
+                depth--;
+                continue;
+            }
+
+            int w = graph.target(cursor[v]++);
+
+            if (!scratch.isMarked(w)) {
+
+                scratch.mark(w);
+                scratch.parent[w] = v;
+                cursor[w] = graph.edgesStart(w);
+                stack[depth++] = w;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean dijkstra(int source, int target, long deadline, Scratch scratch) throws TimeoutException {
+
+        scratch.ensureHeap(graph.numStoredEdges() + 1);
+
+        double[] distances = scratch.distances;
+        double[] keys = scratch.heapKeys;
+        int[] values = scratch.heapValues;
+        int size = 0;
+        long steps = 0;
+
+        //distances are only valid for marked vertices, so nothing has to be cleared
+        scratch.mark(source);
+        distances[source] = 0;
+        keys[0] = 0;
+        values[size++] = source;
+
+        while (size > 0) {
+
+            if ((++steps & (CHECK_EVERY - 1)) == 0) {
+                checkDeadline(deadline);
+            }
+
+            double d = keys[0];
+            int v = values[0];
+            size = DoubleHeap.pop(keys, values, size);
+
+            //an old entry for a vertex whose distance has gone down since
+            if (d > distances[v]) {
+                continue;
+            }
+
+            if (v == target) {
+                return true;
+            }
+
+            for (int e = graph.edgesStart(v); e < graph.edgesEnd(v); e++) {
+
+                int w = graph.target(e);
+                double distance = d + graph.weight(e);
+
+                if (!scratch.isMarked(w) || distance < distances[w]) {
+
+                    scratch.mark(w);
+                    distances[w] = distance;
+                    scratch.parent[w] = v;
+                    size = DoubleHeap.push(keys, values, size, distance, w);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads the throughput and latencies of the queries run so far.
+     *
+     * @return the stats.
+     */
+    public QueryStats getStats() {
+
+        return new QueryStats(completed.sum(), timedOut.sum(), System.nanoTime() - statsStart,
+                latencies.percentile(50), latencies.percentile(99));
+    }
+
+    /**
+     * Starts the stats over from now.
+     */
+    public void resetStats() {
+
+        latencies.reset();
+        completed.reset();
+        timedOut.reset();
+        statsStart = System.nanoTime();
+    }
+
+    /**
+     * Stops accepting queries, and shuts down the pool of threads if it was made here.
+     * Queries already submitted still run, and still time out at their deadlines.
+     */
+    public void shutdown() {
+
+        if (ownsExecutor) {
+
+            executor.shutdown();
+        }
+
+        timer.shutdown();
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * The arrays one query works in. Vertices are marked visited by stamping them with
+     * the number of the query, so nothing has to be cleared between queries.
+     */
+    private static class Scratch {
+
+        private final int[] stamps;
+
+        private int query;
+
+        private final int[] parent;
+
+        private final int[] queue;
+
+        private final int[] cursor;
+
+        private final double[] distances;
+
+        private double[] heapKeys;
+
+        private int[] heapValues;
+
+        private Scratch(int n) {
+
+            stamps = new int[n];
+            parent = new int[n];
+            queue = new int[n];
+            cursor = new int[n];
+            distances = new double[n];
+        }
+
+        private void nextQuery() {
+
+            //every 4 billion queries the stamps wrap around and have to be cleared
+            if (++query == 0) {
+
+                Arrays.fill(stamps, 0);
+                query = 1;
+            }
+        }
+
+        private void mark(int v) {
+
+            stamps[v] = query;
+        }
+
+        private boolean isMarked(int v) {
+
+            return stamps[v] == query;
+        }
+
+        private void ensureHeap(int size) {
+
+            if (heapKeys == null || heapKeys.length < size) {
+
+                heapKeys = new double[size];
+                heapValues = new int[size];
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ds.GraphAlgorithms;
+
+/**
+ * The throughput and latencies of the queries a QueryExecutor ran, at one point in time.
+ * Latencies are from when a query was submitted to when it finished, so time spent
+ * waiting for a thread counts.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public class QueryStats {
+
+    //~Data Fields--------------------------------------------
+    private final long completed;
+
+    private final long timedOut;
+
+    private final long elapsedNanos;
+
+    private final long p50Nanos;
+
+    private final long p99Nanos;
+
+    //~Constructors--------------------------------------------
+    QueryStats(long completed, long timedOut, long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+        this.completed = completed;
+        this.timedOut = timedOut;
+        this.elapsedNanos = elapsedNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * The number of queries that finished in time.
+     */
+    public long getCompleted() {
+
+        return completed;
+    }
+
+    /**
+     * The number of queries that were stopped at their deadline.
+     */
+    public long getTimedOut() {
+
+        return timedOut;
+    }
+
+    /**
+     * The time since the executor was made or its stats were reset.
+     */
+    public long getElapsedNanos() {
+
+        return elapsedNanos;
+    }
+
+    /**
+     * Queries completed per second, over the elapsed time.
+     */
+    public double getThroughput() {
+
+        return elapsedNanos == 0 ? 0 : completed * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * The median latency of the completed queries.
+     */
+    public long getP50Nanos() {
+
+        return p50Nanos;
+    }
+
+    /**
+     * The 99th percentile latency of the completed queries.
+     */
+    public long getP99Nanos() {
+
+        return p99Nanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("completed=%d timedOut=%d throughput=%.1f/s p50=%.3fms p99=%.3fms",
+                completed, timedOut, getThroughput(), p50Nanos / 1e6, p99Nanos / 1e6);
+    }
+}
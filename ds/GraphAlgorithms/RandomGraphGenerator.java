@@ -0,0 +1,399 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Makes random graphs for testing and load testing, as EdgeLists that can be written into
+ * any Graph. The same seed always makes the same graph, whatever the number of threads:
+ * work is cut into chunks of a fixed size, each chunk gets its own SplittableRandom split off
+ * the seed in order, and the chunks run in parallel and are joined back in order.
+ *
+ * Contains:
+ * Erdos-Renyi G(n, p), skipping over absent edges with geometric jumps
+ * R-MAT (recursive Kronecker style matrix)
+ * Barabasi-Albert preferential attachment (sequential, each step depends on the last)
+ * 2D grids
+ *
+ * Every method returns null if its arguments don't describe a graph.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public class RandomGraphGenerator {
+
+    //~Constants----------------------------------------------
+    /**
+     * Number of rows of the matrix each Erdos-Renyi chunk generates.
+     */
+    private static final int ROWS_PER_CHUNK = 256;
+
+    /**
+     * Number of edges each R-MAT chunk generates.
+     */
+    private static final int EDGES_PER_CHUNK = 1 << 16;
+
+    //~Data Fields--------------------------------------------
+    private final long seed;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Makes a generator whose graphs are all determined by seed.
+     *
+     * @param seed the seed of the random numbers.
+     */
+    public RandomGraphGenerator(long seed) {
+
+        this.seed = seed;
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Splits one random number generator per chunk off the seed, in order.
+     * Every method starts over from the seed, so graphs don't depend on what was made before.
+     *
+     * @param chunks the number of chunks.
+     * @return the random number generator of each chunk.
+     */
+    private SplittableRandom[] split(int chunks) {
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+
+        for (int c = 0; c < chunks; c++) {
+
+            randoms[c] = root.split();
+        }
+
+        return randoms;
+    }
+
+    /**
+     * Makes an Erdos-Renyi G(n, p) graph, where each possible edge is there with probability p,
+     * independently of the others. Self loops are never made.
+     *
+     * Instead of a coin flip per cell, the gap to the next edge is drawn from a geometric
+     * distribution, so the time taken is proportional to the number of edges, not n^2.
+     *
+     * @param n the number of vertices.
+     * @param p the probability of each edge.
+     * @param directed true to consider edges from i to j and j to i separately,
+     *          false to make an undirected graph.
+     * @return the edges of the graph.
+     */
+    public EdgeList erdosRenyi(final int n, final double p, final boolean directed) {
+
+        if (n < 0 || !(p >= 0 && p <= 1)) {
+
+            return null;
+        }
+
+        final int chunks = (n + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK;
+        final SplittableRandom[] randoms = split(chunks);
+        final EdgeBuffer[] buffers = new EdgeBuffer[chunks];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+
+            buffers[c] = new EdgeBuffer();
+            erdosRenyiRows(n, p, directed, c * ROWS_PER_CHUNK,
+                    Math.min(n, (c + 1) * ROWS_PER_CHUNK), randoms[c], buffers[c]);
+        });
+
+        return join(n, directed, buffers);
+    }
+
+    /**
+     * Generates the Erdos-Renyi edges out of rows lo to hi - 1.
+     * In a directed graph row i holds the cells (i, 0) to (i, n - 1), self loop skipped,
+     * in an undirected graph it holds (i, 0) to (i, i - 1), so each pair is considered once.
+     *
+     * @param n the number of vertices.
+     * @param p the probability of each edge.
+     * @param directed true if the graph is directed, false otherwise.
+     * @param lo the first row.
+     * @param hi one past the last row.
+     * @param random the random numbers of this chunk.
+     * @param out where the edges go.
+     */
+    private static void erdosRenyiRows(int n, double p, boolean directed, int lo, int hi,
+            SplittableRandom random, EdgeBuffer out) {
+
+        if (p == 0 || lo >= hi) {
+            return;
+        }
+
+        //cells in the rows, walked through as one sequence
+        long cells = directed ? (long) (hi - lo) * n : (long) (lo + hi - 1) * (hi - lo) / 2;
+        double logQ = Math.log(1 - p);
+
+        long position = -1;
+        long rowStart = 0;
+        int row = lo;
+
+        while (true) {
+
+            //number of absent cells before the next edge
+            double skip = p == 1 ? 0 : Math.floor(Math.log(1 - random.nextDouble()) / logQ);
+
+            if (skip >= cells - position - 1) {
+                break;
+            }
+            position += 1 + (long) skip;
+
+            while (position >= rowStart + (directed ? n : row)) {
+
+                rowStart += directed ? n : row;
+                row++;
+            }
+
+            int col = (int) (position - rowStart);
+            if (!directed || col != row) {
+                out.add(row, col);
+            }
+        }
+    }
+
+    /**
+     * Makes an R-MAT graph on 2^scale vertices, which has the skewed degrees and
+     * communities of real world graphs. Each edge is placed by picking one quadrant of the
+     * matrix with probabilities a, b, c and 1 - a - b - c (top left, top right, bottom left,
+     * bottom right), then a quadrant of that, scale times over.
+     * The edges can repeat and include self loops.
+     *
+     * @param scale the log2 of the number of vertices, 0 to 30.
+     * @param numEdges the number of edges to generate.
+     * @param a the probability of the top left quadrant.
+     * @param b the probability of the top right quadrant.
+     * @param c the probability of the bottom left quadrant.
+     * @param directed true if the edges are directed, false otherwise.
+     * @return the edges of the graph.
+     */
+    public EdgeList rmat(final int scale, final int numEdges, final double a, final double b,
+            final double c, boolean directed) {
+
+        if (scale < 0 || scale > 30 || numEdges < 0 || a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+
+            return null;
+        }
+
+        final int chunks = (numEdges + EDGES_PER_CHUNK - 1) / EDGES_PER_CHUNK;
+        final SplittableRandom[] randoms = split(chunks);
+        final EdgeBuffer[] buffers = new EdgeBuffer[chunks];
+
+        IntStream.range(0, chunks).parallel().forEach(k -> {
+
+            int count = Math.min(EDGES_PER_CHUNK, numEdges - k * EDGES_PER_CHUNK);
+            SplittableRandom random = randoms[k];
+            EdgeBuffer buffer = new EdgeBuffer(count);
+
+            for (int e = 0; e < count; e++) {
+
+                int from = 0;
+                int to = 0;
+
+                for (int bit = scale - 1; bit >= 0; bit--) {
+
+                    double r = random.nextDouble();
+
+                    if (r >= a + b + c) {
+                        from |= 1 << bit;
+                        to |= 1 << bit;
+                    }
+                    else if (r >= a + b) {
+                        from |= 1 << bit;
+                    }
+                    else if (r >= a) {
+                        to |= 1 << bit;
+                    }
+                }
+
+                buffer.add(from, to);
+            }
+
+            buffers[k] = buffer;
+        });
+
+        return join(1 << scale, directed, buffers);
+    }
+
+    /**
+     * Makes an undirected Barabasi-Albert graph, whose degrees follow a power law.
+     * Vertex m starts out joined to vertices 0 to m - 1, then every later vertex is joined
+     * to m different earlier vertices, each picked with probability proportional to its degree.
+     * Runs on one thread, since every vertex depends on the degrees left by the ones before it.
+     *
+     * @param n the number of vertices, more than m.
+     * @param m the number of edges each new vertex brings, at least 1.
+     * @return the edges of the graph.
+     */
+    public EdgeList barabasiAlbert(int n, int m) {
+
+        if (m < 1 || n <= m) {
+
+            return null;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        int numEdges = (n - m) * m;
+        int[] from = new int[numEdges];
+        int[] to = new int[numEdges];
+
+        //each vertex appears here once per edge it has, so a uniform pick is degree weighted
+        int[] endpoints = new int[2 * numEdges];
+        int numEndpoints = 0;
+        int e = 0;
+
+        for (int i = 0; i < m; i++) {
+
+            from[e] = m;
+            to[e++] = i;
+            endpoints[numEndpoints++] = m;
+            endpoints[numEndpoints++] = i;
+        }
+
+        int[] targets = new int[m];
+        for (int v = m + 1; v < n; v++) {
+
+            for (int t = 0; t < m; t++) {
+
+                int target;
+                do {
+                    target = endpoints[random.nextInt(numEndpoints)];
+                } while (contains(targets, t, target));
+
+                targets[t] = target;
+            }
+
+            for (int t = 0; t < m; t++) {
+
+                from[e] = v;
+                to[e++] = targets[t];
+                endpoints[numEndpoints++] = v;
+                endpoints[numEndpoints++] = targets[t];
+            }
+        }
+
+        return new EdgeList(n, false, from, to);
+    }
+
+    /**
+     * Tells whether value is in the first length entries of values.
+     *
+     * @param values the array to look in.
+     * @param length the number of entries to look at.
+     * @param value the value to look for.
+     * @return true if it is there, false otherwise.
+     */
+    private static boolean contains(int[] values, int length, int value) {
+
+        for (int i = 0; i < length; i++) {
+
+            if (values[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Makes an undirected rows x cols grid, where vertex r * cols + c is joined to the
+     * vertices to its right and below it. Has nothing random in it.
+     *
+     * @param rows the number of rows.
+     * @param cols the number of columns.
+     * @return the edges of the graph.
+     */
+    public EdgeList grid(final int rows, final int cols) {
+
+        if (rows < 0 || cols < 0) {
+
+            return null;
+        }
+
+        //every row but the last has cols - 1 edges across and cols edges down
+        final int perRow = Math.max(cols - 1, 0) + cols;
+        int numEdges = rows == 0 ? 0 : perRow * (rows - 1) + Math.max(cols - 1, 0);
+        final int[] from = new int[numEdges];
+        final int[] to = new int[numEdges];
+
+        IntStream.range(0, rows).parallel().forEach(r -> {
+
+            int e = r * perRow;
+            int base = r * cols;
+
+            for (int c = 0; c + 1 < cols; c++) {
+
+                from[e] = base + c;
+                to[e++] = base + c + 1;
+            }
+
+            for (int c = 0; r + 1 < rows && c < cols; c++) {
+
+                from[e] = base + c;
+                to[e++] = base + c + cols;
+            }
+        });
+
+        return new EdgeList(rows * cols, false, from, to);
+    }
+
+    /**
+     * Joins the edges of the chunks, in order.
+     *
+     * @param numVertices the number of vertices.
+     * @param directed true if the edges are directed, false otherwise.
+     * @param buffers the edges of each chunk.
+     * @return the joined edge list.
+     */
+    private static EdgeList join(int numVertices, boolean directed, EdgeBuffer[] buffers) {
+
+        int[][][] chunks = new int[buffers.length][][];
+        int[] counts = new int[buffers.length];
+
+        for (int c = 0; c < buffers.length; c++) {
+
+            chunks[c] = new int[][] {buffers[c].from, buffers[c].to};
+            counts[c] = buffers[c].count;
+        }
+
+        return EdgeList.join(numVertices, directed, chunks, counts);
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * Growable pair of int arrays that a chunk writes its edges into.
+     */
+    private static class EdgeBuffer {
+
+        private int[] from;
+
+        private int[] to;
+
+        private int count;
+
+        private EdgeBuffer() {
+
+            this(16);
+        }
+
+        private EdgeBuffer(int capacity) {
+
+            from = new int[Math.max(capacity, 1)];
+            to = new int[from.length];
+        }
+
+        private void add(int u, int v) {
+
+            if (count == from.length) {
+
+                from = Arrays.copyOf(from, count * 2);
+                to = Arrays.copyOf(to, count * 2);
+            }
+
+            from[count] = u;
+            to[count++] = v;
+        }
+    }
+}
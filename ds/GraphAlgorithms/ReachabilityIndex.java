@@ -0,0 +1,93 @@
+package ds.GraphAlgorithms;
+
+/**
+ * A compact, read-only answer to "can vertex i reach vertex j" for a directed graph.
+ *
+ * Built by TransitiveClosure. Every vertex number is mapped to its strongly connected
+ * component, and the transitive closure is kept over the components only, one bit per
+ * pair of components. Queries are two array reads and a mask, O(1).
+ *
+ * Reachability is reflexive, every live vertex can reach itself.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public class ReachabilityIndex {
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Component number of each vertex number, -1 for vertex numbers with no vertex.
+     */
+    private final int[] component;
+
+    /**
+     * Bit packed closure over the components.
+     * Bit c of closure[b] is set if component b can reach component c.
+     */
+    private final long[][] closure;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Wraps an already computed closure.
+     *
+     * @param component the component number of each vertex number, -1 if no vertex.
+     * @param closure the bit packed closure over the components.
+     */
+    ReachabilityIndex(int[] component, long[][] closure) {
+
+        this.component = component;
+        this.closure = closure;
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Tells whether there is a path from the vertex numbered from to the vertex numbered to.
+     *
+     * @param from the vertex number the path starts at.
+     * @param to the vertex number the path ends at.
+     * @return true if there is a path, false otherwise or if either number has no vertex.
+     */
+    public boolean canReach(int from, int to) {
+
+        if (from < 0 || to < 0 || from >= component.length || to >= component.length) {
+
+            return false;
+        }
+
+        int c1 = component[from];
+        int c2 = component[to];
+
+        if (c1 == -1 || c2 == -1) {
+
+            return false;
+        }
+
+        return (closure[c1][c2 >>> 6] & (1L << c2)) != 0;
+    }
+
+    /**
+     * Gets the strongly connected component that the vertex numbered vertex belongs to.
+     *
+     * @param vertex the vertex number.
+     * @return the component number, -1 if the number has no vertex.
+     */
+    public int getComponent(int vertex) {
+
+        if (vertex < 0 || vertex >= component.length) {
+
+            return -1;
+        }
+
+        return component[vertex];
+    }
+
+    /**
+     * Tells the number of strongly connected components, which is the side length of the closure.
+     *
+     * @return the number of components.
+     */
+    public int numComponents() {
+
+        return closure.length;
+    }
+}
@@ -0,0 +1,219 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import ds.TheAdjacencyMatrix.AdjacencyMatrixInterface;
+import ds.TheAdjacencyMatrix.Edge;
+
+/**
+ * Builds a ReachabilityIndex for a graph stored in an adjacency matrix.
+ *
+ * The graph is first condensed into its strongly connected components (Tarjan's algorithm),
+ * then the transitive closure of the condensation is computed with Warshall's algorithm over
+ * bit packed rows, OR-ing 64 columns at a time. The rows of each Warshall step are
+ * independent of each other, so large closures are split across threads by row.
+ *
+ * Works on undirected graphs as well, where the components are just the connected components.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class TransitiveClosure<T, E extends Edge> {
+
+    //~Constants----------------------------------------------
+    /**
+     * Number of components below which the Warshall steps run on the calling thread only.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    //~Methods-------------------------------------------------
+    /**
+     * Computes the reachability index of the graph g.
+     *
+     * @param g the graph to compute the transitive closure of.
+     * @return the ReachabilityIndex of g.
+     */
+    public ReachabilityIndex build(AdjacencyMatrixInterface<T, E> g) {
+
+        int n = g.usedSlots();
+        int[] component = new int[n];
+        int numComponents = condense(g, component);
+
+        //one row per component, one bit per component
+        int words = (numComponents + 63) >>> 6;
+        final long[][] closure = new long[numComponents][words];
+
+        for (int i = 0; i < n; i++) {
+
+            int c1 = component[i];
+            if (c1 != -1) {
+
+                closure[c1][c1 >>> 6] |= 1L << c1;
+
+                for (int j = 0; j < n; j++) {
+
+                    int c2 = component[j];
+                    if (c2 != -1 && g.getEdge(i, j) != 0) {
+
+                        closure[c1][c2 >>> 6] |= 1L << c2;
+                    }
+                }
+            }
+        }
+
+        warshall(closure);
+
+        return new ReachabilityIndex(component, closure);
+    }
+
+    /**
+     * Runs Warshall's algorithm in place on the bit packed closure.
+     *
+     * Relies on the components being numbered in reverse topological order (as Tarjan's
+     * algorithm does), so component k can only be reached from components numbered above k,
+     * and only reaches components numbered at or below k. That limits each step to the rows
+     * after k and the words up to k.
+     *
+     * @param closure the bit packed adjacency of the condensation, becomes its closure.
+     */
+    private void warshall(final long[][] closure) {
+
+        final int numComponents = closure.length;
+
+        for (int k = 0; k < numComponents; k++) {
+
+            final long[] rowK = closure[k];
+            final int word = k >>> 6;
+            final long bit = 1L << k;
+
+            if (numComponents - k < PARALLEL_THRESHOLD) {
+
+                for (int i = k + 1; i < numComponents; i++) {
+
+                    orInto(closure[i], rowK, word, bit);
+                }
+            }
+            else {
+
+                IntStream.range(k + 1, numComponents).parallel()
+                        .forEach(i -> orInto(closure[i], rowK, word, bit));
+            }
+        }
+    }
+
+    /**
+     * If row has the bit for component k set, ORs rowK into row.
+     *
+     * @param row the row being updated.
+     * @param rowK the row of component k.
+     * @param word the index of the word holding k's bit, and the last non-zero word of rowK.
+     * @param bit the mask of k's bit within word.
+     */
+    private static void orInto(long[] row, long[] rowK, int word, long bit) {
+
+        if ((row[word] & bit) != 0) {
+
+            for (int w = 0; w <= word; w++) {
+
+                row[w] |= rowK[w];
+            }
+        }
+    }
+
+    /**
+     * Finds the strongly connected components of g with an iterative version of
+     * Tarjan's algorithm. Components are numbered in the order they are completed,
+     * which is a reverse topological order of the condensation.
+     *
+     * @param g the graph to condense.
+     * @param component filled with the component number of each vertex number,
+     *          -1 for vertex numbers with no vertex.
+     * @return the number of components.
+     */
+    private int condense(AdjacencyMatrixInterface<T, E> g, int[] component) {
+
+        int n = component.length;
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] next = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callStack = new int[n];
+        int sp = 0;
+        int csp = 0;
+        int counter = 0;
+        int numComponents = 0;
+
+        Arrays.fill(component, -1);
+        Arrays.fill(index, -1);
+
+        for (int root = 0; root < n; root++) {
+
+            if (index[root] != -1 || g.getVertex(root) == null) {
+
+                continue;
+            }
+
+            index[root] = low[root] = counter++;
+            stack[sp++] = root;
+            onStack[root] = true;
+            callStack[csp++] = root;
+
+            while (csp > 0) {
+
+                int v = callStack[csp - 1];
+                int w = next[v];
+
+                //find the next vertex v has an edge to
+                while (w < n && (g.getEdge(v, w) == 0 || g.getVertex(w) == null)) {
+                    w++;
+                }
+
+                if (w < n) {
+
+                    next[v] = w + 1;
+
+                    if (index[w] == -1) {
+
+                        index[w] = low[w] = counter++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        callStack[csp++] = w;
+                    }
+                    else if (onStack[w]) {
+
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                }
+                else {
+
+                    next[v] = n;
+                    csp--;
+
+                    if (csp > 0) {
+
+                        int parent = callStack[csp - 1];
+                        low[parent] = Math.min(low[parent], low[v]);
+                    }
+
+                    //v is the root of a component, pop it off
+                    if (low[v] == index[v]) {
+
+                        int x;
+                        do {
+                            x = stack[--sp];
+                            onStack[x] = false;
+                            component[x] = numComponents;
+                        } while (x != v);
+
+                        numComponents++;
+                    }
+                }
+            }
+        }
+
+        return numComponents;
+    }
+}
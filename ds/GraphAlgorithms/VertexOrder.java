@@ -0,0 +1,658 @@
+package ds.GraphAlgorithms;
+
+import java.util.Arrays;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+/**
+ * Works out new vertex numbers that put vertices which are used together next to each other,
+ * so that searches and row scans touch fewer cache lines. Vertex numbers are whatever addVertex
+ * handed out, which for most graphs scatters every vertex's neighbors all over the arrays.
+ *
+ * mapping works out the new numbers, as a mapping from old to new vertex numbers like the one
+ * compact returns. GraphSnapshot.renumber makes a renumbered copy of a snapshot with it, and
+ * AbstractAdjacencyMatrix.renumber moves the vertices of a matrix. Answers about the renumbered
+ * graph map back to the old vertex numbers through the same mapping.
+ *
+ * Every layout treats directed edges as undirected, vertices are near each other if there's
+ * an edge either way.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public final class VertexOrder {
+
+    //~Constants----------------------------------------------
+    /**
+     * The ways of laying out the vertices.
+     */
+    public enum Layout {
+
+        /**
+         * Reverse Cuthill-McKee: a breadth first search from a vertex at the edge of the graph,
+         * taking neighbors in increasing order of degree, reversed. Keeps the vertex numbers of
+         * every edge close together, so the matrix has a narrow band, good for meshes and roads.
+         */
+        REVERSE_CUTHILL_MCKEE,
+
+        /**
+         * Decreasing order of degree, so the most used vertices share the same few cache lines.
+         * Cheap, and good for graphs with a few hubs.
+         */
+        DEGREE,
+
+        /**
+         * Breadth first search order, so the vertices a search finds together are numbered together.
+         */
+        BFS,
+
+        /**
+         * The greedy order of Gorder: each next vertex is the one with the most neighbors, and
+         * neighbors in common, among the last few numbered. Slower to work out than the others,
+         * but usually the best for graphs without a shape, like social networks.
+         */
+        GORDER
+    }
+
+    /**
+     * The number of the last numbered vertices that Gorder looks at.
+     */
+    private static final int GORDER_WINDOW = 5;
+
+    /**
+     * Gorder doesn't count neighbors shared through vertices of higher degree than this,
+     * or sqrt(n) if that's lower.
+     */
+    private static final int GORDER_HUB_DEGREE = 64;
+
+    //~Constructors--------------------------------------------
+    private VertexOrder() {}
+
+    //~Methods-------------------------------------------------
+    /**
+     * Works out new vertex numbers for the vertices of g, which take up 0 to g.size() - 1.
+     *
+     * @param g the graph to lay out.
+     * @param layout the layout.
+     * @return the new vertex number of each vertex number of g, -1 for numbers with no vertex.
+     */
+    public static int[] mapping(GraphSnapshot<?> g, Layout layout) {
+
+        int n = g.usedSlots();
+        int[][] adjacency = undirected(g);
+        int[] order;
+
+        switch (layout) {
+
+            case REVERSE_CUTHILL_MCKEE:
+                order = reverseCuthillMcKee(g, adjacency[0], adjacency[1]);
+                break;
+
+            case DEGREE:
+                order = byDegree(g, adjacency[0], true);
+                break;
+
+            case BFS:
+                order = bfs(g, adjacency[0], adjacency[1]);
+                break;
+
+            default:
+                order = gorder(g, adjacency[0], adjacency[1]);
+                break;
+        }
+
+        int[] mapping = new int[n];
+        Arrays.fill(mapping, -1);
+
+        for (int k = 0; k < order.length; k++) {
+
+            mapping[order[k]] = k;
+        }
+
+        return mapping;
+    }
+
+    /**
+     * Lays out the vertices of a matrix, moving them and their edges to their new vertex numbers.
+     *
+     * @param g the matrix to lay out.
+     * @param layout the layout.
+     * @return the new vertex number of each old vertex number, -1 for numbers with no vertex.
+     */
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> int[] renumber(G g, Layout layout) {
+
+        int[] mapping = mapping(GraphSnapshot.fromMatrix(g), layout);
+
+        g.renumber(mapping);
+
+        return mapping;
+    }
+
+    /**
+     * Tells the bandwidth of a snapshot, the largest difference between the vertex numbers
+     * of an edge, which the layouts try to keep small.
+     *
+     * @param g the snapshot.
+     * @return the bandwidth, 0 if there are no edges.
+     */
+    public static int bandwidth(GraphSnapshot<?> g) {
+
+        int bandwidth = 0;
+
+        for (int v = 0; v < g.usedSlots(); v++) {
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                bandwidth = Math.max(bandwidth, Math.abs(g.target(e) - v));
+            }
+        }
+
+        return bandwidth;
+    }
+
+    /**
+     * Gets the edges of g in both directions, each once, without self loops.
+     *
+     * @param g the snapshot.
+     * @return the offsets and the targets, the neighbors of v are at offsets[v]
+     *          to offsets[v + 1] - 1 of targets.
+     */
+    private static int[][] undirected(GraphSnapshot<?> g) {
+
+        int n = g.usedSlots();
+        int[] offsets = new int[n + 1];
+
+        for (int v = 0; v < n; v++) {
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                int w = g.target(e);
+
+                if (w != v) {
+
+                    offsets[v + 1]++;
+
+                    if (g.isDirected()) {
+                        offsets[w + 1]++;
+                    }
+                }
+            }
+        }
+
+        for (int v = 0; v < n; v++) {
+
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] next = Arrays.copyOf(offsets, n);
+
+        for (int v = 0; v < n; v++) {
+
+            for (int e = g.edgesStart(v); e < g.edgesEnd(v); e++) {
+
+                int w = g.target(e);
+
+                if (w != v) {
+
+                    targets[next[v]++] = w;
+
+                    if (g.isDirected()) {
+                        targets[next[w]++] = v;
+                    }
+                }
+            }
+        }
+
+        if (!g.isDirected()) {
+            return new int[][] {offsets, targets};
+        }
+
+        //an edge both ways was added twice
+        int kept = 0;
+        int start = 0;
+
+        for (int v = 0; v < n; v++) {
+
+            int end = offsets[v + 1];
+            Arrays.sort(targets, start, end);
+
+            for (int e = start; e < end; e++) {
+
+                if (e == start || targets[e] != targets[kept - 1]) {
+                    targets[kept++] = targets[e];
+                }
+            }
+
+            start = end;
+            offsets[v + 1] = kept;
+        }
+
+        return new int[][] {offsets, targets};
+    }
+
+    /**
+     * Sorts the vertices of g by degree, ties broken by vertex number.
+     *
+     * @param g the snapshot, for which vertex numbers hold vertices.
+     * @param offsets the offsets of the undirected edges.
+     * @param decreasing true for the highest degree first, false for the lowest.
+     * @return the vertices in order.
+     */
+    private static int[] byDegree(GraphSnapshot<?> g, int[] offsets, boolean decreasing) {
+
+        int n = g.usedSlots();
+        int maxDegree = 0;
+
+        for (int v = 0; v < n; v++) {
+
+            maxDegree = Math.max(maxDegree, offsets[v + 1] - offsets[v]);
+        }
+
+        //counting sort
+        int[] starts = new int[maxDegree + 2];
+        for (int v = 0; v < n; v++) {
+
+            if (g.getVertex(v) != null) {
+                starts[key(offsets, v, maxDegree, decreasing) + 1]++;
+            }
+        }
+
+        for (int d = 0; d <= maxDegree; d++) {
+
+            starts[d + 1] += starts[d];
+        }
+
+        int[] order = new int[starts[maxDegree + 1]];
+        for (int v = 0; v < n; v++) {
+
+            if (g.getVertex(v) != null) {
+                order[starts[key(offsets, v, maxDegree, decreasing)]++] = v;
+            }
+        }
+
+        return order;
+    }
+
+    /**
+     * The bucket of v when sorting by degree.
+     */
+    private static int key(int[] offsets, int v, int maxDegree, boolean decreasing) {
+
+        int degree = offsets[v + 1] - offsets[v];
+
+        return decreasing ? maxDegree - degree : degree;
+    }
+
+    /**
+     * Numbers the vertices in breadth first search order, starting a new search
+     * from the lowest numbered vertex not yet found.
+     *
+     * @param g the snapshot.
+     * @param offsets the offsets of the undirected edges.
+     * @param targets the targets of the undirected edges.
+     * @return the vertices in order.
+     */
+    private static int[] bfs(GraphSnapshot<?> g, int[] offsets, int[] targets) {
+
+        int n = g.usedSlots();
+        boolean[] found = new boolean[n];
+
+        //the order is also the queue
+        int[] order = new int[g.size()];
+        int count = 0;
+
+        for (int s = 0; s < n; s++) {
+
+            if (found[s] || g.getVertex(s) == null) {
+                continue;
+            }
+
+            found[s] = true;
+            order[count++] = s;
+
+            for (int head = count - 1; head < count; head++) {
+
+                int v = order[head];
+
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+
+                    int w = targets[e];
+
+                    if (!found[w]) {
+
+                        found[w] = true;
+                        order[count++] = w;
+                    }
+                }
+            }
+        }
+
+        return order;
+    }
+
+    /**
+     * Numbers the vertices in reverse Cuthill-McKee order. Each connected component is searched
+     * from a pseudo-peripheral vertex, found from its lowest degree vertex.
+     *
+     * @param g the snapshot.
+     * @param offsets the offsets of the undirected edges.
+     * @param targets the targets of the undirected edges.
+     * @return the vertices in order.
+     */
+    private static int[] reverseCuthillMcKee(GraphSnapshot<?> g, int[] offsets, int[] targets) {
+
+        int n = g.usedSlots();
+        boolean[] found = new boolean[n];
+        int[] candidates = byDegree(g, offsets, false);
+
+        //the order is also the queue
+        int[] order = new int[candidates.length];
+        int count = 0;
+
+        //scratch for the searches that find the starting vertex
+        int[] levels = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(levels, -1);
+
+        //scratch for sorting each vertex's new neighbors by degree
+        long[] sorting = new long[16];
+
+        for (int candidate : candidates) {
+
+            if (found[candidate]) {
+                continue;
+            }
+
+            int root = peripheral(candidate, offsets, targets, levels, queue);
+
+            found[root] = true;
+            order[count++] = root;
+
+            for (int head = count - 1; head < count; head++) {
+
+                int v = order[head];
+                int added = 0;
+
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+
+                    int w = targets[e];
+
+                    if (!found[w]) {
+
+                        found[w] = true;
+
+                        if (added == sorting.length) {
+                            sorting = Arrays.copyOf(sorting, 2 * added);
+                        }
+                        sorting[added++] = ((long) (offsets[w + 1] - offsets[w]) << 32) | w;
+                    }
+                }
+
+                Arrays.sort(sorting, 0, added);
+
+                for (int k = 0; k < added; k++) {
+
+                    order[count++] = (int) sorting[k];
+                }
+            }
+        }
+
+        //reverse
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+
+        return order;
+    }
+
+    /**
+     * Finds a vertex far from the rest of its component, as George and Liu do: searches from
+     * start, and moves to the lowest degree vertex of the last level while that makes the
+     * graph deeper.
+     *
+     * @param start the vertex to start from.
+     * @param offsets the offsets of the undirected edges.
+     * @param targets the targets of the undirected edges.
+     * @param levels scratch, all -1, left all -1.
+     * @param queue scratch, as long as levels.
+     * @return the pseudo-peripheral vertex.
+     */
+    private static int peripheral(int start, int[] offsets, int[] targets, int[] levels, int[] queue) {
+
+        int root = start;
+        int depth = -1;
+
+        while (true) {
+
+            levels[root] = 0;
+            queue[0] = root;
+            int count = 1;
+
+            for (int head = 0; head < count; head++) {
+
+                int v = queue[head];
+
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+
+                    int w = targets[e];
+
+                    if (levels[w] == -1) {
+
+                        levels[w] = levels[v] + 1;
+                        queue[count++] = w;
+                    }
+                }
+            }
+
+            int newDepth = levels[queue[count - 1]];
+            int next = queue[count - 1];
+
+            for (int k = count - 1; k >= 0 && levels[queue[k]] == newDepth; k--) {
+
+                int v = queue[k];
+
+                if (offsets[v + 1] - offsets[v] < offsets[next + 1] - offsets[next]) {
+                    next = v;
+                }
+            }
+
+            for (int k = 0; k < count; k++) {
+
+                levels[queue[k]] = -1;
+            }
+
+            if (newDepth <= depth) {
+                return root;
+            }
+
+            depth = newDepth;
+            root = next;
+        }
+    }
+
+    /**
+     * Numbers the vertices greedily as Gorder does. The score of a vertex is the number of
+     * the last GORDER_WINDOW numbered vertices it's a neighbor of, plus the number of
+     * neighbors it shares with them, and the vertex with the highest score is numbered next.
+     *
+     * Scores only ever move by one, so the vertices not numbered yet are kept in a list per
+     * score, and moving a vertex between lists takes O(1) time. Neighbors shared through
+     * a hub (degree over sqrt(n), or GORDER_HUB_DEGREE) aren't counted, they'd cost a lot
+     * and mean little.
+     *
+     * @param g the snapshot.
+     * @param offsets the offsets of the undirected edges.
+     * @param targets the targets of the undirected edges.
+     * @return the vertices in order.
+     */
+    private static int[] gorder(GraphSnapshot<?> g, int[] offsets, int[] targets) {
+
+        int n = g.usedSlots();
+        int hub = Math.min((int) Math.sqrt(n), GORDER_HUB_DEGREE);
+
+        boolean[] numbered = new boolean[n];
+        Buckets buckets = new Buckets(n);
+        int start = -1;
+
+        for (int v = n - 1; v >= 0; v--) {
+
+            if (g.getVertex(v) == null) {
+
+                numbered[v] = true;
+                continue;
+            }
+
+            buckets.link(v);
+
+            if (start == -1 || offsets[v + 1] - offsets[v] >= offsets[start + 1] - offsets[start]) {
+                start = v;
+            }
+        }
+
+        int[] order = new int[g.size()];
+
+        for (int count = 0, v = start; v != -1; v = buckets.peekMax()) {
+
+            buckets.unlink(v);
+            numbered[v] = true;
+            order[count++] = v;
+
+            score(v, 1, offsets, targets, hub, numbered, buckets);
+
+            if (count > GORDER_WINDOW) {
+                score(order[count - 1 - GORDER_WINDOW], -1, offsets, targets, hub, numbered, buckets);
+            }
+        }
+
+        return order;
+    }
+
+    /**
+     * Adds delta to the score of every vertex not numbered yet that is a neighbor of v,
+     * or shares a neighbor with v.
+     */
+    private static void score(int v, int delta, int[] offsets, int[] targets, int hub,
+            boolean[] numbered, Buckets buckets) {
+
+        for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+
+            int u = targets[e];
+
+            if (!numbered[u]) {
+                buckets.add(u, delta);
+            }
+
+            if (offsets[u + 1] - offsets[u] > hub) {
+                continue;
+            }
+
+            for (int f = offsets[u]; f < offsets[u + 1]; f++) {
+
+                int w = targets[f];
+
+                if (w != v && !numbered[w]) {
+                    buckets.add(w, delta);
+                }
+            }
+        }
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * The vertices not numbered yet, in a doubly linked list per score.
+     */
+    private static final class Buckets {
+
+        private final int[] scores;
+        private final int[] next;
+        private final int[] previous;
+        private int[] heads;
+
+        /**
+         * The highest score that may have a vertex.
+         */
+        private int top;
+
+        /**
+         * Makes empty lists for the vertex numbers 0 to n - 1, all with a score of 0.
+         */
+        private Buckets(int n) {
+
+            scores = new int[n];
+            next = new int[n];
+            previous = new int[n];
+            heads = new int[16];
+            Arrays.fill(heads, -1);
+        }
+
+        /**
+         * Puts v at the front of the list of its score.
+         */
+        private void link(int v) {
+
+            int score = scores[v];
+
+            if (score >= heads.length) {
+
+                int oldLength = heads.length;
+                heads = Arrays.copyOf(heads, Math.max(2 * oldLength, score + 1));
+                Arrays.fill(heads, oldLength, heads.length, -1);
+            }
+
+            previous[v] = -1;
+            next[v] = heads[score];
+
+            if (heads[score] != -1) {
+                previous[heads[score]] = v;
+            }
+
+            heads[score] = v;
+            top = Math.max(top, score);
+        }
+
+        /**
+         * Takes v out of the list of its score.
+         */
+        private void unlink(int v) {
+
+            if (previous[v] != -1) {
+                next[previous[v]] = next[v];
+            }
+            else {
+                heads[scores[v]] = next[v];
+            }
+
+            if (next[v] != -1) {
+                previous[next[v]] = previous[v];
+            }
+        }
+
+        /**
+         * Adds delta to the score of v.
+         */
+        private void add(int v, int delta) {
+
+            unlink(v);
+            scores[v] += delta;
+            link(v);
+        }
+
+        /**
+         * Finds a vertex with the highest score, without taking it out.
+         *
+         * @return the vertex, -1 if there are none left.
+         */
+        private int peekMax() {
+
+            while (top > 0 && heads[top] == -1) {
+                top--;
+            }
+
+            return heads[top];
+        }
+    }
+}
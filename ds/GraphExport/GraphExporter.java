@@ -0,0 +1,263 @@
+package ds.GraphExport;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import ds.TheAdjacencyMatrix.AbstractAdjacencyMatrix;
+import ds.TheAdjacencyMatrix.WeightedMatrix;
+
+/**
+ * Writes the vertices and edges of an adjacency matrix out as DOT, GraphML or a plain edge
+ * list, straight to an Appendable or channel, one vertex and one edge at a time. Only the
+ * edges that exist are written, and nothing is held in memory besides the current line, so
+ * any size of graph can be exported. Unlike printEdges, which builds the whole V x V table
+ * in one String.
+ *
+ * Vertices are identified by their vertex numbers, in DOT and GraphML the element's
+ * toString() is written as the label. An undirected edge is written once, from its lower
+ * vertex number, so exporting rows in ranges (to page through a huge graph) writes each edge
+ * in exactly one range. Each range is a complete document holding the vertices of its rows,
+ * its edges may go to vertices of other ranges.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public final class GraphExporter {
+
+    //~Constants----------------------------------------------
+    /**
+     * The formats a graph can be exported in.
+     */
+    public enum Format {
+
+        /**
+         * Graphviz DOT, a digraph or graph of numbered nodes with label and weight attributes.
+         */
+        DOT,
+        /**
+         * GraphML, with the labels and weights as node and edge data.
+         */
+        GRAPHML,
+        /**
+         * One "from to weight" line per edge, separated by tabs, with no header.
+         */
+        EDGE_LIST
+    }
+
+    //~Constructors--------------------------------------------
+    private GraphExporter() {}
+
+    //~Methods-------------------------------------------------
+    /**
+     * Exports the whole graph.
+     *
+     * @param format the format to write.
+     * @param g the graph to export.
+     * @param out where to write it.
+     * @throws IOException if out fails to write.
+     */
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> void export(
+            Format format, G g, Appendable out) throws IOException {
+
+        export(format, g, 0, g.usedSlots(), out);
+    }
+
+    /**
+     * Exports the vertices numbered fromRow to toRow - 1, and the edges from them.
+     *
+     * @param format the format to write.
+     * @param g the graph to export.
+     * @param fromRow the first vertex number to export.
+     * @param toRow one past the last vertex number to export, clipped to g.usedSlots().
+     * @param out where to write it.
+     * @throws IOException if out fails to write.
+     */
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> void export(
+            Format format, G g, int fromRow, int toRow, Appendable out) throws IOException {
+
+        fromRow = Math.max(fromRow, 0);
+        toRow = Math.min(toRow, g.usedSlots());
+
+        switch (format) {
+            case DOT:
+                writeDot(g, fromRow, toRow, out);
+                break;
+            case GRAPHML:
+                writeGraphMl(g, fromRow, toRow, out);
+                break;
+            default:
+                writeEdgeList(g, fromRow, toRow, out);
+        }
+    }
+
+    /**
+     * Exports the vertices numbered fromRow to toRow - 1, and the edges from them,
+     * as UTF-8 to a channel. The channel is left open.
+     *
+     * @param format the format to write.
+     * @param g the graph to export.
+     * @param fromRow the first vertex number to export.
+     * @param toRow one past the last vertex number to export, clipped to g.usedSlots().
+     * @param channel where to write it.
+     * @throws IOException if the channel fails to write.
+     */
+    public static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> void export(
+            Format format, G g, int fromRow, int toRow, WritableByteChannel channel) throws IOException {
+
+        //the writer only buffers a few KB before passing them on to the channel
+        Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), 8192);
+
+        export(format, g, fromRow, toRow, writer);
+        writer.flush();
+    }
+
+    private static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> void writeDot(
+            G g, int fromRow, int toRow, Appendable out) throws IOException {
+
+        String arrow = g.isDirected() ? " -> " : " -- ";
+
+        out.append(g.isDirected() ? "digraph G {\n" : "graph G {\n");
+
+        for (int i = fromRow; i < toRow; i++) {
+
+            T element = g.getVertex(i);
+            if (element != null) {
+
+                out.append("  ").append(String.valueOf(i)).append(" [label=\"")
+                        .append(escapeDot(String.valueOf(element))).append("\"];\n");
+            }
+        }
+
+        for (int i = fromRow; i < toRow; i++) {
+
+            for (int j = firstColumn(g, i); j < g.usedSlots(); j++) {
+
+                if (g.hasEdge(i, j)) {
+
+                    out.append("  ").append(String.valueOf(i)).append(arrow).append(String.valueOf(j))
+                            .append(" [weight=").append(weight(g.weightOf(i, j))).append("];\n");
+                }
+            }
+        }
+
+        out.append("}\n");
+    }
+
+    private static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> void writeGraphMl(
+            G g, int fromRow, int toRow, Appendable out) throws IOException {
+
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n")
+                .append("  <key id=\"label\" for=\"node\" attr.name=\"label\" attr.type=\"string\"/>\n")
+                .append("  <key id=\"weight\" for=\"edge\" attr.name=\"weight\" attr.type=\"double\"/>\n")
+                .append("  <graph id=\"G\" edgedefault=\"")
+                .append(g.isDirected() ? "directed" : "undirected").append("\">\n");
+
+        for (int i = fromRow; i < toRow; i++) {
+
+            T element = g.getVertex(i);
+            if (element != null) {
+
+                out.append("    <node id=\"n").append(String.valueOf(i)).append("\"><data key=\"label\">")
+                        .append(escapeXml(String.valueOf(element))).append("</data></node>\n");
+            }
+        }
+
+        for (int i = fromRow; i < toRow; i++) {
+
+            for (int j = firstColumn(g, i); j < g.usedSlots(); j++) {
+
+                if (g.hasEdge(i, j)) {
+
+                    out.append("    <edge source=\"n").append(String.valueOf(i))
+                            .append("\" target=\"n").append(String.valueOf(j))
+                            .append("\"><data key=\"weight\">").append(weight(g.weightOf(i, j)))
+                            .append("</data></edge>\n");
+                }
+            }
+        }
+
+        out.append("  </graph>\n</graphml>\n");
+    }
+
+    private static <T, G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> void writeEdgeList(
+            G g, int fromRow, int toRow, Appendable out) throws IOException {
+
+        for (int i = fromRow; i < toRow; i++) {
+
+            for (int j = firstColumn(g, i); j < g.usedSlots(); j++) {
+
+                if (g.hasEdge(i, j)) {
+
+                    out.append(String.valueOf(i)).append('\t').append(String.valueOf(j))
+                            .append('\t').append(weight(g.weightOf(i, j))).append('\n');
+                }
+            }
+        }
+    }
+
+    /**
+     * The first column of row to export, an undirected edge is only exported from
+     * its lower vertex number.
+     *
+     * @param g the graph being exported.
+     * @param row the row being exported.
+     * @return the first column to look at.
+     */
+    private static int firstColumn(WeightedMatrix g, int row) {
+
+        return g.isDirected() ? 0 : row;
+    }
+
+    /**
+     * Writes a weight without a trailing ".0" when it is a whole number.
+     *
+     * @param weight the weight.
+     * @return the weight as a String.
+     */
+    private static String weight(double weight) {
+
+        if (weight == Math.rint(weight) && Math.abs(weight) < 1e15) {
+
+            return String.valueOf((long) weight);
+        }
+
+        return String.valueOf(weight);
+    }
+
+    private static String escapeDot(String s) {
+
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeXml(String s) {
+
+        StringBuilder build = new StringBuilder(s.length());
+
+        for (int i = 0; i < s.length(); i++) {
+
+            char c = s.charAt(i);
+
+            switch (c) {
+                case '&':
+                    build.append("&amp;");
+                    break;
+                case '<':
+                    build.append("&lt;");
+                    break;
+                case '>':
+                    build.append("&gt;");
+                    break;
+                case '"':
+                    build.append("&quot;");
+                    break;
+                default:
+                    build.append(c);
+            }
+        }
+
+        return build.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package ds.GraphMetrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default GraphInstrumentation, which sums everything reported to it in striped
+ * counters (LongAdder), so threads reporting at once don't contend on a single counter.
+ * Take a snapshot to read or export the totals.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public class CounterInstrumentation implements GraphInstrumentation {
+
+    //~Data Fields--------------------------------------------
+    private final LongAdder vertexLookups = new LongAdder();
+
+    private final LongAdder cellsScanned = new LongAdder();
+
+    private final LongAdder edgesRelaxed = new LongAdder();
+
+    private final LongAdder verticesVisited = new LongAdder();
+
+    /**
+     * Timing totals of each algorithm, by name.
+     */
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<String, Timer>();
+
+    //~Methods-------------------------------------------------
+    @Override
+    public void vertexLookup(long cellsScanned) {
+
+        vertexLookups.increment();
+        this.cellsScanned.add(cellsScanned);
+    }
+
+    @Override
+    public void cellsScanned(long cells) {
+
+        cellsScanned.add(cells);
+    }
+
+    @Override
+    public void algorithmFinished(String algorithm, long nanos, long verticesVisited, long edgesRelaxed) {
+
+        this.verticesVisited.add(verticesVisited);
+        this.edgesRelaxed.add(edgesRelaxed);
+
+        Timer timer = timers.get(algorithm);
+        if (timer == null) {
+
+            timers.putIfAbsent(algorithm, new Timer());
+            timer = timers.get(algorithm);
+        }
+
+        timer.calls.increment();
+        timer.totalNanos.add(nanos);
+        timer.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Sets every counter back to 0.
+     * Measurements reported during the reset may or may not be kept.
+     */
+    public void reset() {
+
+        vertexLookups.reset();
+        cellsScanned.reset();
+        edgesRelaxed.reset();
+        verticesVisited.reset();
+        timers.clear();
+    }
+
+    /**
+     * Reads the current totals. Not atomic across counters, measurements reported
+     * while the snapshot is taken may show up in some totals and not others.
+     *
+     * @return the totals so far.
+     */
+    public InstrumentationSnapshot snapshot() {
+
+        Map<String, long[]> algorithms = new TreeMap<String, long[]>();
+
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+
+            Timer timer = entry.getValue();
+            algorithms.put(entry.getKey(), new long[] {
+                timer.calls.sum(), timer.totalNanos.sum(), timer.maxNanos.get()
+            });
+        }
+
+        return new InstrumentationSnapshot(vertexLookups.sum(), cellsScanned.sum(),
+                edgesRelaxed.sum(), verticesVisited.sum(), algorithms);
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * Call count and time totals of one algorithm.
+     */
+    private static class Timer {
+
+        private final LongAdder calls = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
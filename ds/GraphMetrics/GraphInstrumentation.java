@@ -0,0 +1,37 @@
+package ds.GraphMetrics;
+
+/**
+ * Receives the measurements that the graphs and the graph algorithms report while they run.
+ * Install an implementation with Instrumentation.install, CounterInstrumentation is the default one.
+ *
+ * Calls come from whatever threads use the graphs, so implementations must be thread safe,
+ * and should be cheap since they run inline with the operations being measured.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public interface GraphInstrumentation {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Called once per element to vertex number lookup (findVertex).
+     *
+     * @param cellsScanned the number of vertex slots the lookup looked at.
+     */
+    public void vertexLookup(long cellsScanned);
+    /**
+     * Called when a matrix row or column is scanned for edges.
+     *
+     * @param cells the number of matrix cells looked at.
+     */
+    public void cellsScanned(long cells);
+    /**
+     * Called when an algorithm finishes.
+     *
+     * @param algorithm the name of the algorithm.
+     * @param nanos how long the call took, in nanoseconds.
+     * @param verticesVisited the number of vertices the algorithm visited.
+     * @param edgesRelaxed the number of edges the algorithm followed or relaxed.
+     */
+    public void algorithmFinished(String algorithm, long nanos, long verticesVisited, long edgesRelaxed);
+}
@@ -0,0 +1,111 @@
+package ds.GraphMetrics;
+
+/**
+ * Holds the GraphInstrumentation that the graphs and algorithms report to, if any.
+ * With nothing installed every hook is a single volatile read and a branch,
+ * and algorithms don't read the clock.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public final class Instrumentation {
+
+    //~Constants----------------------------------------------
+    /**
+     * Returned by start when nothing is installed, so finish knows there is no start time.
+     */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * The installed instrumentation, null if none is.
+     */
+    private static volatile GraphInstrumentation installed;
+
+    //~Constructors--------------------------------------------
+    private Instrumentation() {}
+
+    //~Methods-------------------------------------------------
+    /**
+     * Makes instrumentation the receiver of all graph measurements, replacing any other.
+     *
+     * @param instrumentation the instrumentation to install, null to turn measuring off.
+     */
+    public static void install(GraphInstrumentation instrumentation) {
+
+        installed = instrumentation;
+    }
+
+    /**
+     * Turns measuring off.
+     */
+    public static void uninstall() {
+
+        installed = null;
+    }
+
+    /**
+     * Tells whether an instrumentation is installed.
+     *
+     * @return true if measurements are being collected, false otherwise.
+     */
+    public static boolean isEnabled() {
+
+        return installed != null;
+    }
+
+    /**
+     * Reports an element to vertex number lookup.
+     *
+     * @param cellsScanned the number of vertex slots the lookup looked at.
+     */
+    public static void vertexLookup(long cellsScanned) {
+
+        GraphInstrumentation instrumentation = installed;
+
+        if (instrumentation != null) {
+            instrumentation.vertexLookup(cellsScanned);
+        }
+    }
+
+    /**
+     * Reports a scan over matrix cells.
+     *
+     * @param cells the number of matrix cells looked at.
+     */
+    public static void cellsScanned(long cells) {
+
+        GraphInstrumentation instrumentation = installed;
+
+        if (instrumentation != null) {
+            instrumentation.cellsScanned(cells);
+        }
+    }
+
+    /**
+     * Called as an algorithm starts, to time it.
+     *
+     * @return the start time to pass to finish, NOT_TIMED if nothing is installed.
+     */
+    public static long start() {
+
+        return installed != null ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Reports that an algorithm finished.
+     *
+     * @param algorithm the name of the algorithm.
+     * @param start what start returned when the algorithm started.
+     * @param verticesVisited the number of vertices the algorithm visited.
+     * @param edgesRelaxed the number of edges the algorithm followed or relaxed.
+     */
+    public static void finish(String algorithm, long start, long verticesVisited, long edgesRelaxed) {
+
+        GraphInstrumentation instrumentation = installed;
+
+        if (instrumentation != null && start != NOT_TIMED) {
+            instrumentation.algorithmFinished(algorithm, System.nanoTime() - start, verticesVisited, edgesRelaxed);
+        }
+    }
+}
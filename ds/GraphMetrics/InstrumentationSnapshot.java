@@ -0,0 +1,180 @@
+package ds.GraphMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The totals of a CounterInstrumentation at one point in time,
+ * which can be written out as text or as JSON.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public class InstrumentationSnapshot {
+
+    //~Data Fields--------------------------------------------
+    private final long vertexLookups;
+
+    private final long cellsScanned;
+
+    private final long edgesRelaxed;
+
+    private final long verticesVisited;
+
+    /**
+     * {calls, total nanoseconds, max nanoseconds} of each algorithm, by name.
+     */
+    private final Map<String, long[]> algorithms;
+
+    //~Constructors--------------------------------------------
+    InstrumentationSnapshot(long vertexLookups, long cellsScanned, long edgesRelaxed,
+            long verticesVisited, Map<String, long[]> algorithms) {
+
+        this.vertexLookups = vertexLookups;
+        this.cellsScanned = cellsScanned;
+        this.edgesRelaxed = edgesRelaxed;
+        this.verticesVisited = verticesVisited;
+        this.algorithms = Collections.unmodifiableMap(algorithms);
+    }
+
+    //~Methods-------------------------------------------------
+    public long getVertexLookups() {
+
+        return vertexLookups;
+    }
+
+    public long getCellsScanned() {
+
+        return cellsScanned;
+    }
+
+    public long getEdgesRelaxed() {
+
+        return edgesRelaxed;
+    }
+
+    public long getVerticesVisited() {
+
+        return verticesVisited;
+    }
+
+    /**
+     * Gets the number of calls of an algorithm.
+     *
+     * @param algorithm the name of the algorithm.
+     * @return the number of calls, 0 if it was never called.
+     */
+    public long getCalls(String algorithm) {
+
+        long[] timer = algorithms.get(algorithm);
+
+        return timer == null ? 0 : timer[0];
+    }
+
+    /**
+     * Gets the total time spent in an algorithm.
+     *
+     * @param algorithm the name of the algorithm.
+     * @return the total time in nanoseconds, 0 if it was never called.
+     */
+    public long getTotalNanos(String algorithm) {
+
+        long[] timer = algorithms.get(algorithm);
+
+        return timer == null ? 0 : timer[1];
+    }
+
+    /**
+     * Writes the snapshot as lines of "name value" text.
+     *
+     * @return the snapshot as text.
+     */
+    public String toText() {
+
+        StringBuilder build = new StringBuilder();
+
+        build.append("vertexLookups ").append(vertexLookups).append("\n");
+        build.append("cellsScanned ").append(cellsScanned).append("\n");
+        build.append("edgesRelaxed ").append(edgesRelaxed).append("\n");
+        build.append("verticesVisited ").append(verticesVisited).append("\n");
+
+        for (Map.Entry<String, long[]> entry : algorithms.entrySet()) {
+
+            long[] timer = entry.getValue();
+            build.append(entry.getKey())
+                    .append(" calls=").append(timer[0])
+                    .append(" totalNanos=").append(timer[1])
+                    .append(" maxNanos=").append(timer[2]).append("\n");
+        }
+
+        return build.toString();
+    }
+
+    /**
+     * Writes the snapshot as a JSON object.
+     *
+     * @return the snapshot as JSON.
+     */
+    public String toJson() {
+
+        StringBuilder build = new StringBuilder();
+
+        build.append("{\"vertexLookups\":").append(vertexLookups)
+                .append(",\"cellsScanned\":").append(cellsScanned)
+                .append(",\"edgesRelaxed\":").append(edgesRelaxed)
+                .append(",\"verticesVisited\":").append(verticesVisited)
+                .append(",\"algorithms\":{");
+
+        boolean first = true;
+        for (Map.Entry<String, long[]> entry : algorithms.entrySet()) {
+
+            long[] timer = entry.getValue();
+
+            if (!first) {
+                build.append(",");
+            }
+            first = false;
+
+            build.append("\"").append(escape(entry.getKey())).append("\":{")
+                    .append("\"calls\":").append(timer[0])
+                    .append(",\"totalNanos\":").append(timer[1])
+                    .append(",\"maxNanos\":").append(timer[2]).append("}");
+        }
+
+        return build.append("}}").toString();
+    }
+
+    /**
+     * Escapes the characters of a string that can't appear as is inside a JSON string.
+     *
+     * @param s the string to escape.
+     * @return the escaped string.
+     */
+    private static String escape(String s) {
+
+        StringBuilder build = new StringBuilder();
+
+        for (int i = 0; i < s.length(); i++) {
+
+            char c = s.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                build.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                build.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                build.append(c);
+            }
+        }
+
+        return build.toString();
+    }
+
+    @Override
+    public String toString() {
+
+        return toText();
+    }
+}
@@ -0,0 +1,818 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import ds.Graph.Graph;
+import ds.GraphMetrics.Instrumentation;
+
+/**
+ * The parts of an Adjacency Matrix style graph that don't depend on how the edges are stored.
+ * Keeps track of the vertices, which element is at which vertex number, and maps the element
+ * based Graph methods onto the vertex number based edge methods that subclasses implement.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public abstract class AbstractAdjacencyMatrix<T> implements Graph<T> {
+
+    //~Constants----------------------------------------------
+    protected static final int DEFAULT_SIZE = 10;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Array of elements contained in the graph.
+     * Elements correspond to the same indices as they do in the adjacency matrix of edges.
+     *
+     * i.e. edge (4, 5) is an edge from 4 to 5,
+     *  elements[4] is the element at 4, elements[5] is the element at 5
+     */
+    private T[] elements;
+
+    /**
+     * The maximum number of vertices in the adjacency matrix.
+     */
+    private int size;
+
+    /**
+     * The current number of vertices in the graph.
+     */
+    private int numVertices;
+
+    /**
+     * The number of vertex numbers, from 0 up, that have ever been handed out.
+     * Every vertex number at or above this has never held a vertex, so scans stop here.
+     */
+    private int slotsUsed;
+
+    /**
+     * Stack of vertex numbers below slotsUsed that were freed by removing their vertex.
+     * addVertex takes from here first, so it never has to search for an open slot.
+     */
+    private int[] freeSlots;
+
+    /**
+     * The number of vertex numbers on the freeSlots stack.
+     */
+    private int numFree;
+
+    /**
+     * Indicates whether the graph is directed or not. True if directed, false otherwise.
+     */
+    private final boolean directed;
+
+    /**
+     * The number of edges from each vertex number, the number of cells set in its row.
+     */
+    private int[] outDegree;
+
+    /**
+     * The number of edges to each vertex number, the number of cells set in its column.
+     */
+    private int[] inDegree;
+
+    /**
+     * The number of edges in the graph, an undirected edge counts once.
+     */
+    private int numEdges;
+
+    /**
+     * Goes up with every change made to the vertices or edges, see version().
+     */
+    private long version;
+
+    /**
+     * The listeners told about every edge added or removed, null if there are none.
+     */
+    private MatrixListener[] listeners;
+
+    /**
+     * True while compact or renumber counts the edges again,
+     * which isn't a change to tell listeners about.
+     */
+    private boolean recounting;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the vertices of the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph, until it grows.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    @SuppressWarnings("unchecked")
+    protected AbstractAdjacencyMatrix(boolean directed, int size) {
+
+        elements = (T[]) new Object[size];
+        freeSlots = new int[size];
+        outDegree = new int[size];
+        inDegree = new int[size];
+
+        this.size = size;
+        this.directed = directed;
+        numVertices = 0;
+        slotsUsed = 0;
+        numFree = 0;
+    }
+
+    //~Abstract Methods----------------------------------------
+    /**
+     * Tells whether there is an edge from the vertex numbered fromVertex
+     * to the vertex numbered toVertex.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return true if the edge exists, false if it doesn't or the numbers are invalid.
+     */
+    public abstract boolean hasEdge(int fromVertex, int toVertex);
+
+    /**
+     * Adds an edge between the two passed in vertex numbers of weight 1.
+     * If it's directed, adds the edge from index1 to index 2.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if indices are valid, and if the edge does not already exist.
+     */
+    public abstract boolean addEdge(int index1, int index2);
+
+    /**
+     * Takes two vertex numbers and removes the edge.
+     * If it's directed, removes the edge from index1 to index 2.
+     * Returns true if the edge exists, false otherwise.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if the edge exists, false otherwise.
+     */
+    public abstract boolean removeEdge(int index1, int index2);
+
+    /**
+     * Removes every edge going to or from the vertex numbered index.
+     * Called before the vertex itself is removed.
+     *
+     * @param index the vertex number whose row and column are cleared.
+     */
+    protected abstract void clearEdges(int index);
+
+    /**
+     * Grows the edge storage so that it can hold newSize vertices.
+     * Existing edges keep their vertex numbers.
+     *
+     * @param oldSize the number of vertices the storage holds now.
+     * @param newSize the number of vertices the storage has to hold.
+     */
+    protected abstract void resizeEdges(int oldSize, int newSize);
+
+    /**
+     * Moves every edge to the new vertex numbers of its endpoints.
+     * Only vertex numbers below used can hold edges. Vertex number i moves to mapping[i],
+     * or holds no vertex (and so no edges) if mapping[i] is -1. The new numbers don't have
+     * to keep the order of the old ones, and every cell not written with a moved edge ends up empty.
+     *
+     * @param mapping the new vertex number of each old vertex number, -1 if it has no vertex.
+     * @param used the number of vertex numbers that could hold edges.
+     */
+    protected abstract void relabelEdges(int[] mapping, int used);
+
+    //~Methods-------------------------------------------------
+    /**
+     * Keeps the degrees and edge count up to date. Subclasses must call this every time
+     * a cell goes from holding no edge to holding one or back, outside of relabelEdges,
+     * and call it for both cells of an undirected edge (once for a self loop).
+     *
+     * @param row the vertex number the cell's edge goes from.
+     * @param col the vertex number the cell's edge goes to.
+     * @param present true if the cell now holds an edge, false if it no longer does.
+     */
+    protected void cellChanged(int row, int col, boolean present) {
+
+        modified();
+
+        int delta = present ? 1 : -1;
+
+        outDegree[row] += delta;
+        inDegree[col] += delta;
+
+        //an undirected edge is in two cells, only count one of them
+        if (directed || row <= col) {
+
+            numEdges += delta;
+
+            if (listeners != null && !recounting) {
+
+                for (MatrixListener listener : listeners) {
+
+                    if (present) {
+                        listener.edgeAdded(row, col);
+                    }
+                    else {
+                        listener.edgeRemoved(row, col);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a listener to be told about every edge added to or removed from the matrix,
+     * and every relabeling by compact or renumber. Copies of the matrix don't get its listeners.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(MatrixListener listener) {
+
+        if (listeners == null) {
+
+            listeners = new MatrixListener[] { listener };
+        }
+        else {
+
+            listeners = Arrays.copyOf(listeners, listeners.length + 1);
+            listeners[listeners.length - 1] = listener;
+        }
+    }
+
+    /**
+     * Stops telling a listener about changes.
+     *
+     * @param listener the listener to remove.
+     * @return true if it was listening, false otherwise.
+     */
+    public boolean removeListener(MatrixListener listener) {
+
+        for (int i = 0; listeners != null && i < listeners.length; i++) {
+
+            if (listeners[i] == listener) {
+
+                MatrixListener[] temp = new MatrixListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, temp, 0, i);
+                System.arraycopy(listeners, i + 1, temp, i, temp.length - i);
+
+                listeners = temp.length == 0 ? null : temp;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Moves the version on. Subclasses must call this every time they write a cell,
+     * so that changing the weight of an edge that stays present is seen too.
+     */
+    protected void modified() {
+
+        version++;
+    }
+
+    /**
+     * Tells the version of the graph, a counter that goes up every time a vertex or an edge
+     * is added or removed, or an edge is given a new weight through the matrix.
+     * Anything worked out from the graph still holds while the version stays the same.
+     * Changes made to an Edge object directly, after it was added, aren't seen.
+     *
+     * @return the version of the graph.
+     */
+    public long version() {
+
+        return version;
+    }
+
+    /**
+     * Counts the degrees and edges again from scratch, after the edges moved.
+     */
+    private void recountDegrees() {
+
+        Arrays.fill(outDegree, 0);
+        Arrays.fill(inDegree, 0);
+        numEdges = 0;
+
+        //edges can be added at vertex numbers with no vertex, so look at every cell
+        for (int i = 0; i < size; i++) {
+
+            for (int j = 0; j < size; j++) {
+
+                if (hasEdge(i, j)) {
+                    cellChanged(i, j, true);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int addVertex(T element) {
+
+        int index;
+
+        //reuse the most recently freed slot, otherwise take the next unused one
+        if (numFree > 0) {
+
+            index = freeSlots[--numFree];
+        }
+        else {
+
+            if (slotsUsed == size) {
+
+                resize();
+            }
+
+            index = slotsUsed++;
+        }
+
+        elements[index] = element;
+        numVertices++;
+        modified();
+
+        return index;
+    }
+
+    /**
+     * Tells the most vertices the edge storage can hold. The matrix never grows past it.
+     *
+     * @return the largest capacity, Integer.MAX_VALUE unless the storage has a lower limit.
+     */
+    protected int maxCapacity() {
+
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Doubles the number of vertices the matrix can hold, or grows it to maxCapacity().
+     *
+     * @throws IllegalArgumentException if the matrix already holds maxCapacity() vertices.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+
+        int oldSize = size;
+        int newSize = (int) Math.min(2L * size, maxCapacity());
+
+        if (newSize <= oldSize) {
+            throw new IllegalArgumentException("the matrix can't hold more than " + maxCapacity() + " vertices");
+        }
+
+        size = newSize;
+
+        T[] temp = (T[]) new Object[size];
+        System.arraycopy(elements, 0, temp, 0, oldSize);
+        elements = temp;
+
+        int[] freeTemp = new int[size];
+        System.arraycopy(freeSlots, 0, freeTemp, 0, numFree);
+        freeSlots = freeTemp;
+
+        outDegree = Arrays.copyOf(outDegree, size);
+        inDegree = Arrays.copyOf(inDegree, size);
+
+        resizeEdges(oldSize, size);
+    }
+
+    /**
+     * Renumbers the vertices so that they take up vertex numbers 0 to size() - 1,
+     * keeping their relative order, and moves all of the edges along with them.
+     * Afterwards scans over the vertex numbers only cover live vertices, until vertices
+     * are removed again.
+     *
+     * @return the new vertex number of each old vertex number,
+     *          -1 for old vertex numbers that had no vertex.
+     */
+    public int[] compact() {
+
+        int[] mapping = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+
+            mapping[i] = (i < slotsUsed && elements[i] != null) ? count++ : -1;
+        }
+
+        relabel(mapping, count);
+
+        return mapping;
+    }
+
+    /**
+     * Moves every vertex, and its edges, to the vertex number that mapping gives it,
+     * for example to put vertices that are used together next to each other (see VertexOrder).
+     * The vertices have to get the vertex numbers 0 to size() - 1, a different one each,
+     * so afterwards the matrix is compact. Entries of vertex numbers with no vertex are ignored.
+     *
+     * @param mapping the new vertex number of each old vertex number, at least usedSlots() long.
+     * @return true if the vertices were moved, false if mapping isn't a renumbering of them.
+     */
+    public boolean renumber(int[] mapping) {
+
+        if (mapping == null || mapping.length < slotsUsed) {
+            return false;
+        }
+
+        int[] checked = new int[size];
+        Arrays.fill(checked, -1);
+        boolean[] taken = new boolean[numVertices];
+
+        for (int i = 0; i < slotsUsed; i++) {
+
+            if (elements[i] == null) {
+                continue;
+            }
+
+            int number = mapping[i];
+            if (number < 0 || number >= numVertices || taken[number]) {
+                return false;
+            }
+
+            taken[number] = true;
+            checked[i] = number;
+        }
+
+        relabel(checked, numVertices);
+
+        return true;
+    }
+
+    /**
+     * Moves the vertices and their edges to their new vertex numbers, which are 0 to count - 1,
+     * then counts the degrees again and tells the listeners.
+     *
+     * @param mapping the new vertex number of each old vertex number, -1 if it has no vertex.
+     * @param count the number of vertices.
+     */
+    @SuppressWarnings("unchecked")
+    private void relabel(int[] mapping, int count) {
+
+        relabelEdges(mapping, slotsUsed);
+
+        T[] temp = (T[]) new Object[size];
+        for (int i = 0; i < slotsUsed; i++) {
+
+            if (mapping[i] != -1) {
+                temp[mapping[i]] = elements[i];
+            }
+        }
+
+        elements = temp;
+        slotsUsed = count;
+        numFree = 0;
+
+        recounting = true;
+        recountDegrees();
+        recounting = false;
+        modified();
+
+        if (listeners != null) {
+
+            for (MatrixListener listener : listeners) {
+
+                listener.verticesRelabeled(mapping);
+            }
+        }
+    }
+
+    /**
+     * Makes the vertices of this matrix the same as the vertices of other,
+     * keeping every element at the same vertex number. Used when copying.
+     *
+     * @param other the matrix to copy the vertices of.
+     */
+    protected void copyVertices(AbstractAdjacencyMatrix<T> other) {
+
+        elements = other.elements.clone();
+        freeSlots = other.freeSlots.clone();
+        outDegree = other.outDegree.clone();
+        inDegree = other.inDegree.clone();
+        numEdges = other.numEdges;
+        size = other.size;
+        numVertices = other.numVertices;
+        slotsUsed = other.slotsUsed;
+        numFree = other.numFree;
+    }
+
+    @Override
+    public boolean removeVertex(T element) {
+
+        int index = findVertex(element);
+
+        if (index != -1) {
+
+            return removeVertex(index);
+        }
+
+        return false;
+    }
+
+    /**
+     * Takes an element and finds it's index in the array of elements.
+     *
+     * @param element the element to find in the array.
+     * @return the index if the element is present, -1 otherwise.
+     */
+    public int findVertex(T element) {
+
+        if (element != null) {
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                if (element.equals(elements[i])) {
+
+                    Instrumentation.vertexLookup(i + 1);
+
+                    return i;
+                }
+            }
+
+            Instrumentation.vertexLookup(slotsUsed);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Takes a vertex number and gets the element stored there.
+     * Returns null if the number is invalid, or an element of that number doesn't exist.
+     *
+     * @param number the number of the vertex to get.
+     * @return the element corresponding to the passed vertex number.
+     */
+    public T getVertex(int number) {
+
+        if (number < size && number > -1 && elements[number] != null) {
+
+            return elements[number];
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the vertex with the specified number from the graph.
+     * Returns true if the number has a vertex, false otherwise.
+     *
+     * @param number the number of the vertex in the adjacency matrix to
+     *          remove from the graph.
+     * @return true if the number maps to a vertex, false otherwise.
+     */
+    public boolean removeVertex(int index) {
+
+        if (index > -1 && index < size && elements[index] != null) {
+
+            elements[index] = null;
+
+            //set rows and columns of index to 0
+            clearEdges(index);
+
+            numVertices--;
+            freeSlots[numFree++] = index;
+            modified();
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public T popVertex(T element) {
+
+        int index = findVertex(element);
+
+        if (index != -1) {
+
+            return popVertex(index);
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the vertex mapping to the passed number from the graph and returns
+     * the element contained in the vertex, or null if the number didn't map to a vertex.
+     *
+     * @param number the number mapping to the vertex in the graph to be removed.
+     * @return the element which was removed from the graph, or null if it wasn't present.
+     */
+    public T popVertex(int index) {
+
+        if (index > -1 && index < size && elements[index] != null) {
+
+            T element = elements[index];
+
+            elements[index] = null;
+
+            //set rows and columns of index to 0
+            clearEdges(index);
+
+            numVertices--;
+            freeSlots[numFree++] = index;
+            modified();
+
+            return element;
+        }
+
+        return null;
+    }
+
+    @Override
+    public List<T> getVertices() {
+
+        List<T> list = new LinkedList<T>();
+
+        for (int i = 0; i < slotsUsed; i++) {
+
+            T el = elements[i];
+            if (el != null) {
+                list.add(el);
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public int size() {
+
+        return numVertices;
+    }
+
+    /**
+     * Tells the number of vertex slots in the adjacency matrix, which is the
+     * upper bound (exclusive) on any vertex number.
+     *
+     * @return the number of vertex slots in the matrix.
+     */
+    public int capacity() {
+
+        return size;
+    }
+
+    /**
+     * Tells the number of vertex numbers, from 0 up, that have been handed out to vertices.
+     * No vertex number at or above this holds a vertex, so scans over the vertex numbers
+     * can stop here instead of at capacity().
+     *
+     * @return one past the highest vertex number that has held a vertex.
+     */
+    public int usedSlots() {
+
+        return slotsUsed;
+    }
+
+    /**
+     * Tells the number of edges from the vertex numbered index, in O(1) time.
+     * In an undirected graph this is the number of edges at the vertex.
+     *
+     * @param index the vertex number.
+     * @return the number of edges from the vertex, -1 if the number is invalid.
+     */
+    public int outDegree(int index) {
+
+        if (index > -1 && index < size) {
+
+            return outDegree[index];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Tells the number of edges to the vertex numbered index, in O(1) time.
+     * In an undirected graph this is the same as outDegree.
+     *
+     * @param index the vertex number.
+     * @return the number of edges to the vertex, -1 if the number is invalid.
+     */
+    public int inDegree(int index) {
+
+        if (index > -1 && index < size) {
+
+            return inDegree[index];
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int outDegree(T element) {
+
+        return outDegree(findVertex(element));
+    }
+
+    @Override
+    public int inDegree(T element) {
+
+        return inDegree(findVertex(element));
+    }
+
+    @Override
+    public int numEdges() {
+
+        return numEdges;
+    }
+
+    @Override
+    public boolean addEdge(T element1, T element2) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return addEdge(index1, index2);
+        }
+
+        return false;
+    }
+
+    @Override
+    public List<T> getEdgesTo(T element) {
+
+        int index = findVertex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        //if the passed element exists
+        if (index != -1) {
+
+            //Loop over all possible edges and if there isn't a 0
+                //adds them to the edges List
+            for (int i = 0; i < slotsUsed; i++) {
+
+                //if the edge HAS a weight
+                if (hasEdge(index, i)) {
+
+                    edges.add(elements[i]);
+                }
+            }
+
+            Instrumentation.cellsScanned(slotsUsed);
+        }
+
+        return edges;
+    }
+
+    @Override
+    public List<T> getEdgesFrom(T element) {
+
+        int index = findVertex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        //if the passed element exists
+        if (index != -1) {
+            //Loop over all possible edges and if there isn't a 0
+                //adds them to the edges List
+            for (int i = 0; i < slotsUsed; i++) {
+
+                //if the edge HAS a weight
+                if (hasEdge(i, index)) {
+
+                    edges.add(elements[i]);
+                }
+            }
+
+            Instrumentation.cellsScanned(slotsUsed);
+        }
+
+        return edges;
+    }
+
+    @Override
+    public boolean removeEdge(T element1, T element2) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return removeEdge(index1, index2);
+        }
+
+        return false;
+    }
+
+    /**
+     * True if the graph is directed, false otherwise.
+     *
+     * @return directed True if the graph is directed, false otherwise.
+     */
+    public boolean isDirected() {
+
+        return directed;
+    }
+
+    public String printVertices() {
+
+        StringBuilder build = new StringBuilder();
+
+        for (int i = 0; i < slotsUsed; i++) {
+
+            build.append("|").append(elements[i]);
+        }
+
+        return build.toString();
+    }
+}
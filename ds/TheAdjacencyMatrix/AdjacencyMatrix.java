@@ -1,9 +1,10 @@
 package ds.TheAdjacencyMatrix;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Random;
-import ds.Graph.Graph;
+import java.util.SplittableRandom;
+import ds.GraphMetrics.Instrumentation;
 
 /**
  * An Adjacency Matrix style graph which can be used to either represent a directed graph
@@ -16,11 +17,8 @@ import ds.Graph.Graph;
  * @param <T>
  * @param <E extends Edge>
  */
-public class AdjacencyMatrix<T, E extends Edge> 
-        implements AdjacencyMatrixInterface<T, E>, Graph<T> {
-
-    //~Constants----------------------------------------------
-    private static final int DEFAULT_SIZE = 10;
+public class AdjacencyMatrix<T, E extends Edge> extends AbstractAdjacencyMatrix<T>
+        implements AdjacencyMatrixInterface<T, E> {
 
     //~Data Fields--------------------------------------------
     /**
@@ -33,30 +31,26 @@ public class AdjacencyMatrix<T, E extends Edge>
      * One object that represents all of the empty (0 weight) edges in the graph.
      */
     private EmptyEdge empty;
-    
-    /**
-     * Array of elements contained in the graph.
-     * Elements correspond to the same indices as they do in the adjacency matrix of edges.
-     * 
-     * i.e. matrix[4][5] is an edge from 4 to 5, 
-     *  elements[4] is the element at 4, elements[5] is the element at 5
-     */
-    private T[] elements;
-    
+
     /**
-     * The maximum number of vertices in the adjacency matrix.
+     * Marks the rows of matrix that may also be in use by a copy on write copy
+     * (or the matrix it was copied from), null if no row is shared.
+     * A shared row is cloned the first time it is written to.
      */
-    private int size;
-    
+    private boolean[] sharedRows;
+
     /**
-     * The current number of vertices in the graph.
+     * Bitmap of the columns of a directed matrix, bit i of transpose[j] is set if there
+     * is an edge from i to j, so the edges into a vertex can be found with a sequential scan.
+     * Null unless turned on with setTransposeEnabled.
      */
-    private int numVertices;
-    
+    private long[][] transpose;
+
     /**
-     * Indicates whether the graph is directed or not. True if directed, false otherwise.
+     * Marks the columns of transpose that may also be in use by a copy on write copy
+     * (or the matrix it was copied from), null if no column is shared, like sharedRows.
      */
-    private boolean directed;
+    private boolean[] sharedColumns;
 
     //~Constructors--------------------------------------------
     /**
@@ -65,7 +59,7 @@ public class AdjacencyMatrix<T, E extends Edge>
      */
     public AdjacencyMatrix() {
        
-        this(DEFAULT_SIZE);
+        this(false, DEFAULT_SIZE);
     }
     
     /**
@@ -75,8 +69,7 @@ public class AdjacencyMatrix<T, E extends Edge>
      */
     public AdjacencyMatrix(boolean directed) {
         
-        this();
-        this.directed = directed;
+        this(directed, DEFAULT_SIZE);
     }
     
     /**
@@ -85,16 +78,23 @@ public class AdjacencyMatrix<T, E extends Edge>
      * 
      * @param size the size of the adjacency matrix.
      */
-    @SuppressWarnings("unchecked")
     public AdjacencyMatrix(int size) {
         
-        elements = (T[]) new Object[size];
-        matrix = new Object[size][size];
+        this(false, size);
+    }
+    
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph.
+     * 
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    public AdjacencyMatrix(boolean directed, int size) {
         
-        this.size = size;
-        numVertices = 0;
-        directed = false;
+        super(directed, size);
         
+        matrix = new Object[size][size];
         empty = new EmptyEdge();
         
         for (int i = 0; i < size; i++) {
@@ -107,269 +107,382 @@ public class AdjacencyMatrix<T, E extends Edge>
     }
     
     /**
-     * Initializes the adjacency matrix to a size of size.
-     * There will be a maximum size of *size* vertices in the graph.
+     * Initializes the adjacency matrix to a copy of other, sharing its Edge objects.
+     * With copyOnWrite the rows themselves are shared too, and so are the columns of the
+     * transposed bitmap, each only cloned (in this matrix or in other) when first written to.
      * 
-     * @param directed indicates whether the graph should be directed or not.
-     * @param size the size of the adjacency matrix.
+     * @param other the matrix to copy.
+     * @param copyOnWrite true to share the rows, false to copy them now.
      */
-    public AdjacencyMatrix(boolean directed, int size) {
+    private AdjacencyMatrix(AdjacencyMatrix<T, E> other, boolean copyOnWrite) {
+        
+        super(other.isDirected(), 0);
         
-        this(size);
-        this.directed = directed;
+        copyVertices(other);
+        empty = other.empty;
+        
+        if (copyOnWrite) {
+            
+            matrix = other.matrix.clone();
+            sharedRows = new boolean[matrix.length];
+            Arrays.fill(sharedRows, true);
+            
+            if (other.sharedRows == null) {
+                other.sharedRows = new boolean[matrix.length];
+            }
+            Arrays.fill(other.sharedRows, true);
+        }
+        else {
+            
+            matrix = new Object[other.matrix.length][];
+            
+            for (int i = 0; i < matrix.length; i++) {
+                
+                matrix[i] = other.matrix[i].clone();
+            }
+        }
+        
+        if (other.transpose != null && copyOnWrite) {
+            
+            transpose = other.transpose.clone();
+            sharedColumns = new boolean[transpose.length];
+            Arrays.fill(sharedColumns, true);
+            
+            if (other.sharedColumns == null) {
+                other.sharedColumns = new boolean[transpose.length];
+            }
+            Arrays.fill(other.sharedColumns, true);
+        }
+        else if (other.transpose != null) {
+            
+            transpose = new long[other.transpose.length][];
+            
+            for (int i = 0; i < transpose.length; i++) {
+                
+                transpose[i] = other.transpose[i].clone();
+            }
+        }
     }
 
     //~Methods-------------------------------------------------
     /**
-     * Totally randomizes the graph
+     * Totally randomizes the edges between the vertices in the graph.
+     * Each edge gets a random weight, and about half of them end up absent (weight 0).
      */
     public void makeGraphRandom() {
         
-        Random rand = new Random();
+        makeGraphRandom(new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Totally randomizes the edges between the vertices in the graph, the same way for
+     * the same seed. Each edge gets a random weight, and about half of them end up absent.
+     * Every edge present is a new IntEdge, undirected graphs get the same edge both ways.
+     * 
+     * @param seed the seed of the random weights.
+     */
+    public void makeGraphRandom(long seed) {
+        
+        SplittableRandom rand = new SplittableRandom(seed);
+        int size = usedSlots();
         int weight;
         
         for (int i = 0; i < size; i++) {
             
-            for (int j = 0; j < size; j++) {
+            //undirected graphs only pick each pair once
+            for (int j = isDirected() ? 0 : i; j < size; j++) {
                 
-                weight = rand.nextInt();
-                if (weight < 0) {
-                    weight = 0;
+                if (getVertex(i) == null || getVertex(j) == null) {
+                    continue;
                 }
                 
-                ((Edge) matrix[i][j]).setWeight(weight);
+                weight = rand.nextInt();
+                
+                Object edge = weight > 0 ? new IntEdge(weight) : empty;
+                setCell(i, j, edge);
                 
-                if (!directed) {
+                if (!isDirected()) {
                     
-                    ((Edge) matrix[j][i]).setWeight(weight);
+                    setCell(j, i, edge);
                 }
             }
         }
     }
     
+    /**
+     * Copies the graph. Row by row, the Edge objects are shared with the copy,
+     * which is safe since the matrix never changes an Edge once stored, only replaces it.
+     */
     @Override
     public AdjacencyMatrixInterface<T, E> makeCopy() {
         
-        AdjacencyMatrix<T, E> copy = new AdjacencyMatrix<T, E>(directed);
+        return makeCopy(false);
+    }
+    
+    /**
+     * Copies the graph, as makeCopy() does. With copyOnWrite the copy shares the rows of
+     * this matrix, and the columns of its transposed bitmap, so copying takes O(V) time,
+     * and a row or column is only cloned the first time either matrix writes to it. Good for copies that are read or changed in few rows.
+     * 
+     * @param copyOnWrite true to share the rows until they are written, false to copy them now.
+     * @return the copy of the graph.
+     */
+    public AdjacencyMatrix<T, E> makeCopy(boolean copyOnWrite) {
         
-        //copy vertices
-        for(int i = 0; i < size; i++) {
-            
-            copy.addVertex(elements[i]);
-        }
+        return new AdjacencyMatrix<T, E>(this, copyOnWrite);
+    }
+    
+    /**
+     * Gets row, cloning it first if it is shared with a copy, so it can be written to.
+     * 
+     * @param row the vertex number of the row.
+     * @return the row, not shared with any other matrix.
+     */
+    private Object[] writableRow(int row) {
         
-        //copy edges
-        for (int i = 0; i < size; i++) {
+        if (sharedRows != null && sharedRows[row]) {
             
-            for (int j = 0; j < size; j++) {
-                
-                copy.addEdge(i, j, (E) matrix[i][j]);
-            }
+            matrix[row] = matrix[row].clone();
+            sharedRows[row] = false;
         }
         
-        return copy;
+        return matrix[row];
     }
     
-    @Override
-    public int addVertex(T element) {
-
-        if (numVertices == size) {
-            
-            resize();
-        }
+    /**
+     * Gets a column of the transposed bitmap, cloning it first if it is shared with a copy,
+     * so it can be written to. Assumes the bitmap is kept.
+     * 
+     * @param col the vertex number of the column.
+     * @return the column, not shared with any other matrix.
+     */
+    private long[] writableColumn(int col) {
         
-        for (int i = 0; i < size; i++) {
+        if (sharedColumns != null && sharedColumns[col]) {
             
-            if (elements[i] == null) {
-                
-                elements[i] = element;
-                numVertices++;
-                return i;
-            }
+            transpose[col] = transpose[col].clone();
+            sharedColumns[col] = false;
         }
         
-        return -1;
+        return transpose[col];
     }
     
-    @SuppressWarnings("unchecked")
-    private void resize() {
+    /**
+     * Stores edge in the cell from row to col. Every write to a cell goes through here,
+     * except for relabelEdges.
+     * 
+     * @param row the vertex number the edge goes from.
+     * @param col the vertex number the edge goes to.
+     * @param edge the edge to store, empty for no edge.
+     */
+    private void setCell(int row, int col, Object edge) {
         
-        size *= 2;
-        T[] temp = (T[]) new Object[size];
-        Object[][] matrixTemp = new Object[size][size];
+        modified();
         
-        for (int i = 0; i < elements.length; i++) {
+        boolean wasPresent = ((Edge) matrix[row][col]).getWeight() != 0;
+        boolean present = ((Edge) edge).getWeight() != 0;
         
-            temp[i] = elements[i];
-            
-            for (int j = 0; i < elements.length; j++) {
-             
-                matrixTemp[i][j] = (Edge) matrix[i][j];
-            }
-        }
+        writableRow(row)[col] = edge;
         
-        elements = temp;
-        matrix = matrixTemp;
-    }
-
-    @Override
-    public boolean removeVertex(T element) {
-
-        int index = findVertex(element);
+        if (wasPresent != present) {
+            cellChanged(row, col, present);
+        }
         
-        if (index != -1) {
+        if (transpose != null) {
             
-            return removeVertex(index);
+            if (present) {
+                writableColumn(col)[row >>> 6] |= 1L << row;
+            }
+            else {
+                writableColumn(col)[row >>> 6] &= ~(1L << row);
+            }
         }
-        
-        return false;
     }
     
     /**
-     * Takes an element and finds it's index in the array of elements.
+     * Turns the transposed bitmap of a directed matrix on or off.
+     * While on, getEdgesFrom scans a bitmap of the vertex's column instead of reading one
+     * cell out of every row, which is much faster on large graphs, and every edge write
+     * also sets or clears one bit.
      * 
-     * @param element the element to find in the array.
-     * @return the index if the element is present, -1 otherwise.
+     * The bitmap costs capacity()^2 / 8 bytes (about 12MB at 10k vertices, 50MB at 20k),
+     * next to the 4 or 8 bytes per cell of the matrix itself, and is copied along with the graph
+     * (copy on write copies share it column by column, like the rows).
+     * Undirected graphs don't need it, since their columns are the same as their rows,
+     * so for them this does nothing.
+     * 
+     * @param enabled true to build and keep the bitmap, false to drop it.
      */
-    public int findVertex(T element) {
+    public void setTransposeEnabled(boolean enabled) {
         
-        if (element != null) {
-         
-            for (int i = 0; i < elements.length; i++) {
-                
-                if (element.equals(elements[i])) {
-                    
-                    return i;
-                }
-            }
+        if (!enabled || !isDirected()) {
+            
+            transpose = null;
+            sharedColumns = null;
+        }
+        else if (transpose == null) {
+            
+            buildTranspose();
         }
-        
-        return -1;
     }
     
     /**
-     * Takes a vertex number and gets the element stored there.
-     * Returns null if the number is invalid, or an element of that number doesn't exist.
+     * Tells whether the transposed bitmap is kept, see setTransposeEnabled.
      * 
-     * @param number the number of the vertex to get.
-     * @return the element corresponding to the passed vertex number.
+     * @return true if it is kept, false otherwise.
      */
-    public T getVertex(int number) {
+    public boolean isTransposeEnabled() {
         
-        if (number < size && number > -1 && elements[number] != null) {
-            
-            return elements[number];
-        }
-        
-        return null;
+        return transpose != null;
     }
-
+    
     /**
-     * Removes the vertex with the specified number from the graph.
-     * Returns true if the number has a vertex, false otherwise.
-     * 
-     * @param number the number of the vertex in the adjacency matrix to
-     *          remove from the graph.
-     * @return true if the number maps to a vertex, false otherwise.
+     * Builds the transposed bitmap from the matrix.
      */
-    public boolean removeVertex(int index) {
-
-        if (index > -1 && index < size && elements[index] != null) {
+    private void buildTranspose() {
+        
+        int size = capacity();
+        transpose = new long[size][(size + 63) >>> 6];
+        sharedColumns = null;
+        
+        for (int i = 0; i < usedSlots(); i++) {
             
-            elements[index] = null;
+            Object[] row = matrix[i];
             
-            //set rows and columns of index to 0
-            for (int i = 0; i < size; i++) {
+            for (int j = 0; j < usedSlots(); j++) {
                 
-                matrix[index][i] = empty;
-                matrix[i][index] = empty;
+                if (((Edge) row[j]).getWeight() != 0) {
+                    transpose[j][i >>> 6] |= 1L << i;
+                }
             }
-            
-            numVertices--;
-            
-            return true;
         }
-
-        return false;
     }
-
+    
     @Override
-    public T popVertex(T element) {
-
-        int index = findVertex(element);
+    protected void resizeEdges(int oldSize, int newSize) {
         
-        if (index != -1) {
+        Object[][] matrixTemp = new Object[newSize][];
+        
+        for (int i = 0; i < newSize; i++) {
             
-            return popVertex(index);
+            if (i < oldSize) {
+                
+                matrixTemp[i] = Arrays.copyOf(matrix[i], newSize);
+                Arrays.fill(matrixTemp[i], oldSize, newSize, empty);
+            }
+            else {
+                
+                matrixTemp[i] = new Object[newSize];
+                Arrays.fill(matrixTemp[i], empty);
+            }
         }
         
-        return null;
-    }
-
-    /**
-     * Removes the vertex mapping to the passed number from the graph and returns
-     * the element contained in the vertex, or null if the number didn't map to a vertex.
-     * 
-     * @param number the number mapping to the vertex in the graph to be removed.
-     * @return the element which was removed from the graph, or null if it wasn't present.
-     */
-    public T popVertex(int index) {
-
-        if (index > -1 && index < size) {
-            
-            T element = elements[index];
+        matrix = matrixTemp;
+        
+        //every row was copied above
+        sharedRows = null;
+        
+        if (transpose != null) {
             
-            elements[index] = null;
+            long[][] transposeTemp = new long[newSize][];
             
-            //set rows and columns of index to 0
-            for (int i = 0; i < size; i++) {
+            for (int i = 0; i < newSize; i++) {
                 
-                matrix[index][i] = empty;
-                matrix[i][index] = empty;
+                transposeTemp[i] = i < oldSize 
+                        ? Arrays.copyOf(transpose[i], (newSize + 63) >>> 6) : new long[(newSize + 63) >>> 6];
             }
             
-            numVertices--;
+            transpose = transposeTemp;
             
-            return element;
+            //every column was copied above
+            sharedColumns = null;
         }
-        
-        return null;
     }
     
     @Override
-    public List<T> getVertices() {
+    protected void clearEdges(int index) {
         
-        List<T> list = new LinkedList<T>();
+        int size = capacity();
         
         for (int i = 0; i < size; i++) {
             
-            T el = elements[i];
-            if (el != null) {
-                list.add(el);
+            //only write to rows that change, so shared rows aren't cloned for nothing
+            if (matrix[index][i] != empty) {
+                setCell(index, i, empty);
+            }
+            if (matrix[i][index] != empty) {
+                setCell(i, index, empty);
             }
         }
-        
-        return list;
     }
-
-    @Override
-    public int size() {
-
-        return numVertices;
-    }
-
+    
     @Override
-    public boolean addEdge(T element1, T element2) {
+    protected void relabelEdges(int[] mapping, int used) {
         
-        int index1 = findVertex(element1);
-        int index2 = findVertex(element2);
+        //rows are written in place below
+        for (int i = 0; i < used; i++) {
+            
+            writableRow(i);
+        }
         
-        if (index1 != -1 && index2 != -1) {
+        Object[][] rows = new Object[capacity()][];
+        
+        //live rows go to their new numbers, rows past used stay where they are
+        for (int i = 0; i < rows.length; i++) {
             
-            return addEdge(index1, index2);
+            if (i >= used) {
+                rows[i] = matrix[i];
+            }
+            else if (mapping[i] != -1) {
+                rows[mapping[i]] = matrix[i];
+            }
         }
         
-        return false;
+        //rows of removed vertices fill the gaps, their cells are all cleared below
+        int hole = 0;
+        for (int i = 0; i < used; i++) {
+            
+            if (mapping[i] == -1) {
+                
+                while (rows[hole] != null) {
+                    hole++;
+                }
+                rows[hole] = matrix[i];
+                
+                //an edge added at a vertex number with no vertex mustn't move with the row
+                Arrays.fill(rows[hole], empty);
+            }
+        }
+        
+        //move the columns within every row
+        Object[] buffer = new Object[used];
+        for (int i = 0; i < used; i++) {
+            
+            Object[] row = rows[i];
+            System.arraycopy(row, 0, buffer, 0, used);
+            Arrays.fill(row, 0, used, empty);
+            
+            for (int j = 0; j < used; j++) {
+                
+                if (mapping[j] != -1) {
+                    row[mapping[j]] = buffer[j];
+                }
+            }
+        }
+        
+        matrix = rows;
+        
+        if (transpose != null) {
+            buildTranspose();
+        }
+    }
+    
+    @Override
+    public boolean hasEdge(int fromVertex, int toVertex) {
+        
+        return fromVertex > -1 && toVertex > -1 
+                && fromVertex < capacity() && toVertex < capacity()
+                && ((Edge) matrix[fromVertex][toVertex]).getWeight() != 0;
     }
     
     /**
@@ -380,6 +493,7 @@ public class AdjacencyMatrix<T, E extends Edge>
      * @param index2 the second vertex number.
      * @return true if indices are valid, and if the edge does not already exist.
      */
+    @Override
     public boolean addEdge(int index1, int index2) {
 
         return addEdge(index1, index2, 1);
@@ -419,15 +533,17 @@ public class AdjacencyMatrix<T, E extends Edge>
      */
     public boolean addEdge(int index1, int index2, int weight) {
         
+        int size = capacity();
+        
         if (index1 > -1 && index2 > -1 
                 && index1 < size && index2 < size
                 && ((Edge) matrix[index1][index2]).getWeight() == 0) {
 
             Edge newEdge = new IntEdge(weight);
-            matrix[index1][index2] = newEdge;
+            setCell(index1, index2, newEdge);
             
-            if (!directed) {
-                matrix[index2][index1] = newEdge;    
+            if (!isDirected()) {
+                setCell(index2, index1, newEdge);
             }
             
             return true;
@@ -453,13 +569,15 @@ public class AdjacencyMatrix<T, E extends Edge>
     @Override
     public boolean addEdge(int index1, int index2, E edge) {
         
+        int size = capacity();
+        
         if (index1 > -1 && index1 < size 
                 && index2 > -1 && index2 < size && edge != null) {
             
-            matrix[index1][index2] = edge;
+            setCell(index1, index2, edge);
             
-            if (!directed) {
-                matrix[index2][index1] = edge;
+            if (!isDirected()) {
+                setCell(index2, index1, edge);
             }
             
             return true;
@@ -477,8 +595,11 @@ public class AdjacencyMatrix<T, E extends Edge>
      * @return the weight of the edge. -1 if invalid parameters are passed,
      *          however edge weights COULD also be -1.....
      */
+    @Override
     public int getEdge(int fromVertex, int toVertex) {
         
+        int size = capacity();
+        
         if (fromVertex > -1 && toVertex > -1 
                 && fromVertex < size && toVertex < size) {
             
@@ -488,69 +609,6 @@ public class AdjacencyMatrix<T, E extends Edge>
         return -1;
     }
     
-    @Override
-    public List<T> getEdgesTo(T element) {
-
-        int index = findVertex(element);
-        
-        List<T> edges = new LinkedList<T>();
-        
-        //if the passed element exists
-        if (index != -1) {
-            
-            //Loop over all possible edges and if there isn't a 0
-                //adds them to the edges List
-            for (int i = 0; i < size; i++) {
-                
-                //if the edge HAS a weight
-                if (((Edge) matrix[index][i]).getWeight() != 0) { 
-                 
-                    edges.add(elements[i]);
-                }
-            }
-        }
-        
-        return edges;
-    }
-    
-    @Override
-    public List<T> getEdgesFrom(T element) {
-
-        int index = findVertex(element);
-        
-        List<T> edges = new LinkedList<T>();
-        
-        //if the passed element exists
-        if (index != -1) {
-            //Loop over all possible edges and if there isn't a 0
-                //adds them to the edges List
-            for (int i = 0; i < size; i++) {
-                
-                //if the edge HAS a weight
-                if (((Edge) matrix[i][index]).getWeight() != 0) { 
-                 
-                    edges.add(elements[i]);
-                }
-            }
-        }
-        
-        return edges;
-    }
-
-    @Override
-    public boolean removeEdge(T element1, T element2) {
-
-        int index1 = findVertex(element1);
-        int index2 = findVertex(element2);
-        
-        if (index1 != -1 && index2 != -1) {
-            
-            return removeEdge(index1, index2);
-        }
-        
-        return false;
-    }
-    
     /**
      * Takes two vertex numbers and removes the edge.
      * If it's directed, removes the edge from index1 to index 2.
@@ -560,16 +618,19 @@ public class AdjacencyMatrix<T, E extends Edge>
      * @param index2 the second vertex number.
      * @return true if the edge exists, false otherwise.
      */
+    @Override
     public boolean removeEdge(int index1, int index2) {
         
+        int size = capacity();
+        
         if (((Edge) matrix[index1][index2]).getWeight() != 0 
                 && index1 > -1 && index1 < size && index2 > -1 
                 && index2 < size) {
             
-            matrix[index1][index2] = empty; 
+            setCell(index1, index2, empty);
             
-            if (!directed) {
-                matrix[index2][index1] = empty;
+            if (!isDirected()) {
+                setCell(index2, index1, empty);
             }
                     
             return true;
@@ -611,15 +672,16 @@ public class AdjacencyMatrix<T, E extends Edge>
      */
     public int popEdge(int index1, int index2) {
         
+        int size = capacity();
         
         if ((index1 > -1 && index1 < size) && (index2 > -1 && index2 < size)) {
 
             int weight = ((Edge) matrix[index1][index2]).getWeight();
             
-            matrix[index1][index2] = empty;
+            setCell(index1, index2, empty);
             
-            if (!directed) {
-                matrix[index2][index1] = empty;
+            if (!isDirected()) {
+                setCell(index2, index1, empty);
             }
                     
             return weight;
@@ -629,18 +691,53 @@ public class AdjacencyMatrix<T, E extends Edge>
     }
     
     /**
-     * True if the graph is directed, false otherwise.
-     * 
-     * @return directed True if the graph is directed, false otherwise.
+     * Gets the elements with an edge to element. Undirected graphs scan the element's row,
+     * which holds the same edges as its column, and directed graphs scan the transposed
+     * bitmap when it is on, so only a directed graph without it reads the column.
      */
-    public boolean isDirected() {
+    @Override
+    public List<T> getEdgesFrom(T element) {
+        
+        if (isDirected() && transpose == null) {
+            
+            return super.getEdgesFrom(element);
+        }
+        
+        if (!isDirected()) {
+            
+            return getEdgesTo(element);
+        }
+        
+        int index = findVertex(element);
+        
+        List<T> edges = new LinkedList<T>();
+        
+        if (index != -1) {
+            
+            long[] column = transpose[index];
+            
+            //walk the set bits of the column
+            for (int w = 0; w < column.length; w++) {
+                
+                long bits = column[w];
+                while (bits != 0) {
+                    
+                    edges.add(getVertex((w << 6) + Long.numberOfTrailingZeros(bits)));
+                    bits &= bits - 1;
+                }
+            }
+            
+            //every word looked at covers 64 cells
+            Instrumentation.cellsScanned((long) column.length << 6);
+        }
         
-        return directed;
+        return edges;
     }
     
     public String printEdges() {
         
         StringBuilder build = new StringBuilder();
+        int size = usedSlots();
         
         build.append("-");
         for (int i = 0; i < size; i++) {
@@ -674,16 +771,4 @@ public class AdjacencyMatrix<T, E extends Edge>
         
         return build.toString();
     }
-    
-    public String printVertices() {
- 
-        StringBuilder build = new StringBuilder();
-        
-        for (int i = 0; i < size; i++) {
-            
-            build.append("|").append(elements[i]);
-        }
-        
-        return build.toString();
-    }
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import ds.Graph.Graph;
  *
  * @param <T>
  */
-public interface AdjacencyMatrixInterface<T, E extends Edge> extends Graph<T> {
+public interface AdjacencyMatrixInterface<T, E extends Edge> extends Graph<T>, WeightedMatrix {
 
     //~Methods-------------------------------------------------
     @Override
@@ -53,6 +53,50 @@ public interface AdjacencyMatrixInterface<T, E extends Edge> extends Graph<T> {
     public T popVertex(int index);
     @Override
     public int size();
+    /**
+     * Tells the number of vertex slots in the adjacency matrix, which is the
+     * upper bound (exclusive) on any vertex number.
+     * 
+     * @return the number of vertex slots in the matrix.
+     */
+    public int capacity();
+    /**
+     * Tells the number of vertex numbers, from 0 up, that have been handed out to vertices.
+     * No vertex number at or above this holds a vertex.
+     * 
+     * @return one past the highest vertex number that has held a vertex.
+     */
+    @Override
+    public int usedSlots();
+    /**
+     * Renumbers the vertices so that they take up vertex numbers 0 to size() - 1,
+     * keeping their relative order, and moves all of the edges along with them.
+     * 
+     * @return the new vertex number of each old vertex number,
+     *          -1 for old vertex numbers that had no vertex.
+     */
+    public int[] compact();
+    /**
+     * Tells the number of edges from the vertex numbered index, in O(1) time.
+     * 
+     * @param index the vertex number.
+     * @return the number of edges from the vertex, -1 if the number is invalid.
+     */
+    public int outDegree(int index);
+    /**
+     * Tells the number of edges to the vertex numbered index, in O(1) time.
+     * 
+     * @param index the vertex number.
+     * @return the number of edges to the vertex, -1 if the number is invalid.
+     */
+    public int inDegree(int index);
+    /**
+     * Tells the version of the graph, a counter that goes up with every change to its
+     * vertices or edges. Anything worked out from the graph still holds while it stays the same.
+     * 
+     * @return the version of the graph.
+     */
+    public long version();
     @Override
     public boolean addEdge(T element1, T element2);
     /**
@@ -105,6 +149,29 @@ public interface AdjacencyMatrixInterface<T, E extends Edge> extends Graph<T> {
      *          or if edge == null
      */
     public boolean addEdge(int index1, int index2, E edge);
+    /**
+     * Gets the edge weight of the edge going from the vertex
+     * numbered by fromVertex, to the vertex numbered by toVertex.
+     * 
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the weight of the edge. -1 if invalid parameters are passed,
+     *          however edge weights COULD also be -1.....
+     */
+    public int getEdge(int fromVertex, int toVertex);
+    /**
+     * Gets the weight of the edge going from the vertex numbered by fromVertex,
+     * to the vertex numbered by toVertex, as a double.
+     * 
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the weight of the edge, as getEdge returns it.
+     */
+    @Override
+    public default double weightOf(int fromVertex, int toVertex) {
+        
+        return getEdge(fromVertex, toVertex);
+    }
     @Override
     public boolean removeEdge(T element1, T element2);
     /**
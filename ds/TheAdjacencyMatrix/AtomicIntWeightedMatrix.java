@@ -0,0 +1,378 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * An Adjacency Matrix style graph with int edge weights that can be updated atomically,
+ * stored unboxed in one AtomicIntegerArray per row. Whether an edge exists is tracked
+ * separately from its weight, so a weight of 0 is a legal edge.
+ *
+ * Adding and removing vertices and edges has to be done by one thread at a time, like the
+ * other matrices. Once an edge exists, any number of threads can read and update its weight
+ * through getWeight, compareAndSetWeight, addAndGetWeight and accumulateWeight without locking,
+ * and see each other's updates.
+ *
+ * An undirected edge keeps its weight in the one cell with the lower vertex number as the row,
+ * so both directions always read the same weight and update it with a single atomic operation.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public class AtomicIntWeightedMatrix<T> extends PrimitiveWeightedMatrix<T> {
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Edge weights, weights[i].get(j) is the weight of the edge from i to j if there is one.
+     * Undirected graphs only use the cells with i <= j.
+     */
+    private AtomicIntegerArray[] weights;
+
+    /**
+     * Counts the weight updates made by the atomic methods, which any thread can make,
+     * and which add to the version of the matrix.
+     */
+    private final AtomicLong weightUpdates = new AtomicLong();
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of 10.
+     * Which means there are 10 vertices in the graph.
+     */
+    public AtomicIntWeightedMatrix() {
+
+        this(false, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of 10. There will be 10 vertices in the graph.
+     *
+     * @param directed true if the graph is to be a directed graph, false otherwise.
+     */
+    public AtomicIntWeightedMatrix(boolean directed) {
+
+        this(directed, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    public AtomicIntWeightedMatrix(boolean directed, int size) {
+
+        super(directed, size);
+
+        weights = new AtomicIntegerArray[size];
+        for (int i = 0; i < size; i++) {
+
+            weights[i] = new AtomicIntegerArray(size);
+        }
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Gets the row holding the weight of the edge from fromVertex to toVertex.
+     * Assumes valid vertex numbers.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the row whose toVertex or fromVertex cell holds the weight, see column.
+     */
+    private AtomicIntegerArray row(int fromVertex, int toVertex) {
+
+        return weights[isDirected() ? fromVertex : Math.min(fromVertex, toVertex)];
+    }
+
+    /**
+     * Gets the column of the cell holding the weight of the edge from fromVertex to toVertex.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the index of the weight within row(fromVertex, toVertex).
+     */
+    private int column(int fromVertex, int toVertex) {
+
+        return isDirected() ? toVertex : Math.max(fromVertex, toVertex);
+    }
+
+    @Override
+    public AtomicIntWeightedMatrix<T> makeCopy() {
+
+        AtomicIntWeightedMatrix<T> copy = new AtomicIntWeightedMatrix<T>(isDirected(), capacity());
+
+        copy.copyStructure(this);
+
+        for (int i = 0; i < weights.length; i++) {
+
+            for (int j = 0; j < weights.length; j++) {
+
+                copy.weights[i].set(j, weights[i].get(j));
+            }
+        }
+
+        return copy;
+    }
+
+    @Override
+    protected void resizeWeights(int oldSize, int newSize) {
+
+        AtomicIntegerArray[] temp = new AtomicIntegerArray[newSize];
+
+        for (int i = 0; i < newSize; i++) {
+
+            temp[i] = new AtomicIntegerArray(newSize);
+
+            for (int j = 0; i < oldSize && j < oldSize; j++) {
+
+                temp[i].set(j, weights[i].get(j));
+            }
+        }
+
+        weights = temp;
+    }
+
+    @Override
+    protected void relabelWeights(int[] mapping, int used) {
+
+        AtomicIntegerArray[] temp = new AtomicIntegerArray[weights.length];
+
+        for (int i = 0; i < weights.length; i++) {
+
+            temp[i] = new AtomicIntegerArray(weights.length);
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+
+            int newI = i < used ? mapping[i] : i;
+
+            //an undirected weight is only at i <= j, and goes to the same half at its new numbers
+            for (int j = isDirected() ? 0 : i; j < weights.length && newI != -1; j++) {
+
+                int newJ = j < used ? mapping[j] : j;
+
+                if (newJ != -1) {
+                    temp[isDirected() ? newI : Math.min(newI, newJ)]
+                            .set(isDirected() ? newJ : Math.max(newI, newJ), weights[i].get(j));
+                }
+            }
+        }
+
+        weights = temp;
+    }
+
+    @Override
+    protected String weightString(int fromVertex, int toVertex) {
+
+        return String.valueOf(row(fromVertex, toVertex).get(column(fromVertex, toVertex)));
+    }
+
+    @Override
+    public boolean addEdge(int index1, int index2) {
+
+        return addEdge(index1, index2, 1);
+    }
+
+    /**
+     * Adds an edge between element1 and element2 of weight weight.
+     * If it's directed, adds the edge from element1 to element2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param element1 the first element (or starting element) to put the edge at.
+     * @param element2 the second element, that the edge goes to.
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't ALREADY exist, false otherwise.
+     */
+    public boolean addEdge(T element1, T element2, int weight) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return addEdge(index1, index2, weight);
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds an edge between index1 and index2 of weight weight.
+     * If it's directed, adds the edge from index1 to index 2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param index1 the number of the first vertex (the from vertex)
+     * @param index2 the number of the second vertex (the to vertex)
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't exist, false otherwise.
+     */
+    public boolean addEdge(int index1, int index2, int weight) {
+
+        if (inBounds(index1, index2) && !hasEdge(index1, index2)) {
+
+            setWeight(index1, index2, weight);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the weight of the edge from index1 to index2 (and back, if undirected),
+     * adding the edge if it doesn't exist yet.
+     *
+     * @param index1 the number of the first vertex (the from vertex)
+     * @param index2 the number of the second vertex (the to vertex)
+     * @param weight the new weight of the edge.
+     * @return true if successful, false if index1 or index2 is out of bounds.
+     */
+    public boolean setWeight(int index1, int index2, int weight) {
+
+        if (inBounds(index1, index2)) {
+
+            row(index1, index2).set(column(index1, index2), weight);
+
+            setPresent(index1, index2, true);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the weight of the edge going from the vertex
+     * numbered by fromVertex, to the vertex numbered by toVertex.
+     * Sees the latest weight written by any thread.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the weight of the edge, 0 if there is no edge or the numbers are invalid.
+     *          Use hasEdge to tell a 0 weight edge apart from no edge.
+     */
+    public int getWeight(int fromVertex, int toVertex) {
+
+        if (hasEdge(fromVertex, toVertex)) {
+
+            return row(fromVertex, toVertex).get(column(fromVertex, toVertex));
+        }
+
+        return 0;
+    }
+
+    @Override
+    public double weightOf(int fromVertex, int toVertex) {
+
+        return getWeight(fromVertex, toVertex);
+    }
+
+    /**
+     * Tells the version of the graph, see AbstractAdjacencyMatrix.version. Updates made by
+     * compareAndSetWeight, addAndGetWeight and accumulateWeight count too, each moving the
+     * version on after the new weight is written, from whichever thread made it.
+     *
+     * @return the version of the graph.
+     */
+    @Override
+    public long version() {
+
+        return super.version() + weightUpdates.get();
+    }
+
+    /**
+     * Atomically sets the weight of the edge from fromVertex to toVertex to update,
+     * if its weight is expect. Doesn't add an edge that doesn't exist.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @param expect the weight the edge has to have.
+     * @param update the new weight.
+     * @return true if the weight was set, false if the edge had another weight,
+     *          doesn't exist, or the numbers are invalid.
+     */
+    public boolean compareAndSetWeight(int fromVertex, int toVertex, int expect, int update) {
+
+        if (hasEdge(fromVertex, toVertex)
+                && row(fromVertex, toVertex).compareAndSet(column(fromVertex, toVertex), expect, update)) {
+
+            weightUpdates.incrementAndGet();
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Atomically adds delta to the weight of the edge from fromVertex to toVertex.
+     * Doesn't add an edge that doesn't exist.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @param delta the amount to add to the weight.
+     * @return the new weight, 0 if there is no edge or the numbers are invalid.
+     *          Use hasEdge to tell a 0 weight edge apart from no edge.
+     */
+    public int addAndGetWeight(int fromVertex, int toVertex, int delta) {
+
+        if (hasEdge(fromVertex, toVertex)) {
+
+            int weight = row(fromVertex, toVertex).addAndGet(column(fromVertex, toVertex), delta);
+            weightUpdates.incrementAndGet();
+
+            return weight;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Atomically replaces the weight of the edge from fromVertex to toVertex with
+     * function applied to the weight and x. The function may be called more than once
+     * when threads race on the same edge, so it should not have side effects.
+     * Doesn't add an edge that doesn't exist.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @param x the second argument of function.
+     * @param function combines the current weight and x into the new weight, e.g. Math::max.
+     * @return the new weight, 0 if there is no edge or the numbers are invalid.
+     *          Use hasEdge to tell a 0 weight edge apart from no edge.
+     */
+    public int accumulateWeight(int fromVertex, int toVertex, int x, IntBinaryOperator function) {
+
+        if (hasEdge(fromVertex, toVertex)) {
+
+            int weight = row(fromVertex, toVertex).accumulateAndGet(column(fromVertex, toVertex), x, function);
+            weightUpdates.incrementAndGet();
+
+            return weight;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Takes two vertex numbers and removes the edge between them, returns the weight of the edge.
+     * If it's a directed graph, then returns the weight of the edge from index1 to index2
+     *
+     * @param index1 the number of vertex1.
+     * @param index2 the number of vertex2.
+     * @return the weight of the edge that got removed, 0 if there was no edge.
+     */
+    public int popEdge(int index1, int index2) {
+
+        int weight = getWeight(index1, index2);
+
+        removeEdge(index1, index2);
+
+        return weight;
+    }
+}
@@ -0,0 +1,1196 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import ds.GraphMetrics.Instrumentation;
+
+/**
+ * An Adjacency Matrix style graph that can be read and written by many threads at once.
+ * Meant for graphs that are read far more often than they are written.
+ *
+ * Reads (getEdge, hasEdge, findVertex, getEdgesTo, getEdgesFrom...) take no lock at all,
+ * they run as an optimistic read of a StampedLock, and are only retried under its read lock
+ * if a structural change happened while they ran. Edge writes hold the read lock, so they
+ * never stop one another or the readers, and lock the stripe of each row they write.
+ * A stripe covers a block of ROWS_PER_STRIPE consecutive rows, blocks are spread over
+ * NUM_STRIPES locks. Structural changes (adding a vertex, which may resize, removing a vertex,
+ * compacting) take the write lock, and so run alone.
+ *
+ * Every cell is an element of an AtomicReferenceArray, so a reader sees either the old edge
+ * or the new one, never part of one. The two cells of an undirected edge are written one after
+ * the other, a reader that races the write can see the edge in one direction only.
+ *
+ * Edges are kept as Edge objects, a null cell or an edge of weight 0 indicates no edge.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class ConcurrentAdjacencyMatrix<T, E extends Edge> implements AdjacencyMatrixInterface<T, E> {
+
+    //~Constants----------------------------------------------
+    private static final int DEFAULT_SIZE = 10;
+
+    /**
+     * The number of row locks, a power of 2.
+     */
+    private static final int NUM_STRIPES = 64;
+
+    /**
+     * log2 of the number of consecutive rows that share a row lock.
+     */
+    private static final int STRIPE_SHIFT = 3;
+
+    /**
+     * The number of consecutive rows that share a row lock.
+     */
+    public static final int ROWS_PER_STRIPE = 1 << STRIPE_SHIFT;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Guards the structure: the vertices and the size of the matrix.
+     * Structural changes hold the write lock, edge writes hold the read lock,
+     * reads validate an optimistic stamp.
+     */
+    private final StampedLock structure;
+
+    /**
+     * The row locks, row i is written under stripes[(i >>> STRIPE_SHIFT) & (NUM_STRIPES - 1)].
+     */
+    private final ReentrantLock[] stripes;
+
+    /**
+     * The rows of the matrix, matrix[i] holds the edges from vertex number i.
+     * Only replaced under the write lock.
+     */
+    private volatile AtomicReferenceArray<Edge>[] matrix;
+
+    /**
+     * Array of elements contained in the graph, at their vertex numbers.
+     * Only written under the write lock.
+     */
+    private T[] elements;
+
+    /**
+     * The current number of vertices in the graph.
+     */
+    private int numVertices;
+
+    /**
+     * The number of vertex numbers, from 0 up, that have ever been handed out.
+     */
+    private int slotsUsed;
+
+    /**
+     * Stack of vertex numbers below slotsUsed that were freed by removing their vertex.
+     */
+    private int[] freeSlots;
+
+    /**
+     * The number of vertex numbers on the freeSlots stack.
+     */
+    private int numFree;
+
+    /**
+     * The number of edges from each vertex number.
+     */
+    private AtomicIntegerArray outDegree;
+
+    /**
+     * The number of edges to each vertex number.
+     */
+    private AtomicIntegerArray inDegree;
+
+    /**
+     * The number of edges in the graph, an undirected edge counts once.
+     */
+    private final LongAdder numEdges;
+
+    /**
+     * Goes up with every cell written and every structural change. A LongAdder, so writers
+     * in different stripes don't all contend on one counter. It's only ever incremented,
+     * so its sum never goes back.
+     */
+    private final LongAdder version;
+
+    /**
+     * Indicates whether the graph is directed or not. True if directed, false otherwise.
+     */
+    private final boolean directed;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of 10, undirected.
+     */
+    public ConcurrentAdjacencyMatrix() {
+
+        this(false, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of 10.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     */
+    public ConcurrentAdjacencyMatrix(boolean directed) {
+
+        this(directed, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph, until it grows.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentAdjacencyMatrix(boolean directed, int size) {
+
+        this.directed = directed;
+
+        structure = new StampedLock();
+        stripes = new ReentrantLock[NUM_STRIPES];
+        for (int i = 0; i < NUM_STRIPES; i++) {
+
+            stripes[i] = new ReentrantLock();
+        }
+
+        matrix = newRows(size, size, null);
+        elements = (T[]) new Object[size];
+        freeSlots = new int[size];
+        outDegree = new AtomicIntegerArray(size);
+        inDegree = new AtomicIntegerArray(size);
+        numEdges = new LongAdder();
+        version = new LongAdder();
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Makes rows for a matrix of newSize vertices, holding the cells of old where it has them.
+     *
+     * @param oldSize the number of vertices old holds, 0 if old is null.
+     * @param newSize the number of vertices the new rows hold.
+     * @param old the rows to copy, or null.
+     * @return the new rows.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static AtomicReferenceArray<Edge>[] newRows(int oldSize, int newSize,
+            AtomicReferenceArray<Edge>[] old) {
+
+        //arrays of a generic type can't be made, make a raw one, it only ever holds AtomicReferenceArray<Edge>
+        AtomicReferenceArray<Edge>[] rows = new AtomicReferenceArray[newSize];
+
+        for (int i = 0; i < newSize; i++) {
+
+            rows[i] = new AtomicReferenceArray<Edge>(newSize);
+
+            for (int j = 0; old != null && i < oldSize && j < oldSize; j++) {
+
+                rows[i].set(j, old[i].get(j));
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Locks the rows an edge write between index1 and index2 touches,
+     * the row of index2 too if the graph is undirected.
+     * Locks are always taken in stripe order so two writers can't deadlock.
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     */
+    private void lockRows(int index1, int index2) {
+
+        int first = (index1 >>> STRIPE_SHIFT) & (NUM_STRIPES - 1);
+        int second = directed ? first : (index2 >>> STRIPE_SHIFT) & (NUM_STRIPES - 1);
+
+        stripes[Math.min(first, second)].lock();
+        if (first != second) {
+            stripes[Math.max(first, second)].lock();
+        }
+    }
+
+    /**
+     * Unlocks the rows locked by lockRows(index1, index2).
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     */
+    private void unlockRows(int index1, int index2) {
+
+        int first = (index1 >>> STRIPE_SHIFT) & (NUM_STRIPES - 1);
+        int second = directed ? first : (index2 >>> STRIPE_SHIFT) & (NUM_STRIPES - 1);
+
+        stripes[first].unlock();
+        if (first != second) {
+            stripes[second].unlock();
+        }
+    }
+
+    /**
+     * Tells whether both vertex numbers are inside the rows passed.
+     * Reads check against the rows they loaded, so a resize can never make them run off the end.
+     *
+     * @param rows the rows of the matrix.
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if both are valid vertex numbers, false otherwise.
+     */
+    private static boolean inBounds(AtomicReferenceArray<Edge>[] rows, int index1, int index2) {
+
+        return index1 > -1 && index2 > -1 && index1 < rows.length && index2 < rows.length;
+    }
+
+    /**
+     * Gets the weight of a cell, 0 if it holds no edge.
+     *
+     * @param rows the rows of the matrix.
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     * @return the weight, or 0.
+     */
+    private static int weight(AtomicReferenceArray<Edge>[] rows, int row, int col) {
+
+        Edge edge = rows[row].get(col);
+
+        return edge == null ? 0 : edge.getWeight();
+    }
+
+    /**
+     * Stores edge (null for no edge) in a cell, keeping the degrees up to date.
+     * Every write to a cell goes through here, except for compact, which recounts.
+     * The caller holds the read lock and the row lock of row, or the write lock.
+     *
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     * @param edge the edge to store, or null.
+     * @return the weight the cell held, 0 if it held no edge.
+     */
+    private int setCell(int row, int col, Edge edge) {
+
+        if (edge != null && edge.getWeight() == 0) {
+            edge = null;
+        }
+
+        Edge old = matrix[row].getAndSet(col, edge);
+        version.increment();
+        int oldWeight = old == null ? 0 : old.getWeight();
+
+        if ((oldWeight != 0) != (edge != null)) {
+
+            int delta = edge != null ? 1 : -1;
+
+            outDegree.addAndGet(row, delta);
+            inDegree.addAndGet(col, delta);
+
+            //an undirected edge is in two cells, only count one of them
+            if (directed || row <= col) {
+                numEdges.add(delta);
+            }
+        }
+
+        return oldWeight;
+    }
+
+    /**
+     * Writes the edge between index1 and index2 (and back if undirected) under their row locks.
+     * The caller holds the read lock.
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     * @param edge the edge to store, or null to remove the edge.
+     * @param onlyIfAbsent true to leave an existing edge alone.
+     * @return the weight the cell held before, -1 if the numbers are invalid
+     *          or if onlyIfAbsent and there was an edge.
+     */
+    private int writeEdge(int index1, int index2, Edge edge, boolean onlyIfAbsent) {
+
+        if (!inBounds(matrix, index1, index2)) {
+            return -1;
+        }
+
+        lockRows(index1, index2);
+        try {
+
+            if (onlyIfAbsent && weight(matrix, index1, index2) != 0) {
+                return -1;
+            }
+
+            int old = setCell(index1, index2, edge);
+
+            if (!directed) {
+                setCell(index2, index1, edge);
+            }
+
+            return old;
+        }
+        finally {
+
+            unlockRows(index1, index2);
+        }
+    }
+
+    /**
+     * Removes the edge between index1 and index2 (and back if undirected) if there is one,
+     * under their row locks. The caller holds the read lock.
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     * @return true if there was an edge, false if not or the numbers are invalid.
+     */
+    private boolean clearEdge(int index1, int index2) {
+
+        if (!inBounds(matrix, index1, index2)) {
+            return false;
+        }
+
+        lockRows(index1, index2);
+        try {
+
+            if (matrix[index1].get(index2) == null) {
+                return false;
+            }
+
+            setCell(index1, index2, null);
+
+            if (!directed) {
+                setCell(index2, index1, null);
+            }
+
+            return true;
+        }
+        finally {
+
+            unlockRows(index1, index2);
+        }
+    }
+
+    /**
+     * Finds element without taking a lock. Tolerates a structural change racing it,
+     * in which case the caller's stamp won't validate.
+     *
+     * @param element the element to find.
+     * @return the vertex number of element, -1 if it isn't in the graph.
+     */
+    private int find(T element) {
+
+        T[] elems = elements;
+        int used = Math.min(slotsUsed, elems.length);
+
+        if (element != null) {
+
+            for (int i = 0; i < used; i++) {
+
+                if (element.equals(elems[i])) {
+
+                    Instrumentation.vertexLookup(i + 1);
+
+                    return i;
+                }
+            }
+
+            Instrumentation.vertexLookup(used);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Collects the vertices at the other end of the edges to or from element, without a lock.
+     *
+     * @param element the vertex whose edges are collected.
+     * @param outgoing true for the edges from element, false for the edges to it.
+     * @return the vertices, empty if element isn't in the graph.
+     */
+    private List<T> neighbors(T element, boolean outgoing) {
+
+        List<T> edges = new LinkedList<T>();
+
+        AtomicReferenceArray<Edge>[] rows = matrix;
+        T[] elems = elements;
+        int used = Math.min(Math.min(slotsUsed, elems.length), rows.length);
+        int index = find(element);
+
+        if (index != -1 && index < rows.length) {
+
+            for (int i = 0; i < used; i++) {
+
+                int weight = outgoing ? weight(rows, index, i) : weight(rows, i, index);
+
+                if (weight != 0) {
+
+                    edges.add(elems[i]);
+                }
+            }
+
+            Instrumentation.cellsScanned(used);
+        }
+
+        return edges;
+    }
+
+    /**
+     * Doubles the number of vertices the matrix can hold. The caller holds the write lock.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+
+        int oldSize = elements.length;
+        int size = oldSize * 2;
+
+        matrix = newRows(oldSize, size, matrix);
+
+        T[] temp = (T[]) new Object[size];
+        System.arraycopy(elements, 0, temp, 0, oldSize);
+        elements = temp;
+
+        int[] freeTemp = new int[size];
+        System.arraycopy(freeSlots, 0, freeTemp, 0, numFree);
+        freeSlots = freeTemp;
+
+        AtomicIntegerArray outTemp = new AtomicIntegerArray(size);
+        AtomicIntegerArray inTemp = new AtomicIntegerArray(size);
+        for (int i = 0; i < oldSize; i++) {
+
+            outTemp.set(i, outDegree.get(i));
+            inTemp.set(i, inDegree.get(i));
+        }
+        outDegree = outTemp;
+        inDegree = inTemp;
+    }
+
+    @Override
+    public int addVertex(T element) {
+
+        long stamp = structure.writeLock();
+        try {
+
+            int index;
+
+            //reuse the most recently freed slot, otherwise take the next unused one
+            if (numFree > 0) {
+
+                index = freeSlots[--numFree];
+            }
+            else {
+
+                if (slotsUsed == elements.length) {
+
+                    resize();
+                }
+
+                index = slotsUsed++;
+            }
+
+            elements[index] = element;
+            numVertices++;
+            version.increment();
+
+            return index;
+        }
+        finally {
+
+            structure.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeVertex(T element) {
+
+        return popVertex(element) != null;
+    }
+
+    @Override
+    public boolean removeVertex(int index) {
+
+        return popVertex(index) != null;
+    }
+
+    @Override
+    public T popVertex(T element) {
+
+        long stamp = structure.writeLock();
+        try {
+
+            return removeAt(find(element));
+        }
+        finally {
+
+            structure.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T popVertex(int index) {
+
+        long stamp = structure.writeLock();
+        try {
+
+            return removeAt(index);
+        }
+        finally {
+
+            structure.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the vertex numbered index and every edge at it. The caller holds the write lock.
+     *
+     * @param index the vertex number to remove.
+     * @return the element removed, null if index held no vertex.
+     */
+    private T removeAt(int index) {
+
+        if (index > -1 && index < elements.length && elements[index] != null) {
+
+            T element = elements[index];
+
+            elements[index] = null;
+
+            //set rows and columns of index to 0
+            for (int i = 0; i < matrix.length; i++) {
+
+                setCell(index, i, null);
+                setCell(i, index, null);
+            }
+
+            numVertices--;
+            freeSlots[numFree++] = index;
+            version.increment();
+
+            return element;
+        }
+
+        return null;
+    }
+
+    @Override
+    public int findVertex(T element) {
+
+        long stamp = structure.tryOptimisticRead();
+        int index = find(element);
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                index = find(element);
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return index;
+    }
+
+    @Override
+    public T getVertex(int number) {
+
+        long stamp = structure.tryOptimisticRead();
+        T[] elems = elements;
+        T element = number > -1 && number < elems.length ? elems[number] : null;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                element = number > -1 && number < elements.length ? elements[number] : null;
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return element;
+    }
+
+    @Override
+    public List<T> getVertices() {
+
+        long stamp = structure.readLock();
+        try {
+
+            List<T> list = new LinkedList<T>();
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                if (elements[i] != null) {
+                    list.add(elements[i]);
+                }
+            }
+
+            return list;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+
+        long stamp = structure.tryOptimisticRead();
+        int size = numVertices;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            size = numVertices;
+            structure.unlockRead(stamp);
+        }
+
+        return size;
+    }
+
+    @Override
+    public int capacity() {
+
+        return matrix.length;
+    }
+
+    @Override
+    public int usedSlots() {
+
+        long stamp = structure.tryOptimisticRead();
+        int used = slotsUsed;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            used = slotsUsed;
+            structure.unlockRead(stamp);
+        }
+
+        return used;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int[] compact() {
+
+        long stamp = structure.writeLock();
+        try {
+
+            int size = elements.length;
+            int[] mapping = new int[size];
+            int count = 0;
+
+            for (int i = 0; i < size; i++) {
+
+                mapping[i] = (i < slotsUsed && elements[i] != null) ? count++ : -1;
+            }
+
+            //edges at vertex numbers with no vertex go away, like the vertex numbers do
+            AtomicReferenceArray<Edge>[] rows = newRows(0, size, null);
+            T[] temp = (T[]) new Object[size];
+            AtomicIntegerArray outTemp = new AtomicIntegerArray(size);
+            AtomicIntegerArray inTemp = new AtomicIntegerArray(size);
+            long edges = 0;
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                if (mapping[i] == -1) {
+                    continue;
+                }
+
+                temp[mapping[i]] = elements[i];
+
+                for (int j = 0; j < slotsUsed; j++) {
+
+                    if (mapping[j] != -1 && weight(matrix, i, j) != 0) {
+
+                        rows[mapping[i]].set(mapping[j], matrix[i].get(j));
+                        outTemp.incrementAndGet(mapping[i]);
+                        inTemp.incrementAndGet(mapping[j]);
+
+                        if (directed || i <= j) {
+                            edges++;
+                        }
+                    }
+                }
+            }
+
+            matrix = rows;
+            elements = temp;
+            outDegree = outTemp;
+            inDegree = inTemp;
+            numEdges.reset();
+            numEdges.add(edges);
+            slotsUsed = count;
+            numFree = 0;
+            version.increment();
+
+            return mapping;
+        }
+        finally {
+
+            structure.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int outDegree(int index) {
+
+        long stamp = structure.tryOptimisticRead();
+        AtomicIntegerArray degrees = outDegree;
+        int degree = index > -1 && index < degrees.length() ? degrees.get(index) : -1;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                degree = index > -1 && index < outDegree.length() ? outDegree.get(index) : -1;
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return degree;
+    }
+
+    @Override
+    public int inDegree(int index) {
+
+        long stamp = structure.tryOptimisticRead();
+        AtomicIntegerArray degrees = inDegree;
+        int degree = index > -1 && index < degrees.length() ? degrees.get(index) : -1;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                degree = index > -1 && index < inDegree.length() ? inDegree.get(index) : -1;
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return degree;
+    }
+
+    @Override
+    public int outDegree(T element) {
+
+        long stamp = structure.readLock();
+        try {
+
+            int index = find(element);
+
+            return index != -1 ? outDegree.get(index) : -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int inDegree(T element) {
+
+        long stamp = structure.readLock();
+        try {
+
+            int index = find(element);
+
+            return index != -1 ? inDegree.get(index) : -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int numEdges() {
+
+        return (int) numEdges.sum();
+    }
+
+    @Override
+    public long version() {
+
+        return version.sum();
+    }
+
+    @Override
+    public boolean addEdge(T element1, T element2) {
+
+        return addEdge(element1, element2, 1);
+    }
+
+    @Override
+    public boolean addEdge(int index1, int index2) {
+
+        return addEdge(index1, index2, 1);
+    }
+
+    @Override
+    public boolean addEdge(T element1, T element2, int weight) {
+
+        long stamp = structure.readLock();
+        try {
+
+            int index1 = find(element1);
+            int index2 = find(element2);
+
+            return index1 != -1 && index2 != -1
+                    && writeEdge(index1, index2, new IntEdge(weight), true) != -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean addEdge(int index1, int index2, int weight) {
+
+        long stamp = structure.readLock();
+        try {
+
+            return writeEdge(index1, index2, new IntEdge(weight), true) != -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean addEdge(T element1, T element2, E edge) {
+
+        long stamp = structure.readLock();
+        try {
+
+            int index1 = find(element1);
+            int index2 = find(element2);
+
+            return index1 != -1 && index2 != -1 && edge != null
+                    && writeEdge(index1, index2, edge, false) != -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean addEdge(int index1, int index2, E edge) {
+
+        long stamp = structure.readLock();
+        try {
+
+            return edge != null && writeEdge(index1, index2, edge, false) != -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean hasEdge(int fromVertex, int toVertex) {
+
+        long stamp = structure.tryOptimisticRead();
+        AtomicReferenceArray<Edge>[] rows = matrix;
+        boolean exists = inBounds(rows, fromVertex, toVertex) && rows[fromVertex].get(toVertex) != null;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                rows = matrix;
+                exists = inBounds(rows, fromVertex, toVertex) && rows[fromVertex].get(toVertex) != null;
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return exists;
+    }
+
+    @Override
+    public int getEdge(int fromVertex, int toVertex) {
+
+        long stamp = structure.tryOptimisticRead();
+        AtomicReferenceArray<Edge>[] rows = matrix;
+        int weight = inBounds(rows, fromVertex, toVertex) ? weight(rows, fromVertex, toVertex) : -1;
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                rows = matrix;
+                weight = inBounds(rows, fromVertex, toVertex) ? weight(rows, fromVertex, toVertex) : -1;
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return weight;
+    }
+
+    @Override
+    public List<T> getEdgesTo(T element) {
+
+        long stamp = structure.tryOptimisticRead();
+        List<T> edges = neighbors(element, true);
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                edges = neighbors(element, true);
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return edges;
+    }
+
+    @Override
+    public List<T> getEdgesFrom(T element) {
+
+        long stamp = structure.tryOptimisticRead();
+        List<T> edges = neighbors(element, false);
+
+        if (!structure.validate(stamp)) {
+
+            stamp = structure.readLock();
+            try {
+
+                edges = neighbors(element, false);
+            }
+            finally {
+
+                structure.unlockRead(stamp);
+            }
+        }
+
+        return edges;
+    }
+
+    @Override
+    public boolean removeEdge(T element1, T element2) {
+
+        long stamp = structure.readLock();
+        try {
+
+            return clearEdge(find(element1), find(element2));
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(int index1, int index2) {
+
+        long stamp = structure.readLock();
+        try {
+
+            return clearEdge(index1, index2);
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int popEdge(T element1, T element2) {
+
+        long stamp = structure.readLock();
+        try {
+
+            int index1 = find(element1);
+            int index2 = find(element2);
+
+            if (index1 != -1 && index2 != -1) {
+
+                return writeEdge(index1, index2, null, false);
+            }
+
+            return -1;
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int popEdge(int index1, int index2) {
+
+        long stamp = structure.readLock();
+        try {
+
+            return writeEdge(index1, index2, null, false);
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Makes a copy of the graph as it is at one instant. Holds every row lock while copying,
+     * so edge writes wait for the copy, reads don't.
+     *
+     * @return a new ConcurrentAdjacencyMatrix with the same vertices and edges.
+     */
+    @Override
+    public ConcurrentAdjacencyMatrix<T, E> makeCopy() {
+
+        long stamp = structure.readLock();
+        try {
+
+            for (int i = 0; i < NUM_STRIPES; i++) {
+
+                stripes[i].lock();
+            }
+
+            try {
+
+                int size = elements.length;
+                ConcurrentAdjacencyMatrix<T, E> copy = new ConcurrentAdjacencyMatrix<T, E>(directed, size);
+
+                copy.matrix = newRows(size, size, matrix);
+                copy.elements = elements.clone();
+                copy.freeSlots = freeSlots.clone();
+                copy.numVertices = numVertices;
+                copy.slotsUsed = slotsUsed;
+                copy.numFree = numFree;
+
+                for (int i = 0; i < size; i++) {
+
+                    copy.outDegree.set(i, outDegree.get(i));
+                    copy.inDegree.set(i, inDegree.get(i));
+                }
+                copy.numEdges.add(numEdges.sum());
+
+                return copy;
+            }
+            finally {
+
+                for (int i = NUM_STRIPES - 1; i > -1; i--) {
+
+                    stripes[i].unlock();
+                }
+            }
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean isDirected() {
+
+        return directed;
+    }
+
+    @Override
+    public String printEdges() {
+
+        long stamp = structure.readLock();
+        try {
+
+            StringBuilder build = new StringBuilder();
+            int size = slotsUsed;
+
+            build.append("-");
+            for (int i = 0; i < size; i++) {
+
+                build.append("|").append(i);
+            }
+            build.append("|").append("\n");
+
+            for (int i = 0; i < size; i++) {
+
+                build.append("-|");
+            }
+            build.append("-|").append("\n");
+
+            for (int i = 0; i < size; i++) {
+
+                build.append(i);
+
+                for (int j = 0; j < size; j++) {
+
+                    build.append("|").append(weight(matrix, i, j));
+                }
+                build.append("|").append("\n");
+            }
+
+            for (int i = 0; i < size; i++) {
+
+                build.append("-|");
+            }
+            build.append("-|").append("\n");
+
+            return build.toString();
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public String printVertices() {
+
+        long stamp = structure.readLock();
+        try {
+
+            StringBuilder build = new StringBuilder();
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                build.append("|").append(elements[i]);
+            }
+
+            return build.toString();
+        }
+        finally {
+
+            structure.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.Arrays;
+
+/**
+ * An Adjacency Matrix style graph with long edge weights, stored unboxed in
+ * one long array per row. Whether an edge exists is tracked separately from its weight,
+ * so a weight of 0 is a legal edge.
+ * weightOf widens the weights to double, which is exact for weights up to 2^53.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public class LongWeightedMatrix<T> extends PrimitiveWeightedMatrix<T> {
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Edge weights, weights[i][j] is the weight of the edge from i to j if there is one.
+     */
+    private long[][] weights;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of 10.
+     * Which means there are 10 vertices in the graph.
+     */
+    public LongWeightedMatrix() {
+
+        this(false, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of 10. There will be 10 vertices in the graph.
+     *
+     * @param directed true if the graph is to be a directed graph, false otherwise.
+     */
+    public LongWeightedMatrix(boolean directed) {
+
+        this(directed, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    public LongWeightedMatrix(boolean directed, int size) {
+
+        super(directed, size);
+
+        weights = new long[size][size];
+    }
+
+    //~Methods-------------------------------------------------
+    @Override
+    public LongWeightedMatrix<T> makeCopy() {
+
+        LongWeightedMatrix<T> copy = new LongWeightedMatrix<T>(isDirected(), capacity());
+
+        copy.copyStructure(this);
+
+        for (int i = 0; i < weights.length; i++) {
+
+            System.arraycopy(weights[i], 0, copy.weights[i], 0, weights[i].length);
+        }
+
+        return copy;
+    }
+
+    @Override
+    protected void resizeWeights(int oldSize, int newSize) {
+
+        long[][] temp = new long[newSize][];
+
+        for (int i = 0; i < newSize; i++) {
+
+            temp[i] = i < oldSize ? Arrays.copyOf(weights[i], newSize) : new long[newSize];
+        }
+
+        weights = temp;
+    }
+
+    @Override
+    protected void relabelWeights(int[] mapping, int used) {
+
+        weights = relabelRows(weights, mapping, used, new long[used]);
+    }
+
+    @Override
+    protected String weightString(int fromVertex, int toVertex) {
+
+        return String.valueOf(weights[fromVertex][toVertex]);
+    }
+
+    @Override
+    public boolean addEdge(int index1, int index2) {
+
+        return addEdge(index1, index2, 1L);
+    }
+
+    /**
+     * Adds an edge between element1 and element2 of weight weight.
+     * If it's directed, adds the edge from element1 to element2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param element1 the first element (or starting element) to put the edge at.
+     * @param element2 the second element, that the edge goes to.
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't ALREADY exist, false otherwise.
+     */
+    public boolean addEdge(T element1, T element2, long weight) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return addEdge(index1, index2, weight);
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds an edge between index1 and index2 of weight weight.
+     * If it's directed, adds the edge from index1 to index 2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param index1 the number of the first vertex (the from vertex)
+     * @param index2 the number of the second vertex (the to vertex)
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't exist, false otherwise.
+     */
+    public boolean addEdge(int index1, int index2, long weight) {
+
+        if (inBounds(index1, index2) && !hasEdge(index1, index2)) {
+
+            setWeight(index1, index2, weight);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the weight of the edge from index1 to index2 (and back, if undirected),
+     * adding the edge if it doesn't exist yet.
+     *
+     * @param index1 the number of the first vertex (the from vertex)
+     * @param index2 the number of the second vertex (the to vertex)
+     * @param weight the new weight of the edge.
+     * @return true if successful, false if index1 or index2 is out of bounds.
+     */
+    public boolean setWeight(int index1, int index2, long weight) {
+
+        if (inBounds(index1, index2)) {
+
+            weights[index1][index2] = weight;
+
+            if (!isDirected()) {
+                weights[index2][index1] = weight;
+            }
+
+            setPresent(index1, index2, true);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the weight of the edge going from the vertex
+     * numbered by fromVertex, to the vertex numbered by toVertex.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the weight of the edge, 0 if there is no edge or the numbers are invalid.
+     *          Use hasEdge to tell a 0 weight edge apart from no edge.
+     */
+    public long getWeight(int fromVertex, int toVertex) {
+
+        if (hasEdge(fromVertex, toVertex)) {
+
+            return weights[fromVertex][toVertex];
+        }
+
+        return 0;
+    }
+
+    @Override
+    public double weightOf(int fromVertex, int toVertex) {
+
+        return getWeight(fromVertex, toVertex);
+    }
+
+    /**
+     * Takes two vertex numbers and removes the edge between them, returns the weight of the edge.
+     * If it's a directed graph, then returns the weight of the edge from index1 to index2
+     *
+     * @param index1 the number of vertex1.
+     * @param index2 the number of vertex2.
+     * @return the weight of the edge that got removed, 0 if there was no edge.
+     */
+    public long popEdge(int index1, int index2) {
+
+        long weight = getWeight(index1, index2);
+
+        removeEdge(index1, index2);
+
+        return weight;
+    }
+}
@@ -0,0 +1,38 @@
+package ds.TheAdjacencyMatrix;
+
+/**
+ * Hears about every edge that is added to or removed from an adjacency matrix, so that a
+ * structure built over the matrix can keep itself up to date instead of being rebuilt.
+ * See AbstractAdjacencyMatrix.addListener.
+ *
+ * The methods are called while the matrix is in the middle of the change, so they may read
+ * the matrix but must not change it. In an undirected graph each edge is reported once,
+ * with fromVertex <= toVertex. Removing a vertex reports the removal of each of its edges.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public interface MatrixListener {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Called when an edge is added where there was none.
+     *
+     * @param fromVertex the vertex number the edge goes from.
+     * @param toVertex the vertex number the edge goes to.
+     */
+    public void edgeAdded(int fromVertex, int toVertex);
+    /**
+     * Called when an edge is removed. The matrix may still show the edge while this runs.
+     *
+     * @param fromVertex the vertex number the edge went from.
+     * @param toVertex the vertex number the edge went to.
+     */
+    public void edgeRemoved(int fromVertex, int toVertex);
+    /**
+     * Called after compact or renumber moved the vertices, and their edges, to new vertex numbers.
+     *
+     * @param mapping the new vertex number of each old vertex number, -1 if it had no vertex.
+     */
+    public void verticesRelabeled(int[] mapping);
+}
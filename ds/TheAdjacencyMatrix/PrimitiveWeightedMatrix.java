@@ -0,0 +1,340 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import ds.GraphMetrics.Instrumentation;
+
+/**
+ * Base for the Adjacency Matrix style graphs that store their edge weights in primitive arrays.
+ * Whether an edge exists is kept in a separate bitmap, one bit per cell, so any weight
+ * (0 included) is a legal edge weight. Subclasses only store the weights themselves.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public abstract class PrimitiveWeightedMatrix<T> extends AbstractAdjacencyMatrix<T>
+        implements WeightedMatrix {
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Bitmap of which cells hold an edge, bit j of row i is set if there is an edge from i to j.
+     */
+    private long[][] present;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    protected PrimitiveWeightedMatrix(boolean directed, int size) {
+
+        super(directed, size);
+
+        present = new long[size][words(size)];
+    }
+
+    //~Abstract Methods----------------------------------------
+    /**
+     * Grows the weight storage so that it can hold newSize vertices.
+     *
+     * @param oldSize the number of vertices the storage holds now.
+     * @param newSize the number of vertices the storage has to hold.
+     */
+    protected abstract void resizeWeights(int oldSize, int newSize);
+
+    /**
+     * Moves every weight to the new vertex numbers of its endpoints, as in relabelEdges.
+     * Usually just relabelRows on the weight rows.
+     *
+     * @param mapping the new vertex number of each old vertex number, -1 if it has no vertex.
+     * @param used the number of vertex numbers that could hold edges.
+     */
+    protected abstract void relabelWeights(int[] mapping, int used);
+
+    /**
+     * Gets the weight in a cell as a String, for printEdges.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the weight as a String.
+     */
+    protected abstract String weightString(int fromVertex, int toVertex);
+
+    //~Methods-------------------------------------------------
+    /**
+     * Number of longs it takes to hold one bit per vertex.
+     *
+     * @param size the number of vertices.
+     * @return the number of longs in a row of the bitmap.
+     */
+    private static int words(int size) {
+
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Tells whether both vertex numbers are inside the matrix.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if both are valid vertex numbers, false otherwise.
+     */
+    protected boolean inBounds(int index1, int index2) {
+
+        int size = capacity();
+
+        return index1 > -1 && index2 > -1 && index1 < size && index2 < size;
+    }
+
+    /**
+     * Marks the edge from index1 to index2 (and back if undirected) as present or not.
+     * Assumes valid vertex numbers.
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     * @param exists true to mark the edge present, false to mark it absent.
+     */
+    protected void setPresent(int index1, int index2, boolean exists) {
+
+        //the weight may have been written just before, with the bit already set
+        modified();
+
+        setBit(index1, index2, exists);
+
+        if (!isDirected()) {
+            setBit(index2, index1, exists);
+        }
+    }
+
+    /**
+     * Sets or clears a single bit of the bitmap.
+     *
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     * @param exists true to set the bit, false to clear it.
+     */
+    private void setBit(int row, int col, boolean exists) {
+
+        if (((present[row][col >>> 6] & (1L << col)) != 0) != exists) {
+            cellChanged(row, col, exists);
+        }
+
+        if (exists) {
+            present[row][col >>> 6] |= 1L << col;
+        }
+        else {
+            present[row][col >>> 6] &= ~(1L << col);
+        }
+    }
+
+    /**
+     * Copies the vertices and the edge bitmap of other into this matrix. Used when copying.
+     *
+     * @param other the matrix to copy.
+     */
+    protected void copyStructure(PrimitiveWeightedMatrix<T> other) {
+
+        copyVertices(other);
+
+        for (int i = 0; i < present.length; i++) {
+
+            System.arraycopy(other.present[i], 0, present[i], 0, present[i].length);
+        }
+    }
+
+    /**
+     * Moves rows and columns of a row per vertex storage to the new vertex numbers,
+     * as relabelEdges describes. Works on any array type, cells that don't get a moved
+     * value keep whatever they held, which is fine since the bitmap marks them absent.
+     *
+     * @param rows the rows of the storage.
+     * @param mapping the new vertex number of each old vertex number, -1 if it has no vertex.
+     * @param used the number of vertex numbers that could hold edges.
+     * @param buffer a scratch row at least used long.
+     * @return the relabeled rows.
+     */
+    protected static <R> R[] relabelRows(R[] rows, int[] mapping, int used, R buffer) {
+
+        R[] result = Arrays.copyOf(rows, rows.length);
+        Arrays.fill(result, 0, used, null);
+
+        //live rows go to their new numbers, rows past used stay where they are
+        for (int i = 0; i < used; i++) {
+
+            if (mapping[i] != -1) {
+                result[mapping[i]] = rows[i];
+            }
+        }
+
+        //rows of removed vertices fill the gaps
+        int hole = 0;
+        for (int i = 0; i < used; i++) {
+
+            if (mapping[i] == -1) {
+
+                while (result[hole] != null) {
+                    hole++;
+                }
+                result[hole] = rows[i];
+            }
+        }
+
+        //move the columns within every row
+        for (int i = 0; i < used; i++) {
+
+            System.arraycopy(result[i], 0, buffer, 0, used);
+
+            for (int j = 0; j < used; j++) {
+
+                if (mapping[j] != -1) {
+                    System.arraycopy(buffer, j, result[i], mapping[j], 1);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    protected void resizeEdges(int oldSize, int newSize) {
+
+        long[][] temp = new long[newSize][];
+
+        for (int i = 0; i < newSize; i++) {
+
+            temp[i] = i < oldSize ? Arrays.copyOf(present[i], words(newSize)) : new long[words(newSize)];
+        }
+
+        present = temp;
+
+        resizeWeights(oldSize, newSize);
+    }
+
+    @Override
+    protected void clearEdges(int index) {
+
+        for (int i = 0; i < present.length; i++) {
+
+            setBit(index, i, false);
+            setBit(i, index, false);
+        }
+    }
+
+    @Override
+    protected void relabelEdges(int[] mapping, int used) {
+
+        long[][] temp = new long[present.length][words(present.length)];
+
+        for (int i = 0; i < present.length; i++) {
+
+            int newI = i < used ? mapping[i] : i;
+
+            for (int j = 0; j < present.length && newI != -1; j++) {
+
+                int newJ = j < used ? mapping[j] : j;
+
+                if (newJ != -1 && (present[i][j >>> 6] & (1L << j)) != 0) {
+                    temp[newI][newJ >>> 6] |= 1L << newJ;
+                }
+            }
+        }
+
+        present = temp;
+
+        relabelWeights(mapping, used);
+    }
+
+    @Override
+    public boolean hasEdge(int fromVertex, int toVertex) {
+
+        return inBounds(fromVertex, toVertex)
+                && (present[fromVertex][toVertex >>> 6] & (1L << toVertex)) != 0;
+    }
+
+    @Override
+    public boolean removeEdge(int index1, int index2) {
+
+        if (hasEdge(index1, index2)) {
+
+            setPresent(index1, index2, false);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public List<T> getEdgesTo(T element) {
+
+        int index = findVertex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        if (index != -1) {
+
+            long[] row = present[index];
+
+            //walk the set bits of the row
+            for (int w = 0; w < row.length; w++) {
+
+                long bits = row[w];
+                while (bits != 0) {
+
+                    edges.add(getVertex((w << 6) + Long.numberOfTrailingZeros(bits)));
+                    bits &= bits - 1;
+                }
+            }
+
+            //every word looked at covers 64 cells
+            Instrumentation.cellsScanned((long) row.length << 6);
+        }
+
+        return edges;
+    }
+
+    public String printEdges() {
+
+        StringBuilder build = new StringBuilder();
+        int size = usedSlots();
+
+        build.append("-");
+        for (int i = 0; i < size; i++) {
+
+            build.append("|").append(i);
+        }
+        build.append("|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append(i);
+
+            for (int j = 0; j < size; j++) {
+
+                build.append("|").append(hasEdge(i, j) ? weightString(i, j) : ".");
+            }
+            build.append("|").append("\n");
+        }
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        return build.toString();
+    }
+}
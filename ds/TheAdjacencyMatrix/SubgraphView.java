@@ -0,0 +1,376 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import ds.Graph.Graph;
+
+/**
+ * A read only Graph that shows part of an adjacency matrix, without copying it.
+ * Only the vertices whose numbers are set in a BitSet are in the view, and only the edges
+ * between them that an EdgeFilter accepts. Neighbors are filtered as the row or column is
+ * scanned, so algorithms such as Algorithms.bfs run on the view at the cost of the matrix.
+ *
+ * The view is live: changes to the matrix, or to the BitSet, show up in it.
+ * The view itself can't be changed, its add and remove methods do nothing and return
+ * -1, false or null. Degrees and the edge count are worked out by scanning, since the
+ * matrix only keeps them for the whole graph.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ */
+public class SubgraphView<T> implements Graph<T> {
+
+    //~Constants----------------------------------------------
+    /**
+     * Decides which edges of the matrix are in a view.
+     */
+    public interface EdgeFilter {
+
+        /**
+         * Tells whether an edge is in the view.
+         *
+         * @param fromVertex the vertex number the edge goes from.
+         * @param toVertex the vertex number the edge goes to.
+         * @param weight the weight of the edge.
+         * @return true if the edge is in the view, false otherwise.
+         */
+        public boolean accept(int fromVertex, int toVertex, double weight);
+    }
+
+    /**
+     * Accepts every edge.
+     */
+    public static final EdgeFilter ALL_EDGES = (fromVertex, toVertex, weight) -> true;
+
+    //~Data Fields--------------------------------------------
+    private final AbstractAdjacencyMatrix<T> matrix;
+
+    /**
+     * The same object as matrix, for reading the weights.
+     */
+    private final WeightedMatrix weights;
+
+    /**
+     * The vertex numbers in the view, null for all of them.
+     */
+    private final BitSet vertices;
+
+    private final EdgeFilter filter;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Makes a view of the vertices of g whose numbers are set in vertices, and the edges
+     * between them that filter accepts.
+     *
+     * @param g the matrix to view.
+     * @param vertices the vertex numbers in the view, null for all of them. Kept, not copied.
+     * @param filter the edges in the view, null for all of them.
+     */
+    public <G extends AbstractAdjacencyMatrix<T> & WeightedMatrix> SubgraphView(G g,
+            BitSet vertices, EdgeFilter filter) {
+
+        this.matrix = g;
+        this.weights = g;
+        this.vertices = vertices;
+        this.filter = filter == null ? ALL_EDGES : filter;
+    }
+
+    /**
+     * Makes a view out of a matrix passed as its two types. Used by makeCopy.
+     */
+    private SubgraphView(AbstractAdjacencyMatrix<T> matrix, WeightedMatrix weights,
+            BitSet vertices, EdgeFilter filter) {
+
+        this.matrix = matrix;
+        this.weights = weights;
+        this.vertices = vertices;
+        this.filter = filter;
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Makes a filter that accepts the edges with a weight from min to max, both included.
+     *
+     * @param min the lowest weight accepted.
+     * @param max the highest weight accepted.
+     * @return the filter.
+     */
+    public static EdgeFilter weightBetween(final double min, final double max) {
+
+        return (fromVertex, toVertex, weight) -> weight >= min && weight <= max;
+    }
+
+    /**
+     * Tells whether the vertex numbered index holds a vertex that is in the view.
+     *
+     * @param index the vertex number.
+     * @return true if the vertex is in the view, false otherwise.
+     */
+    public boolean hasVertex(int index) {
+
+        return matrix.getVertex(index) != null && (vertices == null || vertices.get(index));
+    }
+
+    /**
+     * Tells whether the view has an edge from the vertex numbered fromVertex
+     * to the vertex numbered toVertex.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return true if the edge is in the view, false otherwise.
+     */
+    public boolean hasEdge(int fromVertex, int toVertex) {
+
+        return hasVertex(fromVertex) && hasVertex(toVertex) && viewHasEdge(fromVertex, toVertex);
+    }
+
+    /**
+     * Tells whether the matrix has an edge from fromVertex to toVertex that the filter accepts,
+     * for vertex numbers already known to be in the view.
+     */
+    private boolean viewHasEdge(int fromVertex, int toVertex) {
+
+        return weights.hasEdge(fromVertex, toVertex)
+                && filter.accept(fromVertex, toVertex, weights.weightOf(fromVertex, toVertex));
+    }
+
+    /**
+     * Finds the vertex number of element, if it is in the view.
+     *
+     * @param element the element to find.
+     * @return the vertex number, -1 if element isn't in the view.
+     */
+    private int viewIndex(T element) {
+
+        int index = matrix.findVertex(element);
+
+        return index != -1 && hasVertex(index) ? index : -1;
+    }
+
+    /**
+     * The view can't be changed.
+     *
+     * @return -1.
+     */
+    @Override
+    public int addVertex(T element) {
+
+        return -1;
+    }
+
+    /**
+     * The view can't be changed.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean removeVertex(T element) {
+
+        return false;
+    }
+
+    /**
+     * The view can't be changed.
+     *
+     * @return null.
+     */
+    @Override
+    public T popVertex(T element) {
+
+        return null;
+    }
+
+    @Override
+    public List<T> getVertices() {
+
+        List<T> list = new LinkedList<T>();
+        int used = matrix.usedSlots();
+
+        for (int i = 0; i < used; i++) {
+
+            if (hasVertex(i)) {
+                list.add(matrix.getVertex(i));
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * The view can't be changed.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean addEdge(T element1, T element2) {
+
+        return false;
+    }
+
+    @Override
+    public List<T> getEdgesTo(T element) {
+
+        int index = viewIndex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        if (index != -1) {
+
+            int used = matrix.usedSlots();
+
+            for (int i = 0; i < used; i++) {
+
+                if (hasVertex(i) && viewHasEdge(index, i)) {
+
+                    edges.add(matrix.getVertex(i));
+                }
+            }
+        }
+
+        return edges;
+    }
+
+    @Override
+    public List<T> getEdgesFrom(T element) {
+
+        int index = viewIndex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        if (index != -1) {
+
+            int used = matrix.usedSlots();
+
+            for (int i = 0; i < used; i++) {
+
+                if (hasVertex(i) && viewHasEdge(i, index)) {
+
+                    edges.add(matrix.getVertex(i));
+                }
+            }
+        }
+
+        return edges;
+    }
+
+    /**
+     * The view can't be changed.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean removeEdge(T element1, T element2) {
+
+        return false;
+    }
+
+    @Override
+    public int outDegree(T element) {
+
+        return viewIndex(element) != -1 ? getEdgesTo(element).size() : -1;
+    }
+
+    @Override
+    public int inDegree(T element) {
+
+        return viewIndex(element) != -1 ? getEdgesFrom(element).size() : -1;
+    }
+
+    @Override
+    public int numEdges() {
+
+        int used = matrix.usedSlots();
+        int count = 0;
+
+        for (int i = 0; i < used; i++) {
+
+            if (!hasVertex(i)) {
+                continue;
+            }
+
+            //an undirected edge is counted from its lower vertex number
+            for (int j = isDirected() ? 0 : i; j < used; j++) {
+
+                if (hasVertex(j) && viewHasEdge(i, j)) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int size() {
+
+        return getVertices().size();
+    }
+
+    @Override
+    public String printVertices() {
+
+        StringBuilder build = new StringBuilder();
+        int used = matrix.usedSlots();
+
+        for (int i = 0; i < used; i++) {
+
+            if (hasVertex(i)) {
+                build.append("|").append(matrix.getVertex(i));
+            }
+        }
+
+        return build.toString();
+    }
+
+    /**
+     * Lists the edges of the view, one "from -> to (weight)" per line, by vertex number.
+     */
+    @Override
+    public String printEdges() {
+
+        StringBuilder build = new StringBuilder();
+        int used = matrix.usedSlots();
+
+        for (int i = 0; i < used; i++) {
+
+            if (!hasVertex(i)) {
+                continue;
+            }
+
+            for (int j = 0; j < used; j++) {
+
+                if (hasVertex(j) && viewHasEdge(i, j)) {
+
+                    build.append(i).append(" -> ").append(j)
+                            .append(" (").append(weights.weightOf(i, j)).append(")\n");
+                }
+            }
+        }
+
+        return build.toString();
+    }
+
+    @Override
+    public boolean isDirected() {
+
+        return matrix.isDirected();
+    }
+
+    /**
+     * Makes a copy of the view over a copy of the matrix and of the BitSet,
+     * so neither the view nor the copy sees changes made through the other.
+     * The filter is shared.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Graph<T> makeCopy() {
+
+        //every matrix copies as its own kind of matrix, so the copy is a WeightedMatrix too
+        Graph<T> copy = matrix.makeCopy();
+
+        return new SubgraphView<T>((AbstractAdjacencyMatrix<T>) copy, (WeightedMatrix) copy,
+                vertices == null ? null : (BitSet) vertices.clone(), filter);
+    }
+}
@@ -0,0 +1,594 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.LinkedList;
+import java.util.List;
+import ds.GraphMetrics.Instrumentation;
+
+/**
+ * An Adjacency Matrix style graph which stores its edges in fixed size square tiles
+ * of TILE_SIZE x TILE_SIZE cells. A tile is only allocated once an edge lands in it,
+ * and is dropped again when its last edge is removed, so empty regions of the matrix
+ * cost one null reference per tile. Growing the matrix only grows the directory of tiles,
+ * no cells are copied.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class TiledAdjacencyMatrix<T, E extends Edge> extends AbstractAdjacencyMatrix<T>
+        implements AdjacencyMatrixInterface<T, E> {
+
+    //~Constants----------------------------------------------
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * Directory of tiles, tiles[r][c] holds the cells of rows r * TILE_SIZE and up
+     * and columns c * TILE_SIZE and up, row by row. Null if none of its cells has an edge.
+     * A null cell in an allocated tile is an empty (0 weight) edge.
+     */
+    private Edge[][][] tiles;
+
+    /**
+     * Number of edges in each allocated tile, so a tile can be dropped when it empties.
+     */
+    private int[][] tileCounts;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of 10.
+     * Which means there are 10 vertices in the graph.
+     */
+    public TiledAdjacencyMatrix() {
+
+        this(false, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of 10. There will be 10 vertices in the graph.
+     *
+     * @param directed true if the graph is to be a directed graph, false otherwise.
+     */
+    public TiledAdjacencyMatrix(boolean directed) {
+
+        this(directed, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    public TiledAdjacencyMatrix(boolean directed, int size) {
+
+        super(directed, size);
+
+        int numTiles = tilesFor(size);
+        tiles = new Edge[numTiles][numTiles][];
+        tileCounts = new int[numTiles][numTiles];
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Number of tiles along each side of a matrix holding size vertices.
+     *
+     * @param size the number of vertices.
+     * @return the number of tiles per side.
+     */
+    private static int tilesFor(int size) {
+
+        return (size + TILE_MASK) >>> TILE_SHIFT;
+    }
+
+    /**
+     * Tells whether both vertex numbers are inside the matrix.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if both are valid vertex numbers, false otherwise.
+     */
+    private boolean inBounds(int index1, int index2) {
+
+        int size = capacity();
+
+        return index1 > -1 && index2 > -1 && index1 < size && index2 < size;
+    }
+
+    /**
+     * Gets the Edge in a cell. Assumes valid vertex numbers.
+     *
+     * @param row the vertex number the edge goes from.
+     * @param col the vertex number the edge goes to.
+     * @return the Edge in the cell, null if there is no edge.
+     */
+    private Edge cell(int row, int col) {
+
+        Edge[] tile = tiles[row >>> TILE_SHIFT][col >>> TILE_SHIFT];
+
+        if (tile == null) {
+
+            return null;
+        }
+
+        return tile[((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK)];
+    }
+
+    /**
+     * Puts an Edge in a cell, allocating the tile if needed and dropping it
+     * if its last edge is removed. Assumes valid vertex numbers.
+     *
+     * @param row the vertex number the edge goes from.
+     * @param col the vertex number the edge goes to.
+     * @param edge the Edge to store, null or a 0 weight Edge to remove the edge.
+     */
+    private void setCell(int row, int col, Edge edge) {
+
+        modified();
+
+        if (edge != null && edge.getWeight() == 0) {
+
+            edge = null;
+        }
+
+        int r = row >>> TILE_SHIFT;
+        int c = col >>> TILE_SHIFT;
+        Edge[] tile = tiles[r][c];
+
+        if (tile == null) {
+
+            if (edge == null) {
+
+                return;
+            }
+
+            tile = new Edge[TILE_SIZE * TILE_SIZE];
+            tiles[r][c] = tile;
+        }
+
+        int offset = ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+
+        if (tile[offset] == null && edge != null) {
+
+            tileCounts[r][c]++;
+            cellChanged(row, col, true);
+        }
+        else if (tile[offset] != null && edge == null) {
+
+            cellChanged(row, col, false);
+
+            if (--tileCounts[r][c] == 0) {
+
+                tiles[r][c] = null;
+                return;
+            }
+        }
+
+        tile[offset] = edge;
+    }
+
+    /**
+     * Puts an Edge in the cell of an edge, and in the mirrored cell if the graph is undirected.
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     * @param edge the Edge to store, null to remove the edge.
+     */
+    private void setEdge(int index1, int index2, Edge edge) {
+
+        setCell(index1, index2, edge);
+
+        if (!isDirected()) {
+            setCell(index2, index1, edge);
+        }
+    }
+
+    /**
+     * Tells the number of tiles that currently hold at least one edge.
+     *
+     * @return the number of allocated tiles.
+     */
+    public int allocatedTiles() {
+
+        int count = 0;
+
+        for (int r = 0; r < tiles.length; r++) {
+
+            for (int c = 0; c < tiles.length; c++) {
+
+                if (tiles[r][c] != null) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public AdjacencyMatrixInterface<T, E> makeCopy() {
+
+        TiledAdjacencyMatrix<T, E> copy = new TiledAdjacencyMatrix<T, E>(isDirected(), capacity());
+
+        copy.copyVertices(this);
+
+        for (int r = 0; r < tiles.length; r++) {
+
+            for (int c = 0; c < tiles.length; c++) {
+
+                if (tiles[r][c] != null) {
+
+                    copy.tiles[r][c] = tiles[r][c].clone();
+                    copy.tileCounts[r][c] = tileCounts[r][c];
+                }
+            }
+        }
+
+        return copy;
+    }
+
+    @Override
+    protected void resizeEdges(int oldSize, int newSize) {
+
+        int numTiles = tilesFor(newSize);
+
+        if (numTiles == tiles.length) {
+
+            return;
+        }
+
+        Edge[][][] tilesTemp = new Edge[numTiles][numTiles][];
+        int[][] countsTemp = new int[numTiles][numTiles];
+
+        for (int r = 0; r < tiles.length; r++) {
+
+            System.arraycopy(tiles[r], 0, tilesTemp[r], 0, tiles.length);
+            System.arraycopy(tileCounts[r], 0, countsTemp[r], 0, tiles.length);
+        }
+
+        tiles = tilesTemp;
+        tileCounts = countsTemp;
+    }
+
+    @Override
+    protected void clearEdges(int index) {
+
+        int size = capacity();
+
+        int t = index >>> TILE_SHIFT;
+
+        //only visit the tiles of the row and column that exist
+        for (int c = 0; c < tiles.length; c++) {
+
+            if (tiles[t][c] == null && tiles[c][t] == null) {
+                continue;
+            }
+
+            //both cells of an undirected edge are gone before the next edge's removal is told
+            int end = Math.min(size, (c + 1) << TILE_SHIFT);
+            for (int i = c << TILE_SHIFT; i < end; i++) {
+
+                setCell(index, i, null);
+                setCell(i, index, null);
+            }
+        }
+    }
+
+    @Override
+    protected void relabelEdges(int[] mapping, int used) {
+
+        Edge[][][] oldTiles = tiles;
+        int size = capacity();
+
+        tiles = new Edge[oldTiles.length][oldTiles.length][];
+        tileCounts = new int[oldTiles.length][oldTiles.length];
+
+        for (int r = 0; r < oldTiles.length; r++) {
+
+            for (int c = 0; c < oldTiles.length; c++) {
+
+                Edge[] tile = oldTiles[r][c];
+                if (tile == null) {
+                    continue;
+                }
+
+                for (int offset = 0; offset < tile.length; offset++) {
+
+                    if (tile[offset] == null) {
+                        continue;
+                    }
+
+                    int row = (r << TILE_SHIFT) | (offset >>> TILE_SHIFT);
+                    int col = (c << TILE_SHIFT) | (offset & TILE_MASK);
+
+                    //vertex numbers past used keep their numbers
+                    int newRow = row < used ? mapping[row] : row;
+                    int newCol = col < used ? mapping[col] : col;
+
+                    if (newRow == -1 || newCol == -1 || newRow >= size || newCol >= size) {
+                        continue;
+                    }
+
+                    //written straight into the tiles, moving an edge isn't adding one
+                    int newR = newRow >>> TILE_SHIFT;
+                    int newC = newCol >>> TILE_SHIFT;
+
+                    if (tiles[newR][newC] == null) {
+                        tiles[newR][newC] = new Edge[TILE_SIZE * TILE_SIZE];
+                    }
+
+                    tiles[newR][newC][((newRow & TILE_MASK) << TILE_SHIFT) | (newCol & TILE_MASK)] = tile[offset];
+                    tileCounts[newR][newC]++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasEdge(int fromVertex, int toVertex) {
+
+        return inBounds(fromVertex, toVertex) && cell(fromVertex, toVertex) != null;
+    }
+
+    /**
+     * Adds an edge between the two passed in vertex numbers of weight 1.
+     * If it's directed, adds the edge from index1 to index 2.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if indices are valid, and if the edge does not already exist.
+     */
+    @Override
+    public boolean addEdge(int index1, int index2) {
+
+        return addEdge(index1, index2, 1);
+    }
+
+    /**
+     * Adds an edge between element1 and element2 of weight weight.
+     * If it's directed, adds the edge from element1 to element2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param element1 the first element (or starting element) to put the edge at.
+     * @param element2 the second element, that the edge goes to.
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't ALREADY exist, false otherwise.
+     */
+    public boolean addEdge(T element1, T element2, int weight) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return addEdge(index1, index2, weight);
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds an edge between index1 and index2 of weight weight.
+     * If it's directed, adds the edge from index1 to index 2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param index1 the number of the first vertex (the from vertex)
+     * @param index2 the number of the second vertex (the to vertex)
+     * @return true if an edge doesn't exist, false otherwise.
+     */
+    public boolean addEdge(int index1, int index2, int weight) {
+
+        if (inBounds(index1, index2) && cell(index1, index2) == null) {
+
+            setEdge(index1, index2, new IntEdge(weight));
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean addEdge(T element1, T element2, E edge) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1 && edge != null) {
+
+            return addEdge(index1, index2, edge);
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean addEdge(int index1, int index2, E edge) {
+
+        if (inBounds(index1, index2) && edge != null) {
+
+            setEdge(index1, index2, edge);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int getEdge(int fromVertex, int toVertex) {
+
+        if (inBounds(fromVertex, toVertex)) {
+
+            Edge edge = cell(fromVertex, toVertex);
+
+            return edge == null ? 0 : edge.getWeight();
+        }
+
+        return -1;
+    }
+
+    @Override
+    public List<T> getEdgesTo(T element) {
+
+        int index = findVertex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        if (index != -1) {
+
+            Edge[][] tileRow = tiles[index >>> TILE_SHIFT];
+            int rowOffset = (index & TILE_MASK) << TILE_SHIFT;
+
+            int scanned = 0;
+
+            //skip over the tiles of the row that hold no edges
+            for (int c = 0; c < tileRow.length; c++) {
+
+                Edge[] tile = tileRow[c];
+                if (tile == null) {
+                    continue;
+                }
+
+                scanned += TILE_SIZE;
+
+                for (int i = 0; i < TILE_SIZE; i++) {
+
+                    if (tile[rowOffset + i] != null) {
+
+                        edges.add(getVertex((c << TILE_SHIFT) + i));
+                    }
+                }
+            }
+
+            Instrumentation.cellsScanned(scanned);
+        }
+
+        return edges;
+    }
+
+    @Override
+    public List<T> getEdgesFrom(T element) {
+
+        int index = findVertex(element);
+
+        List<T> edges = new LinkedList<T>();
+
+        if (index != -1) {
+
+            int tileCol = index >>> TILE_SHIFT;
+            int colOffset = index & TILE_MASK;
+
+            int scanned = 0;
+
+            //skip over the tiles of the column that hold no edges
+            for (int r = 0; r < tiles.length; r++) {
+
+                Edge[] tile = tiles[r][tileCol];
+                if (tile == null) {
+                    continue;
+                }
+
+                scanned += TILE_SIZE;
+
+                for (int i = 0; i < TILE_SIZE; i++) {
+
+                    if (tile[(i << TILE_SHIFT) + colOffset] != null) {
+
+                        edges.add(getVertex((r << TILE_SHIFT) + i));
+                    }
+                }
+            }
+
+            Instrumentation.cellsScanned(scanned);
+        }
+
+        return edges;
+    }
+
+    @Override
+    public boolean removeEdge(int index1, int index2) {
+
+        if (hasEdge(index1, index2)) {
+
+            setEdge(index1, index2, null);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int popEdge(T element1, T element2) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return popEdge(index1, index2);
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int popEdge(int index1, int index2) {
+
+        if (inBounds(index1, index2)) {
+
+            int weight = getEdge(index1, index2);
+
+            setEdge(index1, index2, null);
+
+            return weight;
+        }
+
+        return -1;
+    }
+
+    public String printEdges() {
+
+        StringBuilder build = new StringBuilder();
+        int size = usedSlots();
+
+        build.append("-");
+        for (int i = 0; i < size; i++) {
+
+            build.append("|").append(i);
+        }
+        build.append("|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append(i);
+
+            for (int j = 0; j < size; j++) {
+
+                build.append("|").append(getEdge(i, j));
+            }
+            build.append("|").append("\n");
+        }
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        return build.toString();
+    }
+}
@@ -0,0 +1,398 @@
+package ds.TheAdjacencyMatrix;
+
+/**
+ * An Adjacency Matrix style graph for undirected graphs only, which stores the edge weights
+ * of the upper triangle (diagonal included) packed into a single int array.
+ * Edges (i, j) and (j, i) map to the same cell, so each edge is stored and written once,
+ * which is about half the memory of an undirected AdjacencyMatrix and no Edge object per cell.
+ *
+ * The triangle is packed column by column, cell (i, j) with i <= j is at j * (j + 1) / 2 + i.
+ * Growing the matrix only appends columns, so existing cells never move.
+ *
+ * Edges are kept as their int weights, a weight of 0 indicates no edge.
+ * Edge objects passed in are not kept, only their weight is.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class TriangularAdjacencyMatrix<T, E extends Edge> extends AbstractAdjacencyMatrix<T>
+        implements AdjacencyMatrixInterface<T, E> {
+
+    //~Constants----------------------------------------------
+    /**
+     * The most vertices the matrix can hold, the packed triangle of 65536 vertices
+     * would have more cells than an int array can.
+     */
+    public static final int MAX_SIZE = 65535;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * The packed upper triangle of edge weights.
+     */
+    private int[] weights;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of 10.
+     * Which means there are 10 vertices in the graph.
+     */
+    public TriangularAdjacencyMatrix() {
+
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph, until it grows,
+     * up to MAX_SIZE vertices.
+     *
+     * @param size the size of the adjacency matrix, at most MAX_SIZE.
+     * @throws IllegalArgumentException if size is above MAX_SIZE.
+     */
+    public TriangularAdjacencyMatrix(int size) {
+
+        super(false, checkSize(size));
+
+        weights = new int[cells(size)];
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Checks that the packed triangle of size vertices fits in an int array.
+     *
+     * @param size the number of vertices.
+     * @return size.
+     * @throws IllegalArgumentException if size is above MAX_SIZE.
+     */
+    private static int checkSize(int size) {
+
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("size " + size + " is above the most a triangle holds, " + MAX_SIZE);
+        }
+
+        return size;
+    }
+
+    /**
+     * Number of cells in the packed triangle of a matrix holding size vertices.
+     *
+     * @param size the number of vertices, at most MAX_SIZE.
+     * @return the number of cells.
+     */
+    private static int cells(int size) {
+
+        return (int) ((long) checkSize(size) * (size + 1) / 2);
+    }
+
+    /**
+     * Maps the vertex numbers of an edge to its cell in the packed triangle.
+     * Both (i, j) and (j, i) map to the same cell. Assumes valid vertex numbers.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return the index of the cell in weights.
+     */
+    private static int cell(int index1, int index2) {
+
+        if (index1 > index2) {
+
+            int temp = index1;
+            index1 = index2;
+            index2 = temp;
+        }
+
+        return (int) ((long) index2 * (index2 + 1) / 2) + index1;
+    }
+
+    /**
+     * Tells whether both vertex numbers are inside the matrix.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if both are valid vertex numbers, false otherwise.
+     */
+    private boolean inBounds(int index1, int index2) {
+
+        int size = capacity();
+
+        return index1 > -1 && index2 > -1 && index1 < size && index2 < size;
+    }
+
+    /**
+     * Stores the weight of the edge between index1 and index2, keeping the degrees
+     * up to date. Every write to a cell goes through here, except for relabelEdges.
+     * Assumes valid vertex numbers.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @param weight the weight to store, 0 for no edge.
+     */
+    private void store(int index1, int index2, int weight) {
+
+        modified();
+
+        int cell = cell(index1, index2);
+
+        if ((weights[cell] != 0) != (weight != 0)) {
+
+            //the one cell stands for both (index1, index2) and (index2, index1)
+            cellChanged(index1, index2, weight != 0);
+            if (index1 != index2) {
+                cellChanged(index2, index1, weight != 0);
+            }
+        }
+
+        weights[cell] = weight;
+    }
+
+    @Override
+    public AdjacencyMatrixInterface<T, E> makeCopy() {
+
+        TriangularAdjacencyMatrix<T, E> copy = new TriangularAdjacencyMatrix<T, E>(capacity());
+
+        copy.copyVertices(this);
+        System.arraycopy(weights, 0, copy.weights, 0, weights.length);
+
+        return copy;
+    }
+
+    @Override
+    protected int maxCapacity() {
+
+        return MAX_SIZE;
+    }
+
+    @Override
+    protected void resizeEdges(int oldSize, int newSize) {
+
+        int[] temp = new int[cells(newSize)];
+        System.arraycopy(weights, 0, temp, 0, weights.length);
+
+        weights = temp;
+    }
+
+    @Override
+    protected void clearEdges(int index) {
+
+        int size = capacity();
+
+        for (int i = 0; i < size; i++) {
+
+            store(index, i, 0);
+        }
+    }
+
+    @Override
+    protected void relabelEdges(int[] mapping, int used) {
+
+        int[] temp = new int[weights.length];
+
+        for (int j = 0; j < capacity(); j++) {
+
+            //vertex numbers past used keep their numbers
+            int newJ = j < used ? mapping[j] : j;
+
+            for (int i = 0; i <= j && newJ != -1; i++) {
+
+                int newI = i < used ? mapping[i] : i;
+
+                if (newI != -1) {
+                    temp[cell(newI, newJ)] = weights[cell(i, j)];
+                }
+            }
+        }
+
+        weights = temp;
+    }
+
+    @Override
+    public boolean hasEdge(int fromVertex, int toVertex) {
+
+        return inBounds(fromVertex, toVertex) && weights[cell(fromVertex, toVertex)] != 0;
+    }
+
+    /**
+     * Adds an edge between the two passed in vertex numbers of weight 1.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if indices are valid, and if the edge does not already exist.
+     */
+    @Override
+    public boolean addEdge(int index1, int index2) {
+
+        return addEdge(index1, index2, 1);
+    }
+
+    /**
+     * Adds an edge between element1 and element2 of weight weight.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param element1 the first element to put the edge at.
+     * @param element2 the second element, that the edge goes to.
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't ALREADY exist, false otherwise.
+     */
+    public boolean addEdge(T element1, T element2, int weight) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return addEdge(index1, index2, weight);
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds an edge between index1 and index2 of weight weight.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param index1 the number of the first vertex.
+     * @param index2 the number of the second vertex.
+     * @return true if an edge doesn't exist, false otherwise.
+     */
+    public boolean addEdge(int index1, int index2, int weight) {
+
+        if (inBounds(index1, index2) && weights[cell(index1, index2)] == 0) {
+
+            store(index1, index2, weight);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean addEdge(T element1, T element2, E edge) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1 && edge != null) {
+
+            return addEdge(index1, index2, edge);
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the weight of the edge at index1, index2 to the weight of edge.
+     * The Edge object itself is not kept.
+     *
+     * @param index1 the index of the first vertex.
+     * @param index2 the index of the second vertex.
+     * @param edge the Edge whose weight is stored.
+     * @return true if successful, false if index1 or index2 is out of bounds
+     *          or if edge == null
+     */
+    @Override
+    public boolean addEdge(int index1, int index2, E edge) {
+
+        if (inBounds(index1, index2) && edge != null) {
+
+            store(index1, index2, edge.getWeight());
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int getEdge(int fromVertex, int toVertex) {
+
+        if (inBounds(fromVertex, toVertex)) {
+
+            return weights[cell(fromVertex, toVertex)];
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean removeEdge(int index1, int index2) {
+
+        if (hasEdge(index1, index2)) {
+
+            store(index1, index2, 0);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int popEdge(T element1, T element2) {
+
+        int index1 = findVertex(element1);
+        int index2 = findVertex(element2);
+
+        if (index1 != -1 && index2 != -1) {
+
+            return popEdge(index1, index2);
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int popEdge(int index1, int index2) {
+
+        if (inBounds(index1, index2)) {
+
+            int weight = weights[cell(index1, index2)];
+
+            store(index1, index2, 0);
+
+            return weight;
+        }
+
+        return -1;
+    }
+
+    public String printEdges() {
+
+        StringBuilder build = new StringBuilder();
+        int size = usedSlots();
+
+        build.append("-");
+        for (int i = 0; i < size; i++) {
+
+            build.append("|").append(i);
+        }
+        build.append("|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append(i);
+
+            for (int j = 0; j < size; j++) {
+
+                build.append("|").append(weights[cell(i, j)]);
+            }
+            build.append("|").append("\n");
+        }
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        return build.toString();
+    }
+}
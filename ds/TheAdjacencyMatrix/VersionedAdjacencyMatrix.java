@@ -0,0 +1,1085 @@
+package ds.TheAdjacencyMatrix;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import ds.Graph.Graph;
+import ds.GraphMetrics.Instrumentation;
+
+/**
+ * An Adjacency Matrix style graph that hands out read only snapshots of itself in O(1) time,
+ * so long running readers (topoSort, primMinSpanForest...) see one consistent version of the
+ * graph while writers keep changing it.
+ *
+ * A snapshot shares the rows, elements and degrees of the matrix as they are when it's taken.
+ * The first write to a row after a snapshot copies that row (and once, the array of rows),
+ * so a snapshot costs O(V) per row written, never a copy of the whole matrix.
+ * Rows that nobody wrote stay shared between the matrix and every snapshot.
+ * Once every snapshot has been released, the writer goes back to writing its rows in place,
+ * and the old row versions are left to the garbage collector.
+ *
+ * The methods of the matrix are synchronized, so any number of threads can write to it.
+ * Snapshots never change and can be read by any number of threads without locking.
+ *
+ * Edges are kept as their int weights, a weight of 0 indicates no edge.
+ * Edge objects passed in are not kept, only their weight is.
+ *
+ * If the graph is Directed, the rows are the FROM vertices, and the columns are the TO vertices.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ * @param <T>
+ * @param <E extends Edge>
+ */
+public class VersionedAdjacencyMatrix<T, E extends Edge> implements AdjacencyMatrixInterface<T, E> {
+
+    //~Constants----------------------------------------------
+    private static final int DEFAULT_SIZE = 10;
+
+    //~Data Fields--------------------------------------------
+    /**
+     * The edge weights, rows[i][j] is the weight of the edge from i to j, 0 for none.
+     */
+    private int[][] rows;
+
+    /**
+     * Array of elements contained in the graph, at their vertex numbers.
+     */
+    private T[] elements;
+
+    /**
+     * The number of edges from each vertex number.
+     */
+    private int[] outDegree;
+
+    /**
+     * The number of edges to each vertex number.
+     */
+    private int[] inDegree;
+
+    /**
+     * Stack of vertex numbers below slotsUsed that were freed by removing their vertex.
+     * Never shared with a snapshot.
+     */
+    private int[] freeSlots;
+
+    private int numFree;
+    private int numVertices;
+    private int slotsUsed;
+    private int numEdges;
+
+    /**
+     * Indicates whether the graph is directed or not. True if directed, false otherwise.
+     */
+    private final boolean directed;
+
+    /**
+     * Counts the changes to the graph, a snapshot is pinned at the version it was taken at.
+     */
+    private long version;
+
+    /**
+     * The number of snapshots taken and not released yet.
+     */
+    private final AtomicInteger openSnapshots;
+
+    /**
+     * Goes up every time a snapshot is taken. Row i was copied (and so belongs to the matrix
+     * alone) since the last snapshot if rowEpoch[i] == epoch.
+     */
+    private int epoch;
+
+    private int[] rowEpoch;
+
+    /**
+     * True while the array of rows, the elements, or the degrees are shared with a snapshot.
+     */
+    private boolean rowsShared;
+    private boolean elementsShared;
+    private boolean degreesShared;
+
+    //~Constructors--------------------------------------------
+    /**
+     * Initializes the adjacency matrix to a size of 10, undirected.
+     */
+    public VersionedAdjacencyMatrix() {
+
+        this(false, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of 10.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     */
+    public VersionedAdjacencyMatrix(boolean directed) {
+
+        this(directed, DEFAULT_SIZE);
+    }
+
+    /**
+     * Initializes the adjacency matrix to a size of size.
+     * There will be a maximum size of *size* vertices in the graph, until it grows.
+     *
+     * @param directed indicates whether the graph should be directed or not.
+     * @param size the size of the adjacency matrix.
+     */
+    @SuppressWarnings("unchecked")
+    public VersionedAdjacencyMatrix(boolean directed, int size) {
+
+        this.directed = directed;
+
+        rows = new int[size][size];
+        elements = (T[]) new Object[size];
+        outDegree = new int[size];
+        inDegree = new int[size];
+        freeSlots = new int[size];
+        rowEpoch = new int[size];
+        openSnapshots = new AtomicInteger();
+    }
+
+    //~Methods-------------------------------------------------
+    /**
+     * Takes a snapshot of the graph as it is now, in O(1) time.
+     * The snapshot should be released when the reader is done with it, after which
+     * it must not be read any more. Until then, every write to a row it shares copies the row.
+     *
+     * @return a read only Graph pinned at the current version.
+     */
+    public synchronized Snapshot snapshot() {
+
+        Snapshot snapshot = new Snapshot();
+
+        openSnapshots.incrementAndGet();
+
+        epoch++;
+        rowsShared = true;
+        elementsShared = true;
+        degreesShared = true;
+
+        return snapshot;
+    }
+
+    /**
+     * Tells the current version of the graph, which goes up with every change.
+     *
+     * @return the version.
+     */
+    @Override
+    public synchronized long version() {
+
+        return version;
+    }
+
+    /**
+     * Tells the number of snapshots that were taken and haven't been released.
+     *
+     * @return the number of open snapshots.
+     */
+    public int openSnapshots() {
+
+        return openSnapshots.get();
+    }
+
+    /**
+     * Tells whether anything the matrix holds may still be shared with a snapshot.
+     *
+     * @return true if a snapshot is open.
+     */
+    private boolean shared() {
+
+        return openSnapshots.get() > 0;
+    }
+
+    /**
+     * Gets row i for writing, copying it first if a snapshot may share it.
+     *
+     * @param i the vertex number of the row.
+     * @return the row, which belongs to the matrix alone.
+     */
+    private int[] writableRow(int i) {
+
+        if (rowsShared) {
+
+            if (shared()) {
+                rows = rows.clone();
+            }
+            rowsShared = false;
+        }
+
+        if (rowEpoch[i] != epoch) {
+
+            if (shared()) {
+                rows[i] = rows[i].clone();
+            }
+            rowEpoch[i] = epoch;
+        }
+
+        return rows[i];
+    }
+
+    /**
+     * Gets the elements for writing, copying them first if a snapshot may share them.
+     *
+     * @return the elements, which belong to the matrix alone.
+     */
+    private T[] writableElements() {
+
+        if (elementsShared) {
+
+            if (shared()) {
+                elements = elements.clone();
+            }
+            elementsShared = false;
+        }
+
+        return elements;
+    }
+
+    /**
+     * Stores a weight in a cell, keeping the degrees up to date.
+     * Every write to a cell goes through here, except for compact. Assumes valid vertex numbers.
+     *
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     * @param weight the weight to store, 0 for no edge.
+     */
+    private void setCell(int row, int col, int weight) {
+
+        int old = rows[row][col];
+
+        if (old == weight) {
+            return;
+        }
+
+        writableRow(row)[col] = weight;
+
+        if ((old != 0) != (weight != 0)) {
+
+            if (degreesShared) {
+
+                if (shared()) {
+
+                    outDegree = outDegree.clone();
+                    inDegree = inDegree.clone();
+                }
+                degreesShared = false;
+            }
+
+            int delta = weight != 0 ? 1 : -1;
+
+            outDegree[row] += delta;
+            inDegree[col] += delta;
+
+            //an undirected edge is in two cells, only count one of them
+            if (directed || row <= col) {
+                numEdges += delta;
+            }
+        }
+    }
+
+    /**
+     * Stores the weight of the edge from index1 to index2, and back if undirected.
+     * Assumes valid vertex numbers.
+     *
+     * @param index1 the vertex number the edge goes from.
+     * @param index2 the vertex number the edge goes to.
+     * @param weight the weight to store, 0 for no edge.
+     */
+    private void store(int index1, int index2, int weight) {
+
+        setCell(index1, index2, weight);
+
+        if (!directed) {
+            setCell(index2, index1, weight);
+        }
+
+        version++;
+    }
+
+    /**
+     * Tells whether both vertex numbers are inside the matrix.
+     *
+     * @param index1 the first vertex number.
+     * @param index2 the second vertex number.
+     * @return true if both are valid vertex numbers, false otherwise.
+     */
+    private boolean inBounds(int index1, int index2) {
+
+        return index1 > -1 && index2 > -1 && index1 < rows.length && index2 < rows.length;
+    }
+
+    /**
+     * Doubles the number of vertices the matrix can hold.
+     * Everything is copied, so afterwards nothing is shared with a snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+
+        int oldSize = rows.length;
+        int size = oldSize * 2;
+
+        int[][] temp = new int[size][];
+        for (int i = 0; i < size; i++) {
+
+            temp[i] = i < oldSize ? Arrays.copyOf(rows[i], size) : new int[size];
+        }
+        rows = temp;
+
+        T[] elementsTemp = (T[]) new Object[size];
+        System.arraycopy(elements, 0, elementsTemp, 0, oldSize);
+        elements = elementsTemp;
+
+        outDegree = Arrays.copyOf(outDegree, size);
+        inDegree = Arrays.copyOf(inDegree, size);
+        freeSlots = Arrays.copyOf(freeSlots, size);
+
+        rowEpoch = new int[size];
+        Arrays.fill(rowEpoch, epoch);
+        rowsShared = false;
+        elementsShared = false;
+        degreesShared = false;
+    }
+
+    @Override
+    public synchronized int addVertex(T element) {
+
+        int index;
+
+        //reuse the most recently freed slot, otherwise take the next unused one
+        if (numFree > 0) {
+
+            index = freeSlots[--numFree];
+        }
+        else {
+
+            if (slotsUsed == rows.length) {
+
+                resize();
+            }
+
+            index = slotsUsed++;
+        }
+
+        writableElements()[index] = element;
+        numVertices++;
+        version++;
+
+        return index;
+    }
+
+    @Override
+    public synchronized boolean removeVertex(T element) {
+
+        return popVertex(findVertex(element)) != null;
+    }
+
+    @Override
+    public synchronized boolean removeVertex(int index) {
+
+        return popVertex(index) != null;
+    }
+
+    @Override
+    public synchronized T popVertex(T element) {
+
+        return popVertex(findVertex(element));
+    }
+
+    @Override
+    public synchronized T popVertex(int index) {
+
+        if (index > -1 && index < rows.length && elements[index] != null) {
+
+            T element = elements[index];
+
+            writableElements()[index] = null;
+
+            //set rows and columns of index to 0
+            for (int i = 0; i < rows.length; i++) {
+
+                setCell(index, i, 0);
+                setCell(i, index, 0);
+            }
+
+            numVertices--;
+            freeSlots[numFree++] = index;
+            version++;
+
+            return element;
+        }
+
+        return null;
+    }
+
+    @Override
+    public synchronized int findVertex(T element) {
+
+        return find(elements, slotsUsed, element);
+    }
+
+    /**
+     * Takes an element and finds it's index in an array of elements.
+     *
+     * @param elements the elements of the matrix or of a snapshot.
+     * @param slotsUsed the number of vertex numbers handed out.
+     * @param element the element to find in the array.
+     * @return the index if the element is present, -1 otherwise.
+     */
+    private static <T> int find(T[] elements, int slotsUsed, T element) {
+
+        if (element != null) {
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                if (element.equals(elements[i])) {
+
+                    Instrumentation.vertexLookup(i + 1);
+
+                    return i;
+                }
+            }
+
+            Instrumentation.vertexLookup(slotsUsed);
+        }
+
+        return -1;
+    }
+
+    @Override
+    public synchronized T getVertex(int number) {
+
+        return number > -1 && number < elements.length ? elements[number] : null;
+    }
+
+    @Override
+    public synchronized List<T> getVertices() {
+
+        return vertices(elements, slotsUsed);
+    }
+
+    /**
+     * Lists the elements of the matrix or of a snapshot.
+     *
+     * @param elements the elements.
+     * @param slotsUsed the number of vertex numbers handed out.
+     * @return the elements, in vertex number order.
+     */
+    private static <T> List<T> vertices(T[] elements, int slotsUsed) {
+
+        List<T> list = new LinkedList<T>();
+
+        for (int i = 0; i < slotsUsed; i++) {
+
+            if (elements[i] != null) {
+                list.add(elements[i]);
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public synchronized int size() {
+
+        return numVertices;
+    }
+
+    @Override
+    public synchronized int capacity() {
+
+        return rows.length;
+    }
+
+    @Override
+    public synchronized int usedSlots() {
+
+        return slotsUsed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized int[] compact() {
+
+        int size = rows.length;
+        int[] mapping = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+
+            mapping[i] = (i < slotsUsed && elements[i] != null) ? count++ : -1;
+        }
+
+        //everything is built fresh, so nothing is shared with a snapshot afterwards
+        int[][] temp = new int[size][size];
+        T[] elementsTemp = (T[]) new Object[size];
+        int[] outTemp = new int[size];
+        int[] inTemp = new int[size];
+        int edges = 0;
+
+        for (int i = 0; i < slotsUsed; i++) {
+
+            if (mapping[i] == -1) {
+                continue;
+            }
+
+            elementsTemp[mapping[i]] = elements[i];
+
+            for (int j = 0; j < slotsUsed; j++) {
+
+                if (mapping[j] != -1 && rows[i][j] != 0) {
+
+                    temp[mapping[i]][mapping[j]] = rows[i][j];
+                    outTemp[mapping[i]]++;
+                    inTemp[mapping[j]]++;
+
+                    if (directed || i <= j) {
+                        edges++;
+                    }
+                }
+            }
+        }
+
+        rows = temp;
+        elements = elementsTemp;
+        outDegree = outTemp;
+        inDegree = inTemp;
+        numEdges = edges;
+        slotsUsed = count;
+        numFree = 0;
+        version++;
+
+        Arrays.fill(rowEpoch, epoch);
+        rowsShared = false;
+        elementsShared = false;
+        degreesShared = false;
+
+        return mapping;
+    }
+
+    @Override
+    public synchronized int outDegree(int index) {
+
+        return index > -1 && index < outDegree.length ? outDegree[index] : -1;
+    }
+
+    @Override
+    public synchronized int inDegree(int index) {
+
+        return index > -1 && index < inDegree.length ? inDegree[index] : -1;
+    }
+
+    @Override
+    public synchronized int outDegree(T element) {
+
+        return outDegree(findVertex(element));
+    }
+
+    @Override
+    public synchronized int inDegree(T element) {
+
+        return inDegree(findVertex(element));
+    }
+
+    @Override
+    public synchronized int numEdges() {
+
+        return numEdges;
+    }
+
+    @Override
+    public synchronized boolean addEdge(T element1, T element2) {
+
+        return addEdge(findVertex(element1), findVertex(element2), 1);
+    }
+
+    @Override
+    public synchronized boolean addEdge(int index1, int index2) {
+
+        return addEdge(index1, index2, 1);
+    }
+
+    @Override
+    public synchronized boolean addEdge(T element1, T element2, int weight) {
+
+        return addEdge(findVertex(element1), findVertex(element2), weight);
+    }
+
+    /**
+     * Adds an edge between index1 and index2 of weight weight.
+     * If it's directed, adds the edge from index1 to index 2.
+     * Returns true if the edge doesn't exist, (the new edge was created) and false otherwise.
+     *
+     * @param index1 the number of the first vertex (the from vertex)
+     * @param index2 the number of the second vertex (the to vertex)
+     * @param weight the weight of the edge.
+     * @return true if an edge doesn't exist, false otherwise.
+     */
+    @Override
+    public synchronized boolean addEdge(int index1, int index2, int weight) {
+
+        if (inBounds(index1, index2) && rows[index1][index2] == 0) {
+
+            store(index1, index2, weight);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public synchronized boolean addEdge(T element1, T element2, E edge) {
+
+        return addEdge(findVertex(element1), findVertex(element2), edge);
+    }
+
+    /**
+     * Sets the weight of the edge at index1, index2 to the weight of edge.
+     * The Edge object itself is not kept.
+     *
+     * @param index1 the index of the first vertex.
+     * @param index2 the index of the second vertex.
+     * @param edge the Edge whose weight is stored.
+     * @return true if successful, false if index1 or index2 is out of bounds
+     *          or if edge == null
+     */
+    @Override
+    public synchronized boolean addEdge(int index1, int index2, E edge) {
+
+        if (inBounds(index1, index2) && edge != null) {
+
+            store(index1, index2, edge.getWeight());
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public synchronized boolean hasEdge(int fromVertex, int toVertex) {
+
+        return inBounds(fromVertex, toVertex) && rows[fromVertex][toVertex] != 0;
+    }
+
+    @Override
+    public synchronized int getEdge(int fromVertex, int toVertex) {
+
+        return inBounds(fromVertex, toVertex) ? rows[fromVertex][toVertex] : -1;
+    }
+
+    @Override
+    public synchronized List<T> getEdgesTo(T element) {
+
+        return neighbors(rows, elements, slotsUsed, findVertex(element), true);
+    }
+
+    @Override
+    public synchronized List<T> getEdgesFrom(T element) {
+
+        return neighbors(rows, elements, slotsUsed, findVertex(element), false);
+    }
+
+    /**
+     * Collects the vertices at the other end of the edges to or from a vertex,
+     * of the matrix or of a snapshot.
+     *
+     * @param rows the edge weights.
+     * @param elements the elements.
+     * @param slotsUsed the number of vertex numbers handed out.
+     * @param index the vertex number whose edges are collected, -1 for none.
+     * @param outgoing true for the edges from the vertex, false for the edges to it.
+     * @return the vertices, empty if index is -1.
+     */
+    private static <T> List<T> neighbors(int[][] rows, T[] elements, int slotsUsed,
+            int index, boolean outgoing) {
+
+        List<T> edges = new LinkedList<T>();
+
+        if (index != -1) {
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                if ((outgoing ? rows[index][i] : rows[i][index]) != 0) {
+
+                    edges.add(elements[i]);
+                }
+            }
+
+            Instrumentation.cellsScanned(slotsUsed);
+        }
+
+        return edges;
+    }
+
+    @Override
+    public synchronized boolean removeEdge(T element1, T element2) {
+
+        return removeEdge(findVertex(element1), findVertex(element2));
+    }
+
+    @Override
+    public synchronized boolean removeEdge(int index1, int index2) {
+
+        if (hasEdge(index1, index2)) {
+
+            store(index1, index2, 0);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public synchronized int popEdge(T element1, T element2) {
+
+        return popEdge(findVertex(element1), findVertex(element2));
+    }
+
+    @Override
+    public synchronized int popEdge(int index1, int index2) {
+
+        if (inBounds(index1, index2)) {
+
+            int weight = rows[index1][index2];
+
+            if (weight != 0) {
+                store(index1, index2, 0);
+            }
+
+            return weight;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public synchronized VersionedAdjacencyMatrix<T, E> makeCopy() {
+
+        return copyOf(rows, elements, outDegree, inDegree, numVertices, slotsUsed, numEdges);
+    }
+
+    /**
+     * Makes a new matrix holding a copy of the passed state, of the matrix or of a snapshot.
+     * Vertex numbers are kept, and the free vertex numbers below slotsUsed are found again.
+     *
+     * @return the new matrix.
+     */
+    private VersionedAdjacencyMatrix<T, E> copyOf(int[][] rows, T[] elements, int[] outDegree,
+            int[] inDegree, int numVertices, int slotsUsed, int numEdges) {
+
+        VersionedAdjacencyMatrix<T, E> copy = new VersionedAdjacencyMatrix<T, E>(directed, rows.length);
+
+        for (int i = 0; i < rows.length; i++) {
+
+            System.arraycopy(rows[i], 0, copy.rows[i], 0, rows.length);
+        }
+
+        copy.elements = elements.clone();
+        copy.outDegree = outDegree.clone();
+        copy.inDegree = inDegree.clone();
+        copy.numVertices = numVertices;
+        copy.slotsUsed = slotsUsed;
+        copy.numEdges = numEdges;
+
+        //highest first, so the lowest free number is handed out first
+        for (int i = slotsUsed - 1; i > -1; i--) {
+
+            if (elements[i] == null) {
+                copy.freeSlots[copy.numFree++] = i;
+            }
+        }
+
+        return copy;
+    }
+
+    @Override
+    public boolean isDirected() {
+
+        return directed;
+    }
+
+    @Override
+    public synchronized String printEdges() {
+
+        return print(rows, slotsUsed);
+    }
+
+    /**
+     * Prints the weights of the matrix or of a snapshot.
+     *
+     * @param rows the edge weights.
+     * @param size the number of vertex numbers to print.
+     * @return the weights as a table.
+     */
+    private static String print(int[][] rows, int size) {
+
+        StringBuilder build = new StringBuilder();
+
+        build.append("-");
+        for (int i = 0; i < size; i++) {
+
+            build.append("|").append(i);
+        }
+        build.append("|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        for (int i = 0; i < size; i++) {
+
+            build.append(i);
+
+            for (int j = 0; j < size; j++) {
+
+                build.append("|").append(rows[i][j]);
+            }
+            build.append("|").append("\n");
+        }
+
+        for (int i = 0; i < size; i++) {
+
+            build.append("-|");
+        }
+        build.append("-|").append("\n");
+
+        return build.toString();
+    }
+
+    @Override
+    public synchronized String printVertices() {
+
+        StringBuilder build = new StringBuilder();
+
+        for (int i = 0; i < slotsUsed; i++) {
+
+            build.append("|").append(elements[i]);
+        }
+
+        return build.toString();
+    }
+
+    //~Inner Classes-------------------------------------------
+    /**
+     * A read only view of the matrix pinned at one version. Vertex numbers are those of the
+     * matrix at that version, so the WeightedMatrix methods work as they do on the matrix.
+     * Its add and remove methods do nothing and return -1, false or null.
+     *
+     * Release it (or close it, in a try with resources) when done,
+     * it must not be read afterwards.
+     */
+    public class Snapshot implements Graph<T>, WeightedMatrix, AutoCloseable {
+
+        //~Data Fields--------------------------------------------
+        private final int[][] rows;
+        private final T[] elements;
+        private final int[] outDegree;
+        private final int[] inDegree;
+        private final int numVertices;
+        private final int slotsUsed;
+        private final int numEdges;
+        private final long version;
+        private final AtomicBoolean released;
+
+        //~Constructors--------------------------------------------
+        /**
+         * Pins the current state of the matrix. The caller holds the matrix's lock.
+         */
+        private Snapshot() {
+
+            VersionedAdjacencyMatrix<T, E> matrix = VersionedAdjacencyMatrix.this;
+
+            rows = matrix.rows;
+            elements = matrix.elements;
+            outDegree = matrix.outDegree;
+            inDegree = matrix.inDegree;
+            numVertices = matrix.numVertices;
+            slotsUsed = matrix.slotsUsed;
+            numEdges = matrix.numEdges;
+            version = matrix.version;
+            released = new AtomicBoolean(false);
+        }
+
+        //~Methods-------------------------------------------------
+        /**
+         * Tells the version of the matrix this snapshot is pinned at.
+         *
+         * @return the version.
+         */
+        public long version() {
+
+            return version;
+        }
+
+        /**
+         * Unpins the snapshot, so the matrix can write its rows in place again
+         * once no other snapshot is open. Releasing more than once does nothing.
+         */
+        public void release() {
+
+            if (released.compareAndSet(false, true)) {
+                openSnapshots.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void close() {
+
+            release();
+        }
+
+        public int findVertex(T element) {
+
+            return find(elements, slotsUsed, element);
+        }
+
+        public T getVertex(int number) {
+
+            return number > -1 && number < elements.length ? elements[number] : null;
+        }
+
+        public int getEdge(int fromVertex, int toVertex) {
+
+            return fromVertex > -1 && toVertex > -1 && fromVertex < rows.length && toVertex < rows.length
+                    ? rows[fromVertex][toVertex] : -1;
+        }
+
+        @Override
+        public int usedSlots() {
+
+            return slotsUsed;
+        }
+
+        @Override
+        public boolean isDirected() {
+
+            return directed;
+        }
+
+        @Override
+        public boolean hasEdge(int fromVertex, int toVertex) {
+
+            return fromVertex > -1 && toVertex > -1 && fromVertex < rows.length && toVertex < rows.length
+                    && rows[fromVertex][toVertex] != 0;
+        }
+
+        @Override
+        public double weightOf(int fromVertex, int toVertex) {
+
+            return rows[fromVertex][toVertex];
+        }
+
+        @Override
+        public int addVertex(T element) {
+
+            return -1;
+        }
+
+        @Override
+        public boolean removeVertex(T element) {
+
+            return false;
+        }
+
+        @Override
+        public T popVertex(T element) {
+
+            return null;
+        }
+
+        @Override
+        public List<T> getVertices() {
+
+            return vertices(elements, slotsUsed);
+        }
+
+        @Override
+        public boolean addEdge(T element1, T element2) {
+
+            return false;
+        }
+
+        @Override
+        public List<T> getEdgesTo(T element) {
+
+            return neighbors(rows, elements, slotsUsed, findVertex(element), true);
+        }
+
+        @Override
+        public List<T> getEdgesFrom(T element) {
+
+            return neighbors(rows, elements, slotsUsed, findVertex(element), false);
+        }
+
+        @Override
+        public boolean removeEdge(T element1, T element2) {
+
+            return false;
+        }
+
+        @Override
+        public int outDegree(T element) {
+
+            int index = findVertex(element);
+
+            return index != -1 ? outDegree[index] : -1;
+        }
+
+        @Override
+        public int inDegree(T element) {
+
+            int index = findVertex(element);
+
+            return index != -1 ? inDegree[index] : -1;
+        }
+
+        @Override
+        public int numEdges() {
+
+            return numEdges;
+        }
+
+        @Override
+        public int size() {
+
+            return numVertices;
+        }
+
+        @Override
+        public String printVertices() {
+
+            StringBuilder build = new StringBuilder();
+
+            for (int i = 0; i < slotsUsed; i++) {
+
+                build.append("|").append(elements[i]);
+            }
+
+            return build.toString();
+        }
+
+        @Override
+        public String printEdges() {
+
+            return print(rows, slotsUsed);
+        }
+
+        /**
+         * Makes a new, writable matrix holding this version of the graph.
+         *
+         * @return a new VersionedAdjacencyMatrix.
+         */
+        @Override
+        public VersionedAdjacencyMatrix<T, E> makeCopy() {
+
+            return copyOf(rows, elements, outDegree, inDegree, numVertices, slotsUsed, numEdges);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ds.TheAdjacencyMatrix;
+
+/**
+ * A read only, primitive view of the edge weights of an adjacency matrix.
+ * Lets weighted algorithms run over any of the matrix storages without going through
+ * Edge objects or boxing the weights.
+ *
+ * @author Ethan Gaebel (egaebel)
+ *
+ */
+public interface WeightedMatrix {
+
+    //~Methods-------------------------------------------------
+    /**
+     * Tells the number of vertex numbers, from 0 up, that have been handed out to vertices.
+     * No vertex number at or above this holds a vertex.
+     *
+     * @return one past the highest vertex number that has held a vertex.
+     */
+    public int usedSlots();
+    /**
+     * Returns true if the graph is directed, false otherwise.
+     *
+     * @return true if the graph is directed, false otherwise.
+     */
+    public boolean isDirected();
+    /**
+     * Tells whether there is an edge from the vertex numbered fromVertex
+     * to the vertex numbered toVertex.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return true if the edge exists, false if it doesn't or the numbers are invalid.
+     */
+    public boolean hasEdge(int fromVertex, int toVertex);
+    /**
+     * Gets the weight of the edge from the vertex numbered fromVertex
+     * to the vertex numbered toVertex, widened to a double.
+     * Only meaningful if hasEdge(fromVertex, toVertex) is true.
+     *
+     * @param fromVertex the vertex number that the edge goes from.
+     * @param toVertex the vertex number that the edge goes to.
+     * @return the weight of the edge.
+     */
+    public double weightOf(int fromVertex, int toVertex);
+}